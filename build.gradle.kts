@@ -57,6 +57,17 @@ dependencies {
     implementation(platform("software.amazon.awssdk:bom:2.25.62"))
     implementation("software.amazon.awssdk:dynamodb")
     implementation("software.amazon.awssdk:regions")
+    // HTTP clients selectable for DynamoDB through DYNAMODB_HTTP_CLIENT
+    implementation("software.amazon.awssdk:apache-client")
+    implementation("software.amazon.awssdk:url-connection-client")
+    // CRT's native libraries add several MB to the deployment zip, so it is only packaged with -PwithCrt
+    compileOnly("software.amazon.awssdk:aws-crt-client")
+    testImplementation("software.amazon.awssdk:aws-crt-client")
+    testRuntimeOnly("software.amazon.awssdk.crt:aws-crt:0.29.25")
+    if (project.hasProperty("withCrt")) {
+        runtimeOnly("software.amazon.awssdk:aws-crt-client")
+        runtimeOnly("software.amazon.awssdk.crt:aws-crt:0.29.25")
+    }
 
     implementation("com.amazonaws:aws-xray-recorder-sdk-aws-sdk-v2:2.15.0")
 }
@@ -75,7 +86,9 @@ application {
 
 tasks {
     test {
-        useJUnitPlatform()  // Use JUnit 5
+        useJUnitPlatform {  // Use JUnit 5
+            excludeTags("benchmark")
+        }
 
         environment("PUBLIC_USER_METADATA_TABLE_NAME", "test-user-metadata")
         environment("REVIEW_TABLE_NAME", "test-review-table")
@@ -97,6 +110,18 @@ tasks {
         }
     }
 
+    // Local benchmarks, run explicitly with ./gradlew benchmark
+    val benchmark by creating(Test::class) {
+        testClassesDirs = sourceSets["test"].output.classesDirs
+        classpath = sourceSets["test"].runtimeClasspath
+        useJUnitPlatform {
+            includeTags("benchmark")
+        }
+        testLogging {
+            showStandardStreams = true
+        }
+    }
+
     val buildZip by creating(Zip::class) {
         from(compileJava)
         from(processResources)
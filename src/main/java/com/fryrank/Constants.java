@@ -18,6 +18,8 @@ public class Constants {
     public static final String GENERIC_VALIDATOR_ERROR_MESSAGE = "Encountered error while validating API input.";
     public static final String REVIEW_VALIDATOR_ERRORS_OBJECT_NAME = "review";
     public static final String DELETE_REVIEW_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME = "DeleteReviewRequest";
+    public static final String GET_REVIEWS_BY_ID_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME = "GetReviewsByIdRequest";
+    public static final String IMPORT_REVIEWS_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME = "ImportReviewsRequest";
     public static final String USER_METADATA_VALIDATOR_ERRORS_OBJECT_NAME = "userMetadata";
     public static final String REJECTION_REQUIRED_CODE = "field.required";
     public static final String REJECTION_FORMAT_CODE = "field.invalidFormat";
@@ -38,6 +40,14 @@ public class Constants {
     public static final String USERNAME_KEY = "username";
     public static final String IS_REVIEW_KEY = "isReview";
     public static final String IS_REVIEW_VALUE = "true";
+    public static final String BAYESIAN_SCORE_KEY = "bayesianScore";
+    public static final String LEADERBOARD_KEY = "leaderboard";
+    public static final String SCORE_HISTOGRAM_KEY = "scoreHistogram";
+    public static final String DAILY_REVIEW_COUNTS_KEY = "dailyReviewCounts";
+    public static final String DAILY_TOTAL_SCORES_KEY = "dailyTotalScores";
+    public static final String LAST_REVIEW_DAY_KEY = "lastReviewDay";
+    public static final String LAST_REVIEW_ISO_DATE_TIME_KEY = "lastReviewIsoDateTime";
+    public static final String LEADERBOARD_VALUE = "GLOBAL";
 
     // DynamoDB Ranking table identifiers
     public static final String REVIEW_IDENTIFIER_PREFIX = "REVIEW:";
@@ -46,11 +56,107 @@ public class Constants {
     // DynamoDB table names
     public static final String RANKINGS_TABLE_NAME = "fryrank-app-rankings";
     public static final String USER_METADATA_TABLE_NAME = "fryrank-app-user-metadata";
+    public static final String IDEMPOTENCY_TABLE_NAME = "fryrank-app-idempotency";
+
+    // DynamoDB client
+    // DYNAMODB_HTTP_CLIENT selects the HTTP client: APACHE (default, pooled), URL_CONNECTION (fastest cold start) or CRT
+    // (highest throughput). Idle connections are closed before the load balancer's 60 second idle timeout would.
+    public static final String DYNAMODB_HTTP_CLIENT_ENV = "DYNAMODB_HTTP_CLIENT";
+    public static final String DYNAMODB_PREWARM_ENV = "DYNAMODB_PREWARM";
+    public static final int DYNAMODB_MAX_CONNECTIONS = 64;
+    public static final long DYNAMODB_CONNECTION_TIMEOUT_MILLIS = 1000;
+    public static final long DYNAMODB_CONNECTION_ACQUISITION_TIMEOUT_MILLIS = 1000;
+    public static final long DYNAMODB_SOCKET_TIMEOUT_MILLIS = 3000;
+    public static final long DYNAMODB_CONNECTION_MAX_IDLE_MILLIS = 50000;
+    public static final long DYNAMODB_TCP_KEEPALIVE_INTERVAL_MILLIS = 30000;
+    public static final long DYNAMODB_TCP_KEEPALIVE_TIMEOUT_MILLIS = 5000;
+    public static final long DYNAMODB_API_CALL_ATTEMPT_TIMEOUT_MILLIS = 2000;
+    public static final long DYNAMODB_PREWARM_TIMEOUT_MILLIS = 1500;
+    public static final String PREWARM_KEY_VALUE = "__prewarm__";
+
+    // Idempotency records
+    // Keyed by accountId and the client's Idempotency-Key; expiresAt is the table's TTL attribute (epoch seconds).
+    public static final String IDEMPOTENCY_KEY = "idempotencyKey";
+    public static final String IDEMPOTENCY_RESULT_KEY = "result";
+    public static final String IDEMPOTENCY_REQUEST_HASH_KEY = "requestHash";
+    public static final String IDEMPOTENCY_EXPIRES_AT_KEY = "expiresAt";
+    public static final long IDEMPOTENCY_RECORD_TTL_SECONDS = 24 * 60 * 60;
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     // DynamoDB GSI names
     public static final String RESTAURANT_ID_TIME_INDEX = "restaurantId-time-index";
     public static final String ACCOUNT_ID_TIME_INDEX = "accountId-time-index";
     public static final String RECENT_REVIEWS_INDEX = "recent-reviews-index";
+    // Sparse index: only aggregates with at least LEADERBOARD_MIN_REVIEW_COUNT reviews carry the leaderboard attribute.
+    public static final String LEADERBOARD_INDEX = "leaderboard-index";
+    // Sparse index: only aggregates carry lastReviewDay (yyyy-MM-dd), so each partition holds the restaurants last
+    // reviewed on that day.
+    public static final String TRENDING_INDEX = "trending-index";
+
+    // Review feed limits
+    public static final int DEFAULT_FEED_REVIEW_COUNT = 20;
+    public static final int MAX_FEED_REVIEW_COUNT = 100;
+    public static final int MAX_FEED_RESTAURANT_IDS = 25;
+    public static final int MAX_RECENT_REVIEW_COUNT = 100;
+    public static final int MAX_AGGREGATE_RESTAURANT_IDS = 100;
+
+    // User review status lookups
+    public static final int MAX_REVIEW_STATUS_RESTAURANT_IDS = 100;
+    public static final int BATCH_GET_ITEM_MAX_KEYS = 100;
+    public static final int MAX_BATCH_GET_RETRIES = 3;
+    public static final int MAX_REVIEW_IDS_PER_LOOKUP = 500;
+
+    // Account review purge
+    // Transactions in flight at once, and the share of the Lambda's remaining time kept back for settling the account
+    // summary and returning the response.
+    public static final int MAX_ACCOUNT_PURGE_CONCURRENCY = 8;
+    public static final long ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS = 5000;
+    public static final long DEFAULT_ACCOUNT_PURGE_BUDGET_MILLIS = 25000;
+
+    // Bulk review import
+    public static final int MAX_IMPORT_REVIEWS_PER_REQUEST = 500;
+    // TransactWriteItems takes at most 100 items; each imported review needs its own put and account summary update,
+    // and every transaction also carries the restaurant's aggregate.
+    public static final int MAX_IMPORT_REVIEWS_PER_TRANSACTION = 49;
+
+    // Request deadlines
+    // The deadline of a request is the Lambda's remaining time minus a margin for building and returning the response.
+    // A DynamoDB call is shed instead of issued once less than the minimum call budget is left.
+    public static final long REQUEST_DEADLINE_SAFETY_MARGIN_MILLIS = 300;
+    public static final long MIN_DYNAMODB_CALL_BUDGET_MILLIS = 50;
+
+    // Degraded mode for review listings, off by default: when a function sets USER_METADATA_DEADLINE_MILLIS, its
+    // listings wait at most that long for usernames before answering with cached ones and marking the response partial.
+    // Zero waits for the user metadata table however long it takes.
+    public static final String USER_METADATA_DEADLINE_MILLIS_ENV = "USER_METADATA_DEADLINE_MILLIS";
+    public static final long DEFAULT_USER_METADATA_DEADLINE_MILLIS = 0;
+    public static final int USER_METADATA_CACHE_CAPACITY = 10000;
+
+    // Results of popular reads kept per container and served during DynamoDB outages, for at most this long.
+    public static final int STALE_CACHE_CAPACITY = 500;
+    public static final long STALE_CACHE_MAX_STALENESS_MINUTES = 15;
+
+    // Restaurant leaderboard
+    // Scores are Bayesian-weighted toward a prior so a restaurant with a single perfect review does not outrank one with
+    // many consistently good reviews: (PRIOR_WEIGHT * PRIOR_MEAN + totalScore) / (PRIOR_WEIGHT + reviewCount).
+    public static final double BAYESIAN_PRIOR_MEAN = 5.0;
+    public static final int BAYESIAN_PRIOR_WEIGHT = 5;
+    public static final int LEADERBOARD_MIN_REVIEW_COUNT = 3;
+    public static final int DEFAULT_LEADERBOARD_PAGE_SIZE = 10;
+    public static final int MAX_LEADERBOARD_PAGE_SIZE = 50;
+
+    // Trending restaurants
+    // Aggregates keep one review counter per day for the longest window; older buckets are pruned on the next write
+    // and ignored on read.
+    public static final int DEFAULT_TRENDING_WINDOW_DAYS = 7;
+    public static final int MAX_TRENDING_WINDOW_DAYS = 30;
+    public static final int DEFAULT_TRENDING_COUNT = 10;
+    public static final int MAX_TRENDING_COUNT = 50;
+
+    // Warm-up pings
+    // Scheduled keep-warm invocations send an event whose routeKey is WARMUP_ROUTE_KEY; handlers answer them with a
+    // priming pass instead of handling them as API requests.
+    public static final String WARMUP_ROUTE_KEY = "WARMUP";
 
     // Handler class names
     public static final String ADD_NEW_REVIEW_HANDLER = "AddNewReviewForRestaurantHandler";
@@ -58,6 +164,12 @@ public class Constants {
     public static final String GET_ALL_REVIEWS_HANDLER = "GetAllReviewsHandler";
     public static final String GET_AGGREGATE_REVIEW_HANDLER = "GetAggregateReviewInformationHandler";
     public static final String GET_RECENT_REVIEWS_HANDLER = "GetRecentReviewsHandler";
+    public static final String GET_RESTAURANT_LEADERBOARD_HANDLER = "GetRestaurantLeaderboardHandler";
+    public static final String GET_TRENDING_RESTAURANTS_HANDLER = "GetTrendingRestaurantsHandler";
+    public static final String GET_USER_REVIEW_STATUS_HANDLER = "GetUserReviewStatusHandler";
+    public static final String GET_REVIEWS_BY_ID_HANDLER = "GetReviewsByIdHandler";
+    public static final String PURGE_ACCOUNT_REVIEWS_HANDLER = "PurgeAccountReviewsHandler";
+    public static final String IMPORT_REVIEWS_HANDLER = "ImportReviewsHandler";
     public static final String GET_PUBLIC_USER_METADATA_HANDLER = "GetPublicUserMetadataHandler";
     public static final String PUT_PUBLIC_USER_METADATA_HANDLER = "PutPublicUserMetadataHandler";
     public static final String UPSERT_PUBLIC_USER_METADATA_HANDLER = "UpsertPublicUserMetadataHandler";
@@ -98,4 +210,12 @@ public class Constants {
     public static final String ALLOWED_METHODS = "GET, POST, PUT, OPTIONS";
     public static final String ORIGIN = "origin";
     public static final String CONTENT_TYPE = "Content-Type";
+    public static final String IDEMPOTENCY_KEY_HEADER = "idempotency-key";
+    public static final String AUTHORIZATION_HEADER = "authorization";
+    public static final String HEADER_ACCESS_CONTROL_MAX_AGE = "Access-Control-Max-Age";
+    public static final String HTTP_METHOD_OPTIONS = "OPTIONS";
+    // Preflights must allow every request header the API reads, not just Content-Type.
+    public static final String PREFLIGHT_ALLOWED_HEADERS = "Content-Type, Authorization, Idempotency-Key";
+    // Browsers cap how long a preflight is cached (Chromium at two hours), so longer values buy nothing.
+    public static final long PREFLIGHT_MAX_AGE_SECONDS = 7200;
 }
@@ -0,0 +1,139 @@
+package com.fryrank.dal;
+
+import com.fryrank.util.ExecutorUtils;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Issues a duplicate of an idempotent read when the original has not returned within the operation's tracked
+ * percentile latency, and returns whichever copy finishes first. A small fraction of DynamoDB requests land on a slow
+ * node, so hedging cuts the tail latency of a read at the price of a few extra requests.
+ *
+ * The extra load is bounded by a hedge budget: at most {@code budgetRatio} of the calls of an operation may be hedged.
+ * No read is hedged until enough latencies have been recorded to estimate the percentile.
+ */
+@Log4j2
+public class HedgedRead {
+
+    private static final int LATENCY_WINDOW_SIZE = 512;
+    private static final int MIN_SAMPLES_BEFORE_HEDGING = 50;
+
+    private final String operation;
+    private final double percentile;
+    private final long minHedgeDelayMillis;
+    private final double budgetRatio;
+    private final LatencyTracker latencies = new LatencyTracker(LATENCY_WINDOW_SIZE);
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    /**
+     * @param percentile latency percentile after which a duplicate is issued, e.g. 0.95
+     * @param minHedgeDelayMillis lower bound of the hedge delay, so a fast table does not hedge on noise
+     * @param budgetRatio maximum fraction of calls that may be hedged, e.g. 0.05
+     */
+    public HedgedRead(
+            @NonNull final String operation,
+            final double percentile,
+            final long minHedgeDelayMillis,
+            final double budgetRatio
+    ) {
+        this.operation = operation;
+        this.percentile = percentile;
+        this.minHedgeDelayMillis = minHedgeDelayMillis;
+        this.budgetRatio = budgetRatio;
+    }
+
+    /**
+     * Runs the read, hedging it if it is slow. The read must be idempotent since it may run twice.
+     */
+    public <T> T execute(@NonNull final Supplier<T> read) {
+        final long callNumber = calls.incrementAndGet();
+        final long hedgeDelayMillis = hedgeDelayMillis();
+        if (hedgeDelayMillis < 0) {
+            return timed(read).get();
+        }
+
+        final CompletableFuture<T> primary = CompletableFuture.supplyAsync(timed(read), ExecutorUtils.executor());
+        try {
+            return primary.get(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Fall through and consider hedging.
+        } catch (ExecutionException e) {
+            return ExecutorUtils.join(primary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + operation, e);
+        }
+
+        if (hedges.get() >= budgetRatio * callNumber) {
+            return ExecutorUtils.join(primary);
+        }
+        hedges.incrementAndGet();
+        log.info("Hedging {} after {} ms", operation, hedgeDelayMillis);
+
+        final CompletableFuture<T> hedge = CompletableFuture.supplyAsync(timed(read), ExecutorUtils.executor());
+        final CompletableFuture<T> first = new CompletableFuture<>();
+        primary.whenComplete((result, failure) -> {
+            // The primary's failure only wins once the hedge has failed too. Dependents of a future run in no particular
+            // order, so this callback settles a hedge success itself rather than rely on the hedge's own callback
+            // having already run.
+            if (failure == null) {
+                first.complete(result);
+            } else {
+                hedge.whenComplete((hedgeResult, hedgeFailure) -> {
+                    if (hedgeFailure != null) {
+                        first.completeExceptionally(failure);
+                    } else if (first.complete(hedgeResult)) {
+                        hedgeWins.incrementAndGet();
+                    }
+                });
+            }
+        });
+        hedge.whenComplete((result, failure) -> {
+            if (failure == null && first.complete(result)) {
+                hedgeWins.incrementAndGet();
+            }
+        });
+        return ExecutorUtils.join(first);
+    }
+
+    private <T> Supplier<T> timed(final Supplier<T> read) {
+        return () -> {
+            final long start = System.nanoTime();
+            final T result = read.get();
+            latencies.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return result;
+        };
+    }
+
+    /**
+     * @return the delay after which to hedge, or -1 while there are too few samples to estimate it
+     */
+    long hedgeDelayMillis() {
+        if (latencies.sampleCount() < MIN_SAMPLES_BEFORE_HEDGING) {
+            return -1;
+        }
+        return Math.max(minHedgeDelayMillis, latencies.percentile(percentile));
+    }
+
+    void recordLatency(final long latencyMillis) {
+        latencies.record(latencyMillis);
+    }
+
+    long hedgeCount() {
+        return hedges.get();
+    }
+
+    long hedgeWinCount() {
+        return hedgeWins.get();
+    }
+}
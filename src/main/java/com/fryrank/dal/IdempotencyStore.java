@@ -0,0 +1,101 @@
+package com.fryrank.dal;
+
+import com.fryrank.model.exceptions.IdempotencyKeyReusedException;
+import com.google.gson.Gson;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.Put;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+
+import static com.fryrank.Constants.IDEMPOTENCY_EXPIRES_AT_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_RECORD_TTL_SECONDS;
+import static com.fryrank.Constants.IDEMPOTENCY_REQUEST_HASH_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_RESULT_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_TABLE_NAME;
+
+/**
+ * Remembers the result of each completed idempotent write so a retried request gets the original result back instead
+ * of being applied a second time.
+ *
+ * Records live in the idempotency table keyed by the caller-scoped idempotency key, hold the result as JSON together
+ * with a hash of the request that produced it, and expire through the table's TTL on expiresAt. A record is written in
+ * the same transaction as the write it describes, so it exists exactly when that write committed. DynamoDB's TTL sweep
+ * can lag, so expired records are also ignored on read and may be overwritten.
+ */
+@AllArgsConstructor
+public class IdempotencyStore {
+
+    private final DynamoDbClient dynamoDb;
+
+    /**
+     * @return the stored result for the key, or null if no write with this key has completed
+     * @throws IdempotencyKeyReusedException if the key completed a request with a different body
+     */
+    public <T> T getCompletedResult(@NonNull final String key, @NonNull final String requestHash, @NonNull final Class<T> resultType) {
+        final Map<String, AttributeValue> item = dynamoDb.getItem(GetItemRequest.builder()
+                .tableName(IDEMPOTENCY_TABLE_NAME)
+                .key(Map.of(IDEMPOTENCY_KEY, AttributeValue.builder().s(key).build()))
+                .consistentRead(true)
+                .build()).item();
+
+        if (item == null || item.isEmpty() || !item.containsKey(IDEMPOTENCY_RESULT_KEY)) {
+            return null;
+        }
+        final AttributeValue expiresAt = item.get(IDEMPOTENCY_EXPIRES_AT_KEY);
+        if (expiresAt != null && Long.parseLong(expiresAt.n()) < Instant.now().getEpochSecond()) {
+            return null;
+        }
+        // Records written before request hashes were stored cannot be checked and are trusted.
+        final AttributeValue storedHash = item.get(IDEMPOTENCY_REQUEST_HASH_KEY);
+        if (storedHash != null && !requestHash.equals(storedHash.s())) {
+            throw new IdempotencyKeyReusedException("Idempotency-Key was already used for a different request.");
+        }
+
+        return new Gson().fromJson(item.get(IDEMPOTENCY_RESULT_KEY).s(), resultType);
+    }
+
+    /**
+     * Builds the write that records a result, to be committed in the same transaction as the write that produced it.
+     * The put fails its condition if a live record for the key already exists, which cancels the whole transaction.
+     */
+    public static TransactWriteItem recordPut(@NonNull final String key, @NonNull final String requestHash, @NonNull final Object result) {
+        final long now = Instant.now().getEpochSecond();
+        return TransactWriteItem.builder().put(Put.builder()
+                .tableName(IDEMPOTENCY_TABLE_NAME)
+                .item(Map.of(
+                        IDEMPOTENCY_KEY, AttributeValue.builder().s(key).build(),
+                        IDEMPOTENCY_RESULT_KEY, AttributeValue.builder().s(new Gson().toJson(result)).build(),
+                        IDEMPOTENCY_REQUEST_HASH_KEY, AttributeValue.builder().s(requestHash).build(),
+                        IDEMPOTENCY_EXPIRES_AT_KEY, AttributeValue.builder().n(String.valueOf(now + IDEMPOTENCY_RECORD_TTL_SECONDS)).build()
+                ))
+                .conditionExpression("attribute_not_exists(#key) OR #expiresAt < :now")
+                .expressionAttributeNames(Map.of("#key", IDEMPOTENCY_KEY, "#expiresAt", IDEMPOTENCY_EXPIRES_AT_KEY))
+                .expressionAttributeValues(Map.of(":now", AttributeValue.builder().n(String.valueOf(now)).build()))
+                .build()).build();
+    }
+
+    /**
+     * @return a SHA-256 hex digest of the request's JSON form, used to tell a retry from a different request that
+     * reuses its key
+     */
+    public static String requestHash(@NonNull final Object request) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(new Gson().toJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
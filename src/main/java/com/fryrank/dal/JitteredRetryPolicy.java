@@ -0,0 +1,110 @@
+package com.fryrank.dal;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retry policy with capped exponential backoff and full jitter: each retry sleeps a uniformly random time between zero
+ * and min(maxDelay, baseDelay * 2^attempt). Randomizing the whole delay spreads writers that collided on the same
+ * aggregate apart, where a fixed schedule would have them retry in lockstep and collide again.
+ *
+ * Throttling uses a larger base delay and costs more of the retry budget than a conflict, since retrying a throttled
+ * table adds load to the resource that is already saturated.
+ */
+@Log4j2
+public class JitteredRetryPolicy implements RetryPolicy {
+
+    static final int CONFLICT_RETRY_COST = 1;
+    static final int THROTTLED_RETRY_COST = 5;
+
+    private final String name;
+    private final int maxAttempts;
+    private final long conflictBaseDelayMillis;
+    private final long throttledBaseDelayMillis;
+    private final long maxDelayMillis;
+    private final RetryBudget budget;
+
+    private final AtomicLong conflictRetries = new AtomicLong();
+    private final AtomicLong throttledRetries = new AtomicLong();
+    private final AtomicLong attemptsExhausted = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    private final AtomicLong nonRetryable = new AtomicLong();
+
+    public JitteredRetryPolicy(
+            @NonNull final String name,
+            final int maxAttempts,
+            final long conflictBaseDelayMillis,
+            final long throttledBaseDelayMillis,
+            final long maxDelayMillis,
+            @NonNull final RetryBudget budget
+    ) {
+        this.name = name;
+        this.maxAttempts = maxAttempts;
+        this.conflictBaseDelayMillis = conflictBaseDelayMillis;
+        this.throttledBaseDelayMillis = throttledBaseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.budget = budget;
+    }
+
+    @Override
+    public Decision onFailure(final int attempt, @NonNull final FailureKind kind) {
+        final Decision decision = decide(attempt, kind);
+        if (decision != Decision.RETRY) {
+            log.warn("Not retrying {} after attempt {}/{} ({}): {}; retry metrics: {}",
+                    name, attempt + 1, maxAttempts, kind, decision, metrics());
+            return decision;
+        }
+
+        (kind == FailureKind.THROTTLED ? throttledRetries : conflictRetries).incrementAndGet();
+        try {
+            Thread.sleep(backoffMillis(attempt, kind));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted during retry backoff", ie);
+        }
+        return Decision.RETRY;
+    }
+
+    private Decision decide(final int attempt, final FailureKind kind) {
+        if (kind == FailureKind.NON_RETRYABLE) {
+            nonRetryable.incrementAndGet();
+            return Decision.NON_RETRYABLE;
+        }
+        if (attempt >= maxAttempts - 1) {
+            attemptsExhausted.incrementAndGet();
+            return Decision.ATTEMPTS_EXHAUSTED;
+        }
+        if (!budget.tryAcquire(kind == FailureKind.THROTTLED ? THROTTLED_RETRY_COST : CONFLICT_RETRY_COST)) {
+            budgetExhausted.incrementAndGet();
+            return Decision.BUDGET_EXHAUSTED;
+        }
+        return Decision.RETRY;
+    }
+
+    long backoffMillis(final int attempt, final FailureKind kind) {
+        final long baseDelayMillis = kind == FailureKind.THROTTLED ? throttledBaseDelayMillis : conflictBaseDelayMillis;
+        final long ceilingMillis = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceilingMillis + 1);
+    }
+
+    @Override
+    public void onSuccess() {
+        budget.refund();
+    }
+
+    @Override
+    public Map<String, Long> metrics() {
+        final Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put(name + ".retries.conflict", conflictRetries.get());
+        metrics.put(name + ".retries.throttled", throttledRetries.get());
+        metrics.put(name + ".giveUps.attemptsExhausted", attemptsExhausted.get());
+        metrics.put(name + ".giveUps.budgetExhausted", budgetExhausted.get());
+        metrics.put(name + ".giveUps.nonRetryable", nonRetryable.get());
+        return metrics;
+    }
+}
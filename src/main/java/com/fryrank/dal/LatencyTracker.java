@@ -0,0 +1,42 @@
+package com.fryrank.dal;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the latencies of the most recent calls of one operation in a fixed-size ring buffer and answers percentile
+ * queries over that window. The window keeps the estimate following the current state of the table rather than the
+ * whole lifetime of the container.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    LatencyTracker(final int windowSize) {
+        this.samples = new long[windowSize];
+    }
+
+    synchronized void record(final long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    synchronized int sampleCount() {
+        return size;
+    }
+
+    /**
+     * @return the latency below which {@code percentile} of the recorded calls completed, or -1 with no samples
+     */
+    synchronized long percentile(final double percentile) {
+        if (size == 0) {
+            return -1;
+        }
+        final long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        final int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+}
@@ -0,0 +1,42 @@
+package com.fryrank.dal;
+
+/**
+ * Token bucket that caps how much of a container's traffic can be retries. Each retry spends tokens and each success
+ * earns one back, so under a sustained outage retries stop amplifying load once the bucket is empty instead of every
+ * caller retrying to its attempt limit.
+ */
+public class RetryBudget {
+
+    private static final RetryBudget SHARED = new RetryBudget(100);
+
+    private final int capacity;
+    private int tokens;
+
+    public RetryBudget(final int capacity) {
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    /**
+     * The budget shared by every DAL retry policy in this container.
+     */
+    public static RetryBudget shared() {
+        return SHARED;
+    }
+
+    public synchronized boolean tryAcquire(final int cost) {
+        if (tokens < cost) {
+            return false;
+        }
+        tokens -= cost;
+        return true;
+    }
+
+    public synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    public synchronized int available() {
+        return tokens;
+    }
+}
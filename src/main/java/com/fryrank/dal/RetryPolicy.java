@@ -0,0 +1,83 @@
+package com.fryrank.dal;
+
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionConflictException;
+
+import java.util.Map;
+
+/**
+ * Decides whether a failed DynamoDB call is retried and how long to back off first. The DAL keeps one policy per kind
+ * of operation, so limits and delays can be tuned, or the policy swapped, without touching the retry loops.
+ */
+public interface RetryPolicy {
+
+    enum FailureKind {
+        // Another writer changed the item first; retrying with a fresh read is expected to succeed.
+        CONFLICT,
+        // DynamoDB throttled the request; retrying immediately makes it worse, so back off harder.
+        THROTTLED,
+        // The request itself is invalid; retrying cannot help.
+        NON_RETRYABLE
+    }
+
+    enum Decision {
+        RETRY,
+        ATTEMPTS_EXHAUSTED,
+        BUDGET_EXHAUSTED,
+        NON_RETRYABLE
+    }
+
+    /**
+     * Called after attempt {@code attempt} (0-based) failed. Sleeps for the backoff before returning RETRY.
+     */
+    Decision onFailure(int attempt, FailureKind kind);
+
+    default Decision onFailure(int attempt, Exception failure) {
+        return onFailure(attempt, classify(failure));
+    }
+
+    /**
+     * Called when an operation under this policy succeeds.
+     */
+    void onSuccess();
+
+    /**
+     * @return retry counters since the container started, keyed by metric name
+     */
+    Map<String, Long> metrics();
+
+    /**
+     * Classifies a DynamoDB failure. A cancelled transaction is classified by its cancellation reasons: any validation
+     * or item collection size failure makes it non-retryable, otherwise any throttled item makes it throttled, and
+     * conditional check failures and transaction conflicts are conflicts.
+     */
+    static FailureKind classify(Throwable failure) {
+        if (failure instanceof TransactionCanceledException canceled) {
+            if (!canceled.hasCancellationReasons()) {
+                return FailureKind.CONFLICT;
+            }
+            boolean throttled = false;
+            for (CancellationReason reason : canceled.cancellationReasons()) {
+                final String code = reason.code();
+                if ("ValidationError".equals(code) || "ItemCollectionSizeLimitExceeded".equals(code)) {
+                    return FailureKind.NON_RETRYABLE;
+                }
+                if ("ThrottlingError".equals(code) || "ProvisionedThroughputExceeded".equals(code)) {
+                    throttled = true;
+                }
+            }
+            return throttled ? FailureKind.THROTTLED : FailureKind.CONFLICT;
+        }
+        if (failure instanceof ConditionalCheckFailedException || failure instanceof TransactionConflictException) {
+            return FailureKind.CONFLICT;
+        }
+        if (failure instanceof ProvisionedThroughputExceededException || failure instanceof RequestLimitExceededException) {
+            return FailureKind.THROTTLED;
+        }
+        return FailureKind.NON_RETRYABLE;
+    }
+}
@@ -4,21 +4,57 @@ import com.fryrank.model.AggregateReviewFilter;
 import com.fryrank.model.DeleteReviewRequest;
 import com.fryrank.model.GetAggregateReviewInformationOutput;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.GetRestaurantLeaderboardOutput;
+import com.fryrank.model.GetTrendingRestaurantsOutput;
+import com.fryrank.model.GetUserReviewStatusOutput;
+import com.fryrank.model.ImportReviewsOutput;
+import com.fryrank.model.PurgeAccountReviewsOutput;
 import com.fryrank.model.Review;
+import com.fryrank.model.ReviewTimeFilter;
+import com.fryrank.model.UserMetadataBatch;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface ReviewDAL {
 
     GetAllReviewsOutput getAllReviewsByRestaurantId(final String restaurantId);
 
+    GetAllReviewsOutput getAllReviewsByRestaurantId(final String restaurantId, final ReviewTimeFilter timeFilter);
+
     GetAllReviewsOutput getAllReviewsByAccountId(final String accountId);
 
+    GetAllReviewsOutput getAllReviewsByAccountId(final String accountId, final ReviewTimeFilter timeFilter);
+
     GetAllReviewsOutput getRecentReviews(final Integer count);
 
+    GetAllReviewsOutput getRecentReviews(final Integer count, final ReviewTimeFilter timeFilter);
+
+    GetAllReviewsOutput getLatestReviewsForRestaurants(final List<String> restaurantIds, final Integer count, final ReviewTimeFilter timeFilter);
+
     GetAggregateReviewInformationOutput getAggregateReviewInformationForRestaurants(final List<String> restaurantIds, final AggregateReviewFilter aggregateReviewFilter);
 
+    UserMetadataBatch getUserMetadata(final List<String> accountIds);
+
+    GetRestaurantLeaderboardOutput getRestaurantLeaderboard(final Integer count, final String pageToken);
+
+    GetTrendingRestaurantsOutput getTrendingRestaurants(final Integer windowDays, final Integer count);
+
+    GetAllReviewsOutput getReviewsByIds(final List<String> reviewIds);
+
+    GetUserReviewStatusOutput getUserReviewStatus(
+            final List<String> restaurantIds,
+            final String accountId,
+            final boolean includeReview
+    );
+
     Review addNewReview(final Review review);
 
+    Review addNewReview(final Review review, final String idempotencyKey);
+
+    ImportReviewsOutput importReviews(final List<Review> reviews);
+
     boolean deleteUserReview(final DeleteReviewRequest delReviewRequest);
+
+    PurgeAccountReviewsOutput purgeAccountReviews(final String accountId, final Instant deadline);
 }
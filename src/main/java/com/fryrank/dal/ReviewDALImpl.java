@@ -6,9 +6,24 @@ import com.fryrank.model.AggregateReviewInformation;
 import com.fryrank.model.DeleteReviewRequest;
 import com.fryrank.model.GetAggregateReviewInformationOutput;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.GetRestaurantLeaderboardOutput;
+import com.fryrank.model.GetTrendingRestaurantsOutput;
+import com.fryrank.model.GetUserReviewStatusOutput;
+import com.fryrank.model.ImportReviewsOutput;
+import com.fryrank.model.LeaderboardEntry;
 import com.fryrank.model.PublicUserMetadata;
+import com.fryrank.model.PurgeAccountReviewsOutput;
 import com.fryrank.model.Review;
+import com.fryrank.model.ReviewTimeFilter;
+import com.fryrank.model.TrendingRestaurant;
+import com.fryrank.model.UserMetadataBatch;
+import com.fryrank.model.exceptions.DeadlineExceededException;
 import com.fryrank.util.DynamoDbUtils;
+import com.fryrank.util.Deadline;
+import com.fryrank.util.EmbeddedMetrics;
+import com.fryrank.util.EnvironmentUtils;
+import com.fryrank.util.ExecutorUtils;
+import com.fryrank.util.PageTokenUtils;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
@@ -17,35 +32,72 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.Get;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.Update;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
 import java.util.stream.Collectors;
 
 import static com.fryrank.Constants.ACCOUNT_ID_KEY;
 import static com.fryrank.Constants.ACCOUNT_ID_TIME_INDEX;
 import static com.fryrank.Constants.AGGREGATE_IDENTIFIER;
 import static com.fryrank.Constants.AVERAGE_SCORE_KEY;
+import static com.fryrank.Constants.BATCH_GET_ITEM_MAX_KEYS;
 import static com.fryrank.Constants.BODY_KEY;
+import static com.fryrank.Constants.DEFAULT_USER_METADATA_DEADLINE_MILLIS;
 import static com.fryrank.Constants.IDENTIFIER_KEY;
 import static com.fryrank.Constants.ISO_DATE_TIME;
 import static com.fryrank.Constants.IS_REVIEW_KEY;
 import static com.fryrank.Constants.IS_REVIEW_VALUE;
+import static com.fryrank.Constants.LAST_REVIEW_DAY_KEY;
+import static com.fryrank.Constants.LAST_REVIEW_ISO_DATE_TIME_KEY;
+import static com.fryrank.Constants.LEADERBOARD_INDEX;
+import static com.fryrank.Constants.LEADERBOARD_KEY;
+import static com.fryrank.Constants.LEADERBOARD_VALUE;
+import static com.fryrank.Constants.MAX_ACCOUNT_PURGE_CONCURRENCY;
+import static com.fryrank.Constants.MAX_BATCH_GET_RETRIES;
+import static com.fryrank.Constants.MAX_IMPORT_REVIEWS_PER_TRANSACTION;
 import static com.fryrank.Constants.RANKINGS_TABLE_NAME;
 import static com.fryrank.Constants.RECENT_REVIEWS_INDEX;
 import static com.fryrank.Constants.RESTAURANT_ID_KEY;
@@ -54,8 +106,13 @@ import static com.fryrank.Constants.REVIEW_COUNT_KEY;
 import static com.fryrank.Constants.REVIEW_IDENTIFIER_PREFIX;
 import static com.fryrank.Constants.SCORE_KEY;
 import static com.fryrank.Constants.TITLE_KEY;
+import static com.fryrank.Constants.TOTAL_SCORE_KEY;
+import static com.fryrank.Constants.TRENDING_INDEX;
 import static com.fryrank.Constants.USERNAME_KEY;
+import static com.fryrank.Constants.USER_METADATA_CACHE_CAPACITY;
+import static com.fryrank.Constants.USER_METADATA_DEADLINE_MILLIS_ENV;
 import static com.fryrank.Constants.USER_METADATA_TABLE_NAME;
+import static com.fryrank.model.ReviewTimeFilter.toStoredIsoDateTime;
 
 @Repository
 @Log4j2
@@ -75,10 +132,35 @@ public class ReviewDALImpl implements ReviewDAL {
      * res1 | AGGREGATE | AGGREGATE | | | | 100 | 10 | 10
      * res2 | AGGREGATE | AGGREGATE | | | | 6 | 10 | 0.6
      *
+     * Aggregates also store a Bayesian-weighted bayesianScore, and those with enough reviews carry a leaderboard
+     * attribute that makes them visible on the sparse leaderboard GSI (leaderboard PK, bayesianScore SK).
+     *
+     * For trending, aggregates keep per-day review counts and score totals for the last 30 days plus the day of their
+     * newest review, which partitions the sparse trending GSI (lastReviewDay PK).
      */
 
     private static final int MAX_AGGREGATE_UPDATE_RETRIES = 3;
 
+    // Policies are per container rather than per instance so every DAL in the container draws on one retry budget.
+    private static final RetryPolicy AGGREGATE_RETRY_POLICY = new JitteredRetryPolicy(
+            "aggregateUpdate", MAX_AGGREGATE_UPDATE_RETRIES, 10, 50, 500, RetryBudget.shared());
+    private static final RetryPolicy BATCH_GET_RETRY_POLICY = new JitteredRetryPolicy(
+            "batchGet", MAX_BATCH_GET_RETRIES, 10, 50, 1000, RetryBudget.shared());
+
+    static {
+        EmbeddedMetrics.register(ReviewDALImpl::retryMetrics);
+    }
+
+    // Read paths hedge at their p95 latency. BatchGetItem reads up to 100 items and is costlier to duplicate, so it gets
+    // a smaller budget than single-partition queries and key lookups.
+    private static final HedgedRead QUERY_HEDGE = new HedgedRead("query", 0.95, 20, 0.05);
+    private static final HedgedRead GET_ITEM_HEDGE = new HedgedRead("getItem", 0.95, 10, 0.05);
+    private static final HedgedRead BATCH_GET_HEDGE = new HedgedRead("batchGetItem", 0.95, 30, 0.02);
+
+    private static final UserMetadataCache USER_METADATA_CACHE = new UserMetadataCache(USER_METADATA_CACHE_CAPACITY);
+    private static final long USER_METADATA_DEADLINE_MILLIS = EnvironmentUtils.getLongEnvOrDefault(
+            USER_METADATA_DEADLINE_MILLIS_ENV, DEFAULT_USER_METADATA_DEADLINE_MILLIS);
+
     private final DynamoDbClient dynamoDb;
 
     public ReviewDALImpl() {
@@ -87,56 +169,191 @@ public class ReviewDALImpl implements ReviewDAL {
 
     @Override
     public GetAllReviewsOutput getAllReviewsByRestaurantId(@NonNull final String restaurantId) {
-        log.info("Getting all reviews for restaurantId: {}", restaurantId);
-        return queryReviews(RESTAURANT_ID_TIME_INDEX, RESTAURANT_ID_KEY, restaurantId);
+        return getAllReviewsByRestaurantId(restaurantId, ReviewTimeFilter.NONE);
+    }
+
+    @Override
+    public GetAllReviewsOutput getAllReviewsByRestaurantId(
+            @NonNull final String restaurantId,
+            @NonNull final ReviewTimeFilter timeFilter
+    ) {
+        log.info("Getting all reviews for restaurantId: {} with time filter: {}", restaurantId, timeFilter);
+        return queryReviews(RESTAURANT_ID_TIME_INDEX, RESTAURANT_ID_KEY, restaurantId, timeFilter);
     }
 
     @Override
     public GetAllReviewsOutput getAllReviewsByAccountId(@NonNull final String accountId) {
-        log.info("Getting all reviews for accountId: {}", accountId);
-        return queryReviews(ACCOUNT_ID_TIME_INDEX, ACCOUNT_ID_KEY, accountId);
+        return getAllReviewsByAccountId(accountId, ReviewTimeFilter.NONE);
     }
 
-    private GetAllReviewsOutput queryReviews(String indexName, String keyAttribute, String keyValue) {
-        final QueryRequest request = QueryRequest.builder()
+    @Override
+    public GetAllReviewsOutput getAllReviewsByAccountId(
+            @NonNull final String accountId,
+            @NonNull final ReviewTimeFilter timeFilter
+    ) {
+        log.info("Getting all reviews for accountId: {} with time filter: {}", accountId, timeFilter);
+        return queryReviews(ACCOUNT_ID_TIME_INDEX, ACCOUNT_ID_KEY, accountId, timeFilter);
+    }
+
+    private GetAllReviewsOutput queryReviews(String indexName, String keyAttribute, String keyValue, ReviewTimeFilter timeFilter) {
+        final QueryRequest request = reviewQuery(indexName, keyAttribute, keyValue, timeFilter).build();
+        final QueryResponse response = QUERY_HEDGE.execute(() -> dynamoDb.query(request));
+        return mapItemsToReviewsWithUserMetadata(response.items());
+    }
+
+    private QueryRequest.Builder reviewQuery(String indexName, String keyAttribute, String keyValue, ReviewTimeFilter timeFilter) {
+        final Map<String, String> attributeNames = new HashMap<>(Map.of("#key", keyAttribute));
+        final Map<String, AttributeValue> attributeValues = new HashMap<>(Map.of(
+                ":value", AttributeValue.builder().s(keyValue).build()
+        ));
+
+        return QueryRequest.builder()
                 .tableName(RANKINGS_TABLE_NAME)
                 .indexName(indexName)
-                .keyConditionExpression("#key = :value")
+                .keyConditionExpression("#key = :value" + timeKeyCondition(timeFilter, attributeNames, attributeValues))
                 // TODO(FRY-114): Temporary filter expression because we have not yet converted over outputs to use the
                 //  new Ranking model objects. Once we convert outputs to use Ranking objects, we can remove this
                 .filterExpression("attribute_exists(isReview)")
-                .expressionAttributeNames(Map.of("#key", keyAttribute))
-                .expressionAttributeValues(Map.of(
-                        ":value", AttributeValue.builder().s(keyValue).build()
-                ))
-                .scanIndexForward(false)  // Most recent first
-                .build();
+                .expressionAttributeNames(attributeNames)
+                .expressionAttributeValues(attributeValues)
+                .scanIndexForward(false);  // Most recent first
+    }
 
-        final QueryResponse response = dynamoDb.query(request);
-        return mapItemsToReviewsWithUserMetadata(response.items());
+    /**
+     * Builds the sort key part of a key condition for the given time filter and registers its placeholders. All review
+     * GSIs use isoDateTime as their sort key, and ISO-8601 strings in the same format compare chronologically, so bounds
+     * are normalized to the UTC form reviews are stored with.
+     *
+     * @return the condition to append to the partition key condition, or an empty string if there is no filter
+     */
+    private String timeKeyCondition(ReviewTimeFilter timeFilter,
+                                    Map<String, String> attributeNames,
+                                    Map<String, AttributeValue> attributeValues) {
+        if (timeFilter.isEmpty()) {
+            return "";
+        }
+        if (timeFilter.getSince() != null && timeFilter.isRange()) {
+            // A key condition allows a single comparison on the sort key.
+            throw new IllegalArgumentException("since cannot be combined with from/to.");
+        }
+
+        attributeNames.put("#time", ISO_DATE_TIME);
+        if (timeFilter.getSince() != null) {
+            attributeValues.put(":since", AttributeValue.builder().s(toStoredIsoDateTime(timeFilter.getSince())).build());
+            return " AND #time > :since";
+        }
+        if (timeFilter.getFrom() != null && timeFilter.getTo() != null) {
+            attributeValues.put(":from", AttributeValue.builder().s(toStoredIsoDateTime(timeFilter.getFrom())).build());
+            attributeValues.put(":to", AttributeValue.builder().s(toStoredIsoDateTime(timeFilter.getTo())).build());
+            return " AND #time BETWEEN :from AND :to";
+        }
+        if (timeFilter.getFrom() != null) {
+            attributeValues.put(":from", AttributeValue.builder().s(toStoredIsoDateTime(timeFilter.getFrom())).build());
+            return " AND #time >= :from";
+        }
+        attributeValues.put(":to", AttributeValue.builder().s(toStoredIsoDateTime(timeFilter.getTo())).build());
+        return " AND #time <= :to";
     }
 
     @Override
     public GetAllReviewsOutput getRecentReviews(@NonNull final Integer count) {
-        log.info("Getting {} recent reviews", count);
+        return getRecentReviews(count, ReviewTimeFilter.NONE);
+    }
+
+    @Override
+    public GetAllReviewsOutput getRecentReviews(@NonNull final Integer count, @NonNull final ReviewTimeFilter timeFilter) {
+        log.info("Getting {} recent reviews with time filter: {}", count, timeFilter);
+
+        // #ir is an expression attribute placeholder for the isReview attribute.
+        final Map<String, String> attributeNames = new HashMap<>(Map.of("#ir", IS_REVIEW_KEY));
+        final Map<String, AttributeValue> attributeValues = new HashMap<>(Map.of(
+                ":isReview", AttributeValue.builder().s(IS_REVIEW_VALUE).build()
+        ));
 
         final QueryRequest request = QueryRequest.builder()
                 .tableName(RANKINGS_TABLE_NAME)
                 .indexName(RECENT_REVIEWS_INDEX)
-                // #ir is an expression attribute placeholder for the isReview attribute.
-                .keyConditionExpression("#ir = :isReview")
-                .expressionAttributeNames(Map.of("#ir", IS_REVIEW_KEY))
-                .expressionAttributeValues(Map.of(
-                        ":isReview", AttributeValue.builder().s(IS_REVIEW_VALUE).build()
-                ))
+                .keyConditionExpression("#ir = :isReview" + timeKeyCondition(timeFilter, attributeNames, attributeValues))
+                .expressionAttributeNames(attributeNames)
+                .expressionAttributeValues(attributeValues)
                 .scanIndexForward(false)  // Descending by isoDateTime (most recent first)
                 .limit(count)
                 .build();
 
-        final QueryResponse response = dynamoDb.query(request);
+        final QueryResponse response = QUERY_HEDGE.execute(() -> dynamoDb.query(request));
         return mapItemsToReviewsWithUserMetadata(response.items());
     }
 
+    /**
+     * Gets the latest reviews across several restaurants. Each restaurant is queried in parallel for at most
+     * {@code count} reviews and the already time-sorted results are merged lazily newest-first through a heap holding
+     * one cursor per restaurant. User metadata is left for the caller to resolve for the merged page in one batch.
+     */
+    @Override
+    public GetAllReviewsOutput getLatestReviewsForRestaurants(
+            @NonNull final List<String> restaurantIds,
+            @NonNull final Integer count,
+            @NonNull final ReviewTimeFilter timeFilter
+    ) {
+        log.info("Getting {} latest reviews across {} restaurants with time filter: {}",
+                count, restaurantIds.size(), timeFilter);
+
+        // The AGGREGATE row sorts ahead of every ISO timestamp on the descending index and only gets dropped by the
+        // isReview filter after the limit is applied, so read one extra item per restaurant to still fill the page.
+        final int perRestaurantLimit = count + 1;
+
+        final List<CompletableFuture<List<Map<String, AttributeValue>>>> queries = restaurantIds.stream()
+                .map(restaurantId -> CompletableFuture.supplyAsync(
+                        () -> {
+                            final QueryRequest request = reviewQuery(RESTAURANT_ID_TIME_INDEX, RESTAURANT_ID_KEY, restaurantId, timeFilter)
+                                    .limit(perRestaurantLimit)
+                                    .build();
+                            return QUERY_HEDGE.execute(() -> dynamoDb.query(request)).items();
+                        },
+                        ExecutorUtils.executor()))
+                .collect(Collectors.toList());
+
+        final List<List<Map<String, AttributeValue>>> perRestaurantItems = queries.stream()
+                .map(ExecutorUtils::join)
+                .collect(Collectors.toList());
+
+        return new GetAllReviewsOutput(mapItemsToReviews(mergeNewestFirst(perRestaurantItems, count)));
+    }
+
+    /**
+     * K-way merges lists that are each already sorted newest-first, stopping as soon as {@code limit} items are taken.
+     * Items without an isoDateTime sort last.
+     */
+    List<Map<String, AttributeValue>> mergeNewestFirst(List<List<Map<String, AttributeValue>>> sortedLists, int limit) {
+        record Cursor(List<Map<String, AttributeValue>> items, int position) {
+            Map<String, AttributeValue> head() {
+                return items.get(position);
+            }
+        }
+
+        final Comparator<Cursor> newestFirst = Comparator.comparing(
+                (Cursor cursor) -> getStringAttribute(cursor.head(), ISO_DATE_TIME),
+                Comparator.nullsFirst(Comparator.<String>naturalOrder())
+        ).reversed();
+
+        final PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, sortedLists.size()), newestFirst);
+        for (List<Map<String, AttributeValue>> items : sortedLists) {
+            if (!items.isEmpty()) {
+                heap.add(new Cursor(items, 0));
+            }
+        }
+
+        final List<Map<String, AttributeValue>> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            final Cursor cursor = heap.poll();
+            merged.add(cursor.head());
+            if (cursor.position() + 1 < cursor.items().size()) {
+                heap.add(new Cursor(cursor.items(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+
     @Override
     public GetAggregateReviewInformationOutput getAggregateReviewInformationForRestaurants(
             @NonNull final List<String> restaurantIds,
@@ -168,7 +385,7 @@ public class ReviewDALImpl implements ReviewDAL {
                     .requestItems(Map.of(RANKINGS_TABLE_NAME, keysAndAttributes))
                     .build();
 
-            BatchGetItemResponse batchResponse = dynamoDb.batchGetItem(batchRequest);
+            BatchGetItemResponse batchResponse = BATCH_GET_HEDGE.execute(() -> dynamoDb.batchGetItem(batchRequest));
             List<Map<String, AttributeValue>> items = batchResponse.responses().get(RANKINGS_TABLE_NAME);
 
             if (items != null) {
@@ -185,10 +402,12 @@ public class ReviewDALImpl implements ReviewDAL {
                         averageScore = null;
                     }
 
-                    restaurantIdToAggregateReviewInformation.put(
-                            restaurantId,
-                            new AggregateReviewInformation(restaurantId, averageScore)
-                    );
+                    final AggregateReviewInformation information = new AggregateReviewInformation(restaurantId, averageScore);
+                    if (Boolean.TRUE.equals(aggregateReviewFilter.getIncludeHistogram())) {
+                        information.setScoreHistogram(AggregateRanking.fromMap(item).getScoreHistogram());
+                    }
+
+                    restaurantIdToAggregateReviewInformation.put(restaurantId, information);
                 }
             }
         }
@@ -196,6 +415,234 @@ public class ReviewDALImpl implements ReviewDAL {
         return new GetAggregateReviewInformationOutput(restaurantIdToAggregateReviewInformation);
     }
 
+    /**
+     * Reads one page of the restaurant leaderboard from the sparse leaderboard GSI, ordered by Bayesian-weighted score.
+     * Each page is a single bounded Query, so latency does not grow with the number of restaurants.
+     */
+    @Override
+    public GetRestaurantLeaderboardOutput getRestaurantLeaderboard(@NonNull final Integer count, final String pageToken) {
+        log.info("Getting restaurant leaderboard page of {}", count);
+
+        final QueryRequest request = QueryRequest.builder()
+                .tableName(RANKINGS_TABLE_NAME)
+                .indexName(LEADERBOARD_INDEX)
+                .keyConditionExpression("#lb = :leaderboard")
+                .expressionAttributeNames(Map.of("#lb", LEADERBOARD_KEY))
+                .expressionAttributeValues(Map.of(
+                        ":leaderboard", AttributeValue.builder().s(LEADERBOARD_VALUE).build()
+                ))
+                .scanIndexForward(false)  // Highest weighted score first
+                .limit(count)
+                .exclusiveStartKey(PageTokenUtils.decode(pageToken))
+                .build();
+
+        final QueryResponse response = QUERY_HEDGE.execute(() -> dynamoDb.query(request));
+
+        final List<LeaderboardEntry> entries = response.items().stream()
+                .map(AggregateRanking::fromMap)
+                .map(aggregate -> new LeaderboardEntry(
+                        aggregate.getRestaurantId(),
+                        BigDecimal.valueOf(aggregate.getAverageScore()).setScale(1, RoundingMode.DOWN).floatValue(),
+                        aggregate.getReviewCount(),
+                        BigDecimal.valueOf(aggregate.getBayesianScore()).setScale(2, RoundingMode.HALF_UP).floatValue()
+                ))
+                .collect(Collectors.toList());
+
+        return new GetRestaurantLeaderboardOutput(entries, PageTokenUtils.encode(response.lastEvaluatedKey()));
+    }
+
+    /**
+     * Ranks restaurants by the number of reviews they received in the last windowDays days, using the per-day buckets
+     * on each aggregate. Only restaurants whose newest review falls in the window can qualify, so this reads one
+     * trending index partition per day in parallel instead of every restaurant's reviews.
+     */
+    @Override
+    public GetTrendingRestaurantsOutput getTrendingRestaurants(@NonNull final Integer windowDays, @NonNull final Integer count) {
+        log.info("Getting {} trending restaurants over the last {} days", count, windowDays);
+
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final List<CompletableFuture<List<Map<String, AttributeValue>>>> futures = new ArrayList<>();
+        for (int daysAgo = 0; daysAgo < windowDays; daysAgo++) {
+            final String day = today.minusDays(daysAgo).toString();
+            futures.add(CompletableFuture.supplyAsync(() -> queryTrendingPartition(day), ExecutorUtils.executor()));
+        }
+
+        final List<TrendingRestaurant> restaurants = futures.stream()
+                .map(ExecutorUtils::join)
+                .flatMap(List::stream)
+                .map(AggregateRanking::fromMap)
+                .filter(aggregate -> aggregate.windowReviewCount(windowDays, today) > 0)
+                .map(aggregate -> {
+                    final int reviewCount = aggregate.windowReviewCount(windowDays, today);
+                    final double avgScore = aggregate.windowTotalScore(windowDays, today) / reviewCount;
+                    return new TrendingRestaurant(
+                            aggregate.getRestaurantId(),
+                            reviewCount,
+                            BigDecimal.valueOf(avgScore).setScale(1, RoundingMode.DOWN).floatValue()
+                    );
+                })
+                .sorted(Comparator.comparing(TrendingRestaurant::getReviewCount)
+                        .thenComparing(TrendingRestaurant::getAvgScore)
+                        .reversed()
+                        .thenComparing(TrendingRestaurant::getRestaurantId))
+                .limit(count)
+                .collect(Collectors.toList());
+
+        return new GetTrendingRestaurantsOutput(windowDays, restaurants);
+    }
+
+    private List<Map<String, AttributeValue>> queryTrendingPartition(String day) {
+        final List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        do {
+            final QueryRequest request = QueryRequest.builder()
+                    .tableName(RANKINGS_TABLE_NAME)
+                    .indexName(TRENDING_INDEX)
+                    .keyConditionExpression("#day = :day")
+                    .expressionAttributeNames(Map.of("#day", LAST_REVIEW_DAY_KEY))
+                    .expressionAttributeValues(Map.of(":day", AttributeValue.builder().s(day).build()))
+                    .exclusiveStartKey(exclusiveStartKey)
+                    .build();
+            final QueryResponse response = QUERY_HEDGE.execute(() -> dynamoDb.query(request));
+            items.addAll(response.items());
+            exclusiveStartKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (exclusiveStartKey != null);
+        return items;
+    }
+
+    /**
+     * Looks up an account's review of each restaurant directly by primary key (restaurantId, REVIEW:accountId). A single
+     * restaurant is one GetItem; several go through batched BatchGetItem calls. Unless the reviews themselves are
+     * requested, only the key is projected so the read stays small.
+     */
+    @Override
+    public GetUserReviewStatusOutput getUserReviewStatus(
+            @NonNull final List<String> restaurantIds,
+            @NonNull final String accountId,
+            final boolean includeReview
+    ) {
+        log.info("Getting review status of accountId: {} for {} restaurants", accountId, restaurantIds.size());
+
+        final String identifier = REVIEW_IDENTIFIER_PREFIX + accountId;
+        final String projection = includeReview ? null : "#pk";
+        final Map<String, String> projectionNames = includeReview ? null : Map.of("#pk", RESTAURANT_ID_KEY);
+
+        final List<Map<String, AttributeValue>> items;
+        if (restaurantIds.size() == 1) {
+            final GetItemRequest request = GetItemRequest.builder()
+                    .tableName(RANKINGS_TABLE_NAME)
+                    .key(rankingsKey(restaurantIds.get(0), identifier))
+                    .projectionExpression(projection)
+                    .expressionAttributeNames(projectionNames)
+                    .build();
+            final GetItemResponse response = GET_ITEM_HEDGE.execute(() -> dynamoDb.getItem(request));
+            items = response.hasItem() && !response.item().isEmpty() ? List.of(response.item()) : List.of();
+        } else {
+            final List<Map<String, AttributeValue>> keys = restaurantIds.stream()
+                    .map(restaurantId -> rankingsKey(restaurantId, identifier))
+                    .collect(Collectors.toList());
+            items = batchGetRankingsItems(keys, projection, projectionNames);
+        }
+
+        final Map<String, Boolean> restaurantIdToHasReviewed = new HashMap<>();
+        restaurantIds.forEach(restaurantId -> restaurantIdToHasReviewed.put(restaurantId, false));
+        final Map<String, Review> restaurantIdToReview = includeReview ? new HashMap<>() : null;
+        for (Map<String, AttributeValue> item : items) {
+            final String restaurantId = getStringAttribute(item, RESTAURANT_ID_KEY);
+            restaurantIdToHasReviewed.put(restaurantId, true);
+            if (includeReview) {
+                restaurantIdToReview.put(restaurantId, mapItemToReview(item, Map.of()));
+            }
+        }
+
+        return new GetUserReviewStatusOutput(restaurantIdToHasReviewed, restaurantIdToReview);
+    }
+
+    /**
+     * Resolves review ids (restaurantId:accountId) straight to rankings table keys and reads them with parallel
+     * BatchGetItem calls. Reviews come back in the order requested, without user metadata; ids that do not exist are
+     * left out.
+     */
+    @Override
+    public GetAllReviewsOutput getReviewsByIds(@NonNull final List<String> reviewIds) {
+        log.info("Getting {} reviews by id", reviewIds.size());
+
+        final Map<String, Integer> requestOrder = new HashMap<>();
+        final List<Map<String, AttributeValue>> keys = new ArrayList<>();
+        for (String reviewId : reviewIds) {
+            final int separator = reviewId.indexOf(':');
+            requestOrder.put(reviewId, requestOrder.size());
+            keys.add(rankingsKey(
+                    reviewId.substring(0, separator),
+                    REVIEW_IDENTIFIER_PREFIX + reviewId.substring(separator + 1)));
+        }
+
+        final List<Review> reviews = mapItemsToReviews(batchGetRankingsItems(keys, null, null)).stream()
+                .sorted(Comparator.comparing(review -> requestOrder.getOrDefault(review.getReviewId(), Integer.MAX_VALUE)))
+                .collect(Collectors.toList());
+        return new GetAllReviewsOutput(reviews);
+    }
+
+    private Map<String, AttributeValue> rankingsKey(String restaurantId, String identifier) {
+        return Map.of(
+                RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build(),
+                IDENTIFIER_KEY, AttributeValue.builder().s(identifier).build()
+        );
+    }
+
+    /**
+     * Reads rankings items by key in parallel BatchGetItem calls of up to 100 keys. Keys DynamoDB returns as unprocessed
+     * (throttling or the 16MB response limit) are retried with exponential backoff instead of being silently dropped.
+     */
+    List<Map<String, AttributeValue>> batchGetRankingsItems(
+            List<Map<String, AttributeValue>> keys,
+            String projectionExpression,
+            Map<String, String> expressionAttributeNames
+    ) {
+        final List<CompletableFuture<List<Map<String, AttributeValue>>>> futures = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i += BATCH_GET_ITEM_MAX_KEYS) {
+            final KeysAndAttributes batch = KeysAndAttributes.builder()
+                    .keys(keys.subList(i, Math.min(i + BATCH_GET_ITEM_MAX_KEYS, keys.size())))
+                    .projectionExpression(projectionExpression)
+                    .expressionAttributeNames(expressionAttributeNames)
+                    .build();
+            futures.add(CompletableFuture.supplyAsync(() -> batchGetWithRetries(batch), ExecutorUtils.executor()));
+        }
+
+        return futures.stream()
+                .map(ExecutorUtils::join)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private List<Map<String, AttributeValue>> batchGetWithRetries(KeysAndAttributes batch) {
+        final List<Map<String, AttributeValue>> items = new ArrayList<>();
+        KeysAndAttributes pending = batch;
+        for (int attempt = 0; ; attempt++) {
+            final BatchGetItemRequest request = BatchGetItemRequest.builder()
+                    .requestItems(Map.of(RANKINGS_TABLE_NAME, pending))
+                    .build();
+            final BatchGetItemResponse response = BATCH_GET_HEDGE.execute(() -> dynamoDb.batchGetItem(request));
+            items.addAll(response.responses().getOrDefault(RANKINGS_TABLE_NAME, List.of()));
+
+            pending = response.hasUnprocessedKeys() ? response.unprocessedKeys().get(RANKINGS_TABLE_NAME) : null;
+            if (pending == null || !pending.hasKeys() || pending.keys().isEmpty()) {
+                BATCH_GET_RETRY_POLICY.onSuccess();
+                return items;
+            }
+
+            // Unprocessed keys mean the table is throttling the batch.
+            log.warn("BatchGetItem returned {} unprocessed keys on attempt {}/{}",
+                    pending.keys().size(), attempt + 1, MAX_BATCH_GET_RETRIES);
+            if (BATCH_GET_RETRY_POLICY.onFailure(attempt, RetryPolicy.FailureKind.THROTTLED) != RetryPolicy.Decision.RETRY) {
+                throw new RuntimeException("Failed to read " + pending.keys().size() + " rankings items after "
+                        + (attempt + 1) + " attempts due to unprocessed keys");
+            }
+        }
+    }
+
     /**
      * Creates a new review in the database and also performs aggregation logic to add a new or update an existing
      * aggregate row.
@@ -205,42 +652,249 @@ public class ReviewDALImpl implements ReviewDAL {
      */
     @Override
     public Review addNewReview(@NonNull final Review review) {
+        return addNewReview(review, null);
+    }
+
+    /**
+     * Creates a new review like {@link #addNewReview(Review)}, applying it at most once per idempotency key.
+     *
+     * A key whose write already completed returns the stored result without touching the aggregate. Otherwise the
+     * idempotency record is written in the same transaction as the review and aggregate, so the record exists exactly
+     * when the review was applied. If a concurrent request with the same key commits first, the record's condition
+     * cancels this transaction and the committed result is returned instead.
+     *
+     * @param idempotencyKey the caller's Idempotency-Key, scoped to the review's account; null to always write
+     * @throws com.fryrank.model.exceptions.IdempotencyKeyReusedException if the key already completed a request with a
+     * different review
+     */
+    @Override
+    public Review addNewReview(@NonNull final Review review, final String idempotencyKey) {
         final String restaurantId = review.getRestaurantId();
 
         log.info("Adding new review for restaurantId: {} and accountId: {}",
                 restaurantId, review.getAccountId());
 
+        final IdempotencyStore idempotencyStore = new IdempotencyStore(dynamoDb);
+        final String scopedIdempotencyKey = idempotencyKey != null ? review.getAccountId() + ":" + idempotencyKey : null;
+        final String requestHash = scopedIdempotencyKey != null ? reviewRequestHash(review) : null;
+        if (scopedIdempotencyKey != null) {
+            final Review completedReview = idempotencyStore.getCompletedResult(scopedIdempotencyKey, requestHash, Review.class);
+            if (completedReview != null) {
+                log.info("Review for idempotency key {} was already added, returning stored result", scopedIdempotencyKey);
+                return completedReview;
+            }
+        }
+
         final String identifier = REVIEW_IDENTIFIER_PREFIX + review.getAccountId();
+        final Map<String, AttributeValue> reviewItem = reviewToItem(review);
+
+        // Return the review with the generated reviewId
+        final String reviewId = review.getRestaurantId() + ":" + identifier;
+        final Review addedReview = Review.builder()
+                .reviewId(reviewId)
+                .restaurantId(review.getRestaurantId())
+                .score(review.getScore())
+                .title(review.getTitle())
+                .body(review.getBody())
+                .isoDateTime(review.getIsoDateTime())
+                .accountId(review.getAccountId())
+                .build();
 
+        // Use transactional write with optimistic locking retries
+        final TransactWriteItem idempotencyRecord = scopedIdempotencyKey != null
+                ? IdempotencyStore.recordPut(scopedIdempotencyKey, requestHash, addedReview)
+                : null;
+        if (!addReviewWithTransactionalAggregate(restaurantId, reviewItem, review.getScore(), review.getIsoDateTime(),
+                review.getAccountId(), idempotencyRecord)) {
+            log.info("Review for idempotency key {} was committed by a concurrent request", scopedIdempotencyKey);
+            final Review completedReview = idempotencyStore.getCompletedResult(scopedIdempotencyKey, requestHash, Review.class);
+            if (completedReview == null) {
+                throw new RuntimeException("Idempotency record for key " + scopedIdempotencyKey
+                        + " blocked the write but could not be read back; retry the request");
+            }
+            return completedReview;
+        }
+        return addedReview;
+    }
+
+    private Map<String, AttributeValue> reviewToItem(Review review) {
         final Map<String, AttributeValue> reviewItem = new HashMap<>();
-        reviewItem.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
-        reviewItem.put(IDENTIFIER_KEY, AttributeValue.builder().s(identifier).build());
+        reviewItem.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(review.getRestaurantId()).build());
+        reviewItem.put(IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + review.getAccountId()).build());
         reviewItem.put(SCORE_KEY, AttributeValue.builder().n(review.getScore().toString()).build());
         reviewItem.put(TITLE_KEY, AttributeValue.builder().s(review.getTitle()).build());
         reviewItem.put(BODY_KEY, AttributeValue.builder().s(review.getBody()).build());
         reviewItem.put(IS_REVIEW_KEY, AttributeValue.builder().s(IS_REVIEW_VALUE).build());
 
         if (review.getIsoDateTime() != null) {
-            reviewItem.put(ISO_DATE_TIME, AttributeValue.builder().s(review.getIsoDateTime()).build());
+            reviewItem.put(ISO_DATE_TIME, AttributeValue.builder().s(toStoredIsoDateTime(review.getIsoDateTime())).build());
         }
         if (review.getAccountId() != null) {
             reviewItem.put(ACCOUNT_ID_KEY, AttributeValue.builder().s(review.getAccountId()).build());
         }
+        return reviewItem;
+    }
 
-        // Use transactional write with optimistic locking retries
-        addReviewWithTransactionalAggregate(restaurantId, reviewItem, review.getScore());
+    /**
+     * Imports reviews for seeding and migrations. Reviews the account already wrote for a restaurant are skipped so a
+     * re-run never double counts. Each restaurant's reviews are written in transactions of up to
+     * MAX_IMPORT_REVIEWS_PER_TRANSACTION reviews that also carry the restaurant's folded aggregate and the account
+     * summary updates, so a review is never stored without being counted. Restaurants are imported in parallel.
+     */
+    @Override
+    public ImportReviewsOutput importReviews(@NonNull final List<Review> reviews) {
+        final long startNanos = System.nanoTime();
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final DoubleAdder consumedWcu = new DoubleAdder();
 
-        // Return the review with the generated reviewId
-        final String reviewId = review.getRestaurantId() + ":" + identifier;
-        return Review.builder()
-                .reviewId(reviewId)
-                .restaurantId(review.getRestaurantId())
-                .score(review.getScore())
-                .title(review.getTitle())
-                .body(review.getBody())
-                .isoDateTime(review.getIsoDateTime())
-                .accountId(review.getAccountId())
-                .build();
+        final List<Map<String, AttributeValue>> keys = reviews.stream()
+                .map(review -> rankingsKey(review.getRestaurantId(), REVIEW_IDENTIFIER_PREFIX + review.getAccountId()))
+                .collect(Collectors.toList());
+        final Set<String> existingReviewIds = batchGetRankingsItems(keys, "#pk, #sk", Map.of("#pk", RESTAURANT_ID_KEY, "#sk", IDENTIFIER_KEY))
+                .stream()
+                .map(item -> getStringAttribute(item, RESTAURANT_ID_KEY) + ":" + getStringAttribute(item, IDENTIFIER_KEY))
+                .collect(Collectors.toSet());
+        final List<Review> newReviews = reviews.stream()
+                .filter(review -> !existingReviewIds.contains(review.getRestaurantId() + ":" + REVIEW_IDENTIFIER_PREFIX + review.getAccountId()))
+                .collect(Collectors.toList());
+
+        final Map<String, List<Review>> reviewsByRestaurant = newReviews.stream()
+                .collect(Collectors.groupingBy(Review::getRestaurantId, LinkedHashMap::new, Collectors.toList()));
+        final AtomicInteger importedCount = new AtomicInteger();
+        final AtomicInteger updatedAggregateCount = new AtomicInteger();
+
+        final List<CompletableFuture<Void>> restaurantImports = new ArrayList<>();
+        reviewsByRestaurant.forEach((restaurantId, restaurantReviews) -> restaurantImports.add(CompletableFuture.runAsync(() -> {
+            int imported = 0;
+            for (int i = 0; i < restaurantReviews.size(); i += MAX_IMPORT_REVIEWS_PER_TRANSACTION) {
+                imported += importReviewChunk(restaurantId,
+                        restaurantReviews.subList(i, Math.min(i + MAX_IMPORT_REVIEWS_PER_TRANSACTION, restaurantReviews.size())),
+                        today, consumedWcu);
+            }
+            importedCount.addAndGet(imported);
+            if (imported > 0) {
+                updatedAggregateCount.incrementAndGet();
+            }
+        }, ExecutorUtils.executor())));
+        ExecutorUtils.join(CompletableFuture.allOf(restaurantImports.toArray(new CompletableFuture[0])));
+
+        newReviews.stream()
+                .filter(review -> review.getAccountId() != null && review.getIsoDateTime() != null)
+                .collect(Collectors.groupingBy(Review::getAccountId, Collectors.mapping(
+                        review -> toStoredIsoDateTime(review.getIsoDateTime()),
+                        Collectors.maxBy(Comparator.naturalOrder()))))
+                .forEach((accountId, lastReview) -> advanceLastReview(accountId, lastReview.orElse(null), consumedWcu));
+
+        final long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        final double itemsPerSecond = importedCount.get() * 1000.0 / elapsedMillis;
+        log.info("Imported {} reviews ({} skipped) across {} restaurants in {}ms: {} items/sec, {} WCU",
+                importedCount.get(), reviews.size() - importedCount.get(), updatedAggregateCount.get(), elapsedMillis,
+                String.format("%.1f", itemsPerSecond), consumedWcu.sum());
+
+        return new ImportReviewsOutput(
+                importedCount.get(),
+                reviews.size() - importedCount.get(),
+                updatedAggregateCount.get(),
+                elapsedMillis,
+                itemsPerSecond,
+                consumedWcu.sum()
+        );
+    }
+
+    /**
+     * Writes one restaurant's chunk of imported reviews in a single transaction together with the aggregate they fold
+     * into and the summaries of their accounts. Reviews that turn out to exist already, e.g. from a concurrent add, are
+     * dropped from the chunk; the rest is retried on optimistic locking conflicts the same way a single add is.
+     *
+     * @return the number of reviews written
+     */
+    private int importReviewChunk(String restaurantId, List<Review> chunk, LocalDate today, DoubleAdder consumedWcu) {
+        List<Review> pending = chunk;
+        for (int attempt = 0; attempt < MAX_AGGREGATE_UPDATE_RETRIES && !pending.isEmpty(); attempt++) {
+            final List<TransactWriteItem> transactWriteItems = new ArrayList<>();
+            try {
+                final Map<String, AttributeValue> existingAggregate = getRestaurantAggregate(restaurantId);
+                final AggregateRanking existingAggregateRanking = existingAggregate == null || existingAggregate.isEmpty()
+                        ? null
+                        : AggregateRanking.fromMap(existingAggregate);
+
+                AggregateRanking aggregateRanking = existingAggregateRanking;
+                for (Review review : pending) {
+                    final String reviewDay = AggregateRanking.dayBucket(review.getIsoDateTime(), today);
+                    aggregateRanking = aggregateRanking == null
+                            ? AggregateRanking.forFirstReview(restaurantId, review.getScore(), reviewDay, today)
+                            : aggregateRanking.withNewReview(review.getScore(), reviewDay, today);
+
+                    // The review puts come first so that a cancellation reason index maps straight to its review
+                    transactWriteItems.add(TransactWriteItem.builder().put(Put.builder()
+                            .tableName(RANKINGS_TABLE_NAME)
+                            .item(reviewToItem(review))
+                            .conditionExpression("attribute_not_exists(#pk)")
+                            .expressionAttributeNames(Map.of("#pk", RESTAURANT_ID_KEY))
+                            .build()).build());
+                }
+
+                final Put.Builder aggregatePut = Put.builder()
+                        .tableName(RANKINGS_TABLE_NAME)
+                        .item(aggregateRanking.toMap());
+                if (existingAggregateRanking == null) {
+                    aggregatePut.conditionExpression("attribute_not_exists(#pk)")
+                            .expressionAttributeNames(Map.of("#pk", RESTAURANT_ID_KEY));
+                } else {
+                    aggregatePut.conditionExpression("#reviewCount = :expectedCount")
+                            .expressionAttributeNames(Map.of("#reviewCount", REVIEW_COUNT_KEY))
+                            .expressionAttributeValues(Map.of(
+                                    ":expectedCount", AttributeValue.builder()
+                                            .n(String.valueOf(existingAggregateRanking.getReviewCount()))
+                                            .build()
+                            ));
+                }
+                transactWriteItems.add(TransactWriteItem.builder().put(aggregatePut.build()).build());
+
+                for (Review review : pending) {
+                    if (review.getAccountId() != null) {
+                        transactWriteItems.add(TransactWriteItem.builder()
+                                .update(accountSummaryUpdate(review.getAccountId(), review.getScore(), 1))
+                                .build());
+                    }
+                }
+
+                final TransactWriteItemsResponse response = dynamoDb.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(transactWriteItems)
+                        .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                        .build());
+                if (response != null && response.hasConsumedCapacity()) {
+                    response.consumedCapacity().forEach(capacity -> addConsumedCapacity(consumedWcu, capacity));
+                }
+                AGGREGATE_RETRY_POLICY.onSuccess();
+                log.info("Imported {} reviews into aggregate for restaurantId: {}", pending.size(), restaurantId);
+                return pending.size();
+
+            } catch (TransactionCanceledException e) {
+                final List<Review> remaining = new ArrayList<>();
+                for (int index = 0; index < pending.size(); index++) {
+                    if (!isConditionalCheckFailure(e, index)) {
+                        remaining.add(pending.get(index));
+                    }
+                }
+                if (remaining.size() < pending.size()) {
+                    // Not a conflict: drop the reviews that already exist and write the rest without using up an attempt
+                    log.info("Skipping {} imported reviews for restaurantId: {} that already exist",
+                            pending.size() - remaining.size(), restaurantId);
+                    pending = remaining;
+                    attempt--;
+                    continue;
+                }
+                handleAggregateUpdateOptimisticLockingConflict(restaurantId, attempt, e);
+            }
+        }
+        return 0;
+    }
+
+    private static void addConsumedCapacity(DoubleAdder consumedWcu, ConsumedCapacity capacity) {
+        if (capacity != null && capacity.capacityUnits() != null) {
+            consumedWcu.add(capacity.capacityUnits());
+        }
     }
 
     private Map<String, AttributeValue> getRestaurantAggregate(String restaurantId) {
@@ -258,29 +912,69 @@ public class ReviewDALImpl implements ReviewDAL {
     }
 
     void handleAggregateUpdateOptimisticLockingConflict(String restaurantId, int attempt, Exception e) {
-        log.warn("Transaction conflict for restaurantId: {} on attempt {}/{}, retrying...",
-                restaurantId, attempt + 1, MAX_AGGREGATE_UPDATE_RETRIES);
-
-        if (attempt == MAX_AGGREGATE_UPDATE_RETRIES - 1) {
-            throw new RuntimeException(
+        final RetryPolicy.FailureKind kind = RetryPolicy.classify(e);
+        log.warn("Aggregate update failed for restaurantId: {} on attempt {}/{} ({})",
+                restaurantId, attempt + 1, MAX_AGGREGATE_UPDATE_RETRIES, kind);
+
+        switch (AGGREGATE_RETRY_POLICY.onFailure(attempt, kind)) {
+            case RETRY -> { }
+            case NON_RETRYABLE -> throw new RuntimeException(
+                    "Failed to add/delete review for restaurantId: " + restaurantId + " due to a non-retryable error", e);
+            case BUDGET_EXHAUSTED -> throw new RuntimeException(
+                    "Failed to add/delete review for restaurantId: " + restaurantId +
+                            " after " + (attempt + 1) + " attempts because the retry budget is exhausted", e);
+            default -> throw new RuntimeException(
                     "Failed to add/delete review for restaurantId: " + restaurantId +
-                            " after " + MAX_AGGREGATE_UPDATE_RETRIES + " attempts due to concurrent modifications", e);
+                            " after " + (attempt + 1) + " attempts due to " +
+                            (kind == RetryPolicy.FailureKind.THROTTLED ? "throttling" : "concurrent modifications"), e);
         }
+    }
 
-        try {
-            Thread.sleep((long) (Math.pow(2, attempt) * 10));
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Interrupted during retry backoff", ie);
-        }
+    /**
+     * @return retry counters of every DAL retry policy in this container, keyed by metric name; registered with
+     * {@link EmbeddedMetrics} so each request publishes how much they grew
+     */
+    public static Map<String, Long> retryMetrics() {
+        final Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.putAll(AGGREGATE_RETRY_POLICY.metrics());
+        metrics.putAll(BATCH_GET_RETRY_POLICY.metrics());
+        return metrics;
+    }
+
+    /**
+     * @return the idempotency hash of what the client sent for a review. The server stamps the time and fills in the
+     * review id and user metadata, so those are left out; otherwise a retry of the same request would never match.
+     */
+    static String reviewRequestHash(final Review review) {
+        return IdempotencyStore.requestHash(Review.builder()
+                .restaurantId(review.getRestaurantId())
+                .score(review.getScore())
+                .title(review.getTitle())
+                .body(review.getBody())
+                .accountId(review.getAccountId())
+                .build());
     }
 
     /**
      * Atomically writes a review and updates the aggregate using DynamoDB transactions.
      * Uses optimistic locking on the aggregate with retries for concurrent modifications.
+     *
+     * @param idempotencyRecord the idempotency record to commit with the review, or null
+     * @return false if the idempotency record's condition failed because another request with its key committed first
      */
-    private void addReviewWithTransactionalAggregate(String restaurantId, Map<String, AttributeValue> reviewItem, Double newScore) {
+    private boolean addReviewWithTransactionalAggregate(
+            String restaurantId,
+            Map<String, AttributeValue> reviewItem,
+            Double newScore,
+            String isoDateTime,
+            String accountId,
+            TransactWriteItem idempotencyRecord
+    ) {
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final String reviewDay = AggregateRanking.dayBucket(isoDateTime, today);
+
         for (int attempt = 0; attempt < MAX_AGGREGATE_UPDATE_RETRIES; attempt++) {
+            int idempotencyRecordIndex = -1;
             try {
                 final Map<String, AttributeValue> existingAggregate = getRestaurantAggregate(restaurantId);
 
@@ -294,7 +988,7 @@ public class ReviewDALImpl implements ReviewDAL {
                 final Put aggregatePut;
                 if (existingAggregate == null || existingAggregate.isEmpty()) {
                     // First review for this restaurant
-                    AggregateRanking aggregateRanking = AggregateRanking.forFirstReview(restaurantId, newScore);
+                    AggregateRanking aggregateRanking = AggregateRanking.forFirstReview(restaurantId, newScore, reviewDay, today);
                     aggregatePut = Put.builder()
                             .tableName(RANKINGS_TABLE_NAME)
                             .item(aggregateRanking.toMap())
@@ -305,7 +999,7 @@ public class ReviewDALImpl implements ReviewDAL {
                 } else {
                     // Update existing aggregate
                     AggregateRanking existingAggregateRanking = AggregateRanking.fromMap(existingAggregate);
-                    AggregateRanking newAggregateRanking = existingAggregateRanking.withNewReview(newScore);
+                    AggregateRanking newAggregateRanking = existingAggregateRanking.withNewReview(newScore, reviewDay, today);
                     aggregatePut = Put.builder()
                             .tableName(RANKINGS_TABLE_NAME)
                             .item(newAggregateRanking.toMap())
@@ -321,22 +1015,298 @@ public class ReviewDALImpl implements ReviewDAL {
                             restaurantId, existingAggregateRanking.getReviewCount(), newAggregateRanking.getReviewCount());
                 }
 
-                // Execute transaction - both writes succeed or both fail
+                final List<TransactWriteItem> transactWriteItems = new ArrayList<>(List.of(
+                        TransactWriteItem.builder().put(reviewPut).build(),
+                        TransactWriteItem.builder().put(aggregatePut).build()
+                ));
+                if (accountId != null) {
+                    transactWriteItems.add(TransactWriteItem.builder()
+                            .update(accountSummaryUpdate(accountId, newScore, 1))
+                            .build());
+                }
+                if (idempotencyRecord != null) {
+                    idempotencyRecordIndex = transactWriteItems.size();
+                    transactWriteItems.add(idempotencyRecord);
+                }
+
+                // Execute transaction - all writes succeed or all fail
                 TransactWriteItemsRequest transactRequest = TransactWriteItemsRequest.builder()
-                        .transactItems(
-                                TransactWriteItem.builder().put(reviewPut).build(),
-                                TransactWriteItem.builder().put(aggregatePut).build()
-                        )
+                        .transactItems(transactWriteItems)
                         .build();
 
                 dynamoDb.transactWriteItems(transactRequest);
+                AGGREGATE_RETRY_POLICY.onSuccess();
                 log.info("Successfully added review and updated aggregate for restaurantId: {}", restaurantId);
-                return;
+                advanceLastReview(accountId, toStoredIsoDateTime(isoDateTime), null);
+                return true;
+
+            } catch (TransactionCanceledException e) {
+                if (isConditionalCheckFailure(e, idempotencyRecordIndex)) {
+                    return false;
+                }
+                handleAggregateUpdateOptimisticLockingConflict(restaurantId, attempt, e);
+            }
+        }
+        throw new RuntimeException("Failed to add review for restaurantId: " + restaurantId
+                + " after " + MAX_AGGREGATE_UPDATE_RETRIES + " attempts");
+    }
+
+    /**
+     * Builds the aggregate write that removes one review's score: a conditional Delete when it is the last review,
+     * otherwise a conditional Put of the decremented aggregate. Both are guarded by the optimistic reviewCount check.
+     */
+    private TransactWriteItem aggregateRemovalWrite(
+            String restaurantId,
+            Map<String, AttributeValue> existingAggregate,
+            Double reviewScore,
+            String reviewDay,
+            LocalDate today
+    ) {
+        final AggregateRanking existingAggregateRanking = AggregateRanking.fromMap(existingAggregate);
+        final Map<String, String> conditionNames = Map.of("#reviewCount", REVIEW_COUNT_KEY);
+        final Map<String, AttributeValue> conditionValues = Map.of(
+                ":expectedCount", AttributeValue.builder()
+                        .n(String.valueOf(existingAggregateRanking.getReviewCount()))
+                        .build()
+        );
+
+        if (existingAggregateRanking.getReviewCount() <= 1) {
+            // Last review in aggregate, delete the aggregate
+            final Delete aggregateDelete = Delete.builder()
+                    .tableName(RANKINGS_TABLE_NAME)
+                    .key(rankingsKey(restaurantId, AGGREGATE_IDENTIFIER))
+                    .conditionExpression("#reviewCount = :expectedCount")
+                    .expressionAttributeNames(conditionNames)
+                    .expressionAttributeValues(conditionValues)
+                    .build();
+            return TransactWriteItem.builder().delete(aggregateDelete).build();
+        }
+
+        // Update aggregate by removing this review's score
+        final AggregateRanking newAggregateRanking = existingAggregateRanking.withoutReview(reviewScore, reviewDay, today);
+        final Put aggregatePut = Put.builder()
+                .tableName(RANKINGS_TABLE_NAME)
+                .item(newAggregateRanking.toMap())
+                .conditionExpression("#reviewCount = :expectedCount")
+                .expressionAttributeNames(conditionNames)
+                .expressionAttributeValues(conditionValues)
+                .build();
+        return TransactWriteItem.builder().put(aggregatePut).build();
+    }
+
+    /**
+     * Deletes every review of an account, e.g. when the account is closed. Reviews are read page by page from the
+     * account index and each one is removed together with its restaurant's aggregate adjustment in its own
+     * transaction, with at most MAX_ACCOUNT_PURGE_CONCURRENCY transactions in flight. Since an account has at most one
+     * review per restaurant, the transactions never contend with each other for an aggregate.
+     *
+     * No new reviews are started once the deadline passes. A review whose delete fails is counted and left in place
+     * rather than failing the whole call, and the account summary is always settled with what was actually deleted.
+     * Deleted reviews drop out of the index, so calling this again resumes where the previous call stopped.
+     */
+    @Override
+    public PurgeAccountReviewsOutput purgeAccountReviews(@NonNull final String accountId, @NonNull final Instant deadline) {
+        log.info("Purging reviews for accountId: {}", accountId);
+
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final Semaphore permits = new Semaphore(MAX_ACCOUNT_PURGE_CONCURRENCY);
+        final AtomicInteger deletedCount = new AtomicInteger();
+        final AtomicInteger failedCount = new AtomicInteger();
+        final DoubleAdder deletedScore = new DoubleAdder();
+        final List<CompletableFuture<Void>> purges = new ArrayList<>();
+
+        boolean complete = true;
+        RuntimeException pageFailure = null;
+        Map<String, AttributeValue> exclusiveStartKey = null;
+        try {
+            pages:
+            do {
+                final QueryResponse page = dynamoDb.query(
+                        reviewQuery(ACCOUNT_ID_TIME_INDEX, ACCOUNT_ID_KEY, accountId, ReviewTimeFilter.NONE)
+                                .exclusiveStartKey(exclusiveStartKey)
+                                .build());
+
+                for (Map<String, AttributeValue> reviewItem : page.items()) {
+                    if (Instant.now().isAfter(deadline)) {
+                        complete = false;
+                        break pages;
+                    }
+                    permits.acquireUninterruptibly();
+                    purges.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            if (purgeReview(reviewItem, today)) {
+                                deletedCount.incrementAndGet();
+                                final Double score = getDoubleAttribute(reviewItem, SCORE_KEY);
+                                deletedScore.add(score != null ? score : 0);
+                            }
+                        } catch (RuntimeException e) {
+                            failedCount.incrementAndGet();
+                            log.warn("Failed to purge review of accountId: {} for restaurantId: {}",
+                                    accountId, getStringAttribute(reviewItem, RESTAURANT_ID_KEY), e);
+                        } finally {
+                            permits.release();
+                        }
+                    }, ExecutorUtils.executor()));
+                }
+
+                exclusiveStartKey = page.hasLastEvaluatedKey() && !page.lastEvaluatedKey().isEmpty()
+                        ? page.lastEvaluatedKey()
+                        : null;
+            } while (exclusiveStartKey != null);
+        } catch (RuntimeException e) {
+            // Reviews already in flight still finish and are settled below before the failure is reported
+            pageFailure = e;
+        }
+
+        ExecutorUtils.join(CompletableFuture.allOf(purges.toArray(new CompletableFuture[0])));
+        complete = complete && pageFailure == null && failedCount.get() == 0;
+
+        // The account summary is settled once per call instead of once per review
+        if (complete) {
+            dynamoDb.updateItem(UpdateItemRequest.builder()
+                    .tableName(USER_METADATA_TABLE_NAME)
+                    .key(Map.of(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build()))
+                    .updateExpression("REMOVE #reviewCount, #totalScore, #lastReview")
+                    .expressionAttributeNames(Map.of(
+                            "#reviewCount", REVIEW_COUNT_KEY,
+                            "#totalScore", TOTAL_SCORE_KEY,
+                            "#lastReview", LAST_REVIEW_ISO_DATE_TIME_KEY
+                    ))
+                    .build());
+        } else if (deletedCount.get() > 0) {
+            try {
+                dynamoDb.updateItem(toUpdateItemRequest(
+                        accountSummaryUpdate(accountId, -deletedScore.sum(), -deletedCount.get())).build());
+            } catch (ConditionalCheckFailedException e) {
+                log.warn("Account summary of accountId: {} counts fewer reviews than were purged, leaving it unchanged", accountId);
+            }
+        }
+
+        if (pageFailure != null) {
+            throw pageFailure;
+        }
+
+        log.info("Purged {} reviews for accountId: {} ({} failed, complete: {})",
+                deletedCount.get(), accountId, failedCount.get(), complete);
+        return new PurgeAccountReviewsOutput(deletedCount.get(), failedCount.get(), complete);
+    }
+
+    /**
+     * Deletes one review read from the account index together with its aggregate adjustment.
+     * @return false if the review was already gone, which happens when the index lags behind an earlier purge
+     */
+    private boolean purgeReview(Map<String, AttributeValue> reviewItem, LocalDate today) {
+        final String restaurantId = getStringAttribute(reviewItem, RESTAURANT_ID_KEY);
+        final Double reviewScore = getDoubleAttribute(reviewItem, SCORE_KEY);
+        final String reviewDay = AggregateRanking.dayBucket(getStringAttribute(reviewItem, ISO_DATE_TIME), today);
+        final Map<String, AttributeValue> reviewKey = rankingsKey(restaurantId, getStringAttribute(reviewItem, IDENTIFIER_KEY));
+
+        for (int attempt = 0; attempt < MAX_AGGREGATE_UPDATE_RETRIES; attempt++) {
+            final List<TransactWriteItem> transactWriteItems = new ArrayList<>();
+            try {
+                final Map<String, AttributeValue> existingAggregate = getRestaurantAggregate(restaurantId);
+                if (reviewScore != null && existingAggregate != null && !existingAggregate.isEmpty()) {
+                    transactWriteItems.add(aggregateRemovalWrite(restaurantId, existingAggregate, reviewScore, reviewDay, today));
+                }
+
+                transactWriteItems.add(TransactWriteItem.builder().delete(Delete.builder()
+                        .tableName(RANKINGS_TABLE_NAME)
+                        .key(reviewKey)
+                        .conditionExpression("attribute_exists(#pk)")
+                        .expressionAttributeNames(Map.of("#pk", RESTAURANT_ID_KEY))
+                        .build()).build());
+
+                dynamoDb.transactWriteItems(TransactWriteItemsRequest.builder()
+                        .transactItems(transactWriteItems)
+                        .build());
+                AGGREGATE_RETRY_POLICY.onSuccess();
+                return true;
 
             } catch (TransactionCanceledException e) {
+                if (isConditionalCheckFailure(e, transactWriteItems.size() - 1)) {
+                    log.info("Review {} for restaurantId: {} was already deleted, skipping", reviewKey, restaurantId);
+                    return false;
+                }
                 handleAggregateUpdateOptimisticLockingConflict(restaurantId, attempt, e);
             }
         }
+        return false;
+    }
+
+    /**
+     * Builds the update that keeps the review summary on an account's user metadata item in step with its reviews.
+     * ADD creates the counters on first use, so accounts without a metadata item still get a summary. Removals are
+     * conditional on the summary already counting at least that many reviews, so accounts whose reviews predate the
+     * summary fail the check instead of going negative.
+     */
+    private Update accountSummaryUpdate(String accountId, double scoreDelta, int countDelta) {
+        final Map<String, String> attributeNames = new HashMap<>(Map.of(
+                "#reviewCount", REVIEW_COUNT_KEY,
+                "#totalScore", TOTAL_SCORE_KEY
+        ));
+        final Map<String, AttributeValue> attributeValues = new HashMap<>(Map.of(
+                ":countDelta", AttributeValue.builder().n(String.valueOf(countDelta)).build(),
+                ":scoreDelta", AttributeValue.builder().n(String.valueOf(scoreDelta)).build()
+        ));
+
+        final Update.Builder update = Update.builder()
+                .tableName(USER_METADATA_TABLE_NAME)
+                .key(Map.of(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build()))
+                .updateExpression("ADD #reviewCount :countDelta, #totalScore :scoreDelta");
+        if (countDelta < 0) {
+            attributeValues.put(":minCount", AttributeValue.builder().n(String.valueOf(-countDelta)).build());
+            update.conditionExpression("#reviewCount >= :minCount");
+        }
+        return update
+                .expressionAttributeNames(attributeNames)
+                .expressionAttributeValues(attributeValues)
+                .build();
+    }
+
+    /**
+     * Moves the account's last review time forward to the given time. A review older than the recorded one, such as an
+     * imported backfill, leaves it unchanged. This runs after the review is written and is best effort, since the
+     * summary item cannot take a second, separately conditioned write inside the review transaction.
+     */
+    private void advanceLastReview(String accountId, String isoDateTime, DoubleAdder consumedWcu) {
+        if (accountId == null || isoDateTime == null) {
+            return;
+        }
+        try {
+            final UpdateItemResponse response = dynamoDb.updateItem(UpdateItemRequest.builder()
+                    .tableName(USER_METADATA_TABLE_NAME)
+                    .key(Map.of(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build()))
+                    .updateExpression("SET #lastReview = :lastReview")
+                    .conditionExpression("attribute_not_exists(#lastReview) OR #lastReview < :lastReview")
+                    .expressionAttributeNames(Map.of("#lastReview", LAST_REVIEW_ISO_DATE_TIME_KEY))
+                    .expressionAttributeValues(Map.of(":lastReview", AttributeValue.builder().s(isoDateTime).build()))
+                    .returnConsumedCapacity(consumedWcu != null ? ReturnConsumedCapacity.TOTAL : ReturnConsumedCapacity.NONE)
+                    .build());
+            if (consumedWcu != null) {
+                addConsumedCapacity(consumedWcu, response.consumedCapacity());
+            }
+        } catch (ConditionalCheckFailedException e) {
+            log.debug("Account {} already has a later review than {}", accountId, isoDateTime);
+        } catch (DynamoDbException e) {
+            log.warn("Failed to update the last review time of account {}", accountId, e);
+        }
+    }
+
+    /**
+     * @return whether the transaction was canceled because the condition of the item at the given index failed
+     */
+    private static boolean isConditionalCheckFailure(TransactionCanceledException e, int index) {
+        return index >= 0 && e.hasCancellationReasons() && e.cancellationReasons().size() > index
+                && "ConditionalCheckFailed".equals(e.cancellationReasons().get(index).code());
+    }
+
+    private static UpdateItemRequest.Builder toUpdateItemRequest(Update update) {
+        return UpdateItemRequest.builder()
+                .tableName(update.tableName())
+                .key(update.key())
+                .updateExpression(update.updateExpression())
+                .expressionAttributeNames(update.expressionAttributeNames())
+                .expressionAttributeValues(update.expressionAttributeValues());
     }
 
     // TODO(FRY-114): Once we standardize the Review model, we can refactor this API to require a restaurantId and an
@@ -349,32 +1319,35 @@ public class ReviewDALImpl implements ReviewDAL {
         String restaurantId = keyParts[0];
         String identifier = REVIEW_IDENTIFIER_PREFIX + keyParts[1];
 
-        // First, get the review to find its score (needed for aggregate update)
-        final Map<String, AttributeValue> reviewKey = Map.of(
-                RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build(),
-                IDENTIFIER_KEY, AttributeValue.builder().s(identifier).build()
-        );
-
-        final GetItemRequest getReviewRequest = GetItemRequest.builder()
-                .tableName(RANKINGS_TABLE_NAME)
-                .key(reviewKey)
-                .build();
-
-        final GetItemResponse reviewResponse = dynamoDb.getItem(getReviewRequest);
-        final Map<String, AttributeValue> existingReview = reviewResponse.item();
-
-        if (existingReview == null || existingReview.isEmpty()) {
-            log.warn("Review with reviewId: {} does not exist, skipping delete", reviewId);
-            return false;
-        }
-
-        final Double reviewScore = getDoubleAttribute(existingReview, SCORE_KEY);
+        final Map<String, AttributeValue> reviewKey = rankingsKey(restaurantId, identifier);
+        final Map<String, AttributeValue> aggregateKey = rankingsKey(restaurantId, AGGREGATE_IDENTIFIER);
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        boolean includeAccountSummary = true;
 
         for (int attempt = 0; attempt < MAX_AGGREGATE_UPDATE_RETRIES; attempt++) {
+            final List<TransactWriteItem> transactWriteItems = new ArrayList<>();
+            int accountSummaryIndex = -1;
             try {
-                List<TransactWriteItem> transactWriteItems = new ArrayList<>();
+                // Read the review (for its score) and the aggregate together in one round trip. The transactional read
+                // is a consistent snapshot of both, so a retry after a conflict sees the review and aggregate as of
+                // the same point in time.
+                final TransactGetItemsResponse snapshot = dynamoDb.transactGetItems(TransactGetItemsRequest.builder()
+                        .transactItems(
+                                TransactGetItem.builder().get(Get.builder().tableName(RANKINGS_TABLE_NAME).key(reviewKey).build()).build(),
+                                TransactGetItem.builder().get(Get.builder().tableName(RANKINGS_TABLE_NAME).key(aggregateKey).build()).build()
+                        )
+                        .build());
+                final Map<String, AttributeValue> existingReview = snapshot.responses().get(0).item();
+                final Map<String, AttributeValue> existingAggregate = snapshot.responses().get(1).item();
 
-                final Map<String, AttributeValue> existingAggregate = getRestaurantAggregate(restaurantId);
+                if (existingReview == null || existingReview.isEmpty()) {
+                    log.warn("Review with reviewId: {} does not exist, skipping delete", reviewId);
+                    return false;
+                }
+
+                final Double reviewScore = getDoubleAttribute(existingReview, SCORE_KEY);
+                final String reviewAccountId = getStringAttribute(existingReview, ACCOUNT_ID_KEY);
+                final String reviewDay = AggregateRanking.dayBucket(getStringAttribute(existingReview, ISO_DATE_TIME), today);
 
                 if (existingAggregate == null || existingAggregate.isEmpty()) {
                     log.warn("Aggregate for restaurantId: {} does not exist, deleting review without aggregate update", restaurantId);
@@ -383,41 +1356,7 @@ public class ReviewDALImpl implements ReviewDAL {
                     log.warn("Review with reviewId: {} has no score, deleting review without aggregate update", reviewId);
                     // Just delete the review without updating aggregate
                 } else {
-                    AggregateRanking existingAggregateRanking = AggregateRanking.fromMap(existingAggregate);
-
-                    if (existingAggregateRanking.getReviewCount() <= 1) {
-                        // Last review in aggregate, delete the aggregate
-                        final Delete aggregateDelete = Delete.builder()
-                                .tableName(RANKINGS_TABLE_NAME)
-                                .key(Map.of(
-                                        RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build(),
-                                        IDENTIFIER_KEY, AttributeValue.builder().s(AGGREGATE_IDENTIFIER).build()
-                                ))
-                                .conditionExpression("#reviewCount = :expectedCount")
-                                .expressionAttributeNames(Map.of("#reviewCount", REVIEW_COUNT_KEY))
-                                .expressionAttributeValues(Map.of(
-                                        ":expectedCount", AttributeValue.builder()
-                                                .n(String.valueOf(existingAggregateRanking.getReviewCount()))
-                                                .build()
-                                ))
-                                .build();
-                        transactWriteItems.add(TransactWriteItem.builder().delete(aggregateDelete).build());
-                    } else {
-                        // Update aggregate by removing this review's score
-                        AggregateRanking newAggregateRanking = existingAggregateRanking.withoutReview(reviewScore);
-                        final Put aggregatePut = Put.builder()
-                                .tableName(RANKINGS_TABLE_NAME)
-                                .item(newAggregateRanking.toMap())
-                                .conditionExpression("#reviewCount = :expectedCount")
-                                .expressionAttributeNames(Map.of("#reviewCount", REVIEW_COUNT_KEY))
-                                .expressionAttributeValues(Map.of(
-                                        ":expectedCount", AttributeValue.builder()
-                                                .n(String.valueOf(existingAggregateRanking.getReviewCount()))
-                                                .build()
-                                ))
-                                .build();
-                        transactWriteItems.add(TransactWriteItem.builder().put(aggregatePut).build());
-                    }
+                    transactWriteItems.add(aggregateRemovalWrite(restaurantId, existingAggregate, reviewScore, reviewDay, today));
                 }
 
                 final Delete reviewDelete = Delete.builder()
@@ -428,15 +1367,31 @@ public class ReviewDALImpl implements ReviewDAL {
                         .build();
                 transactWriteItems.add(TransactWriteItem.builder().delete(reviewDelete).build());
 
+                if (includeAccountSummary && reviewAccountId != null && reviewScore != null) {
+                    accountSummaryIndex = transactWriteItems.size();
+                    transactWriteItems.add(TransactWriteItem.builder()
+                            .update(accountSummaryUpdate(reviewAccountId, -reviewScore, -1))
+                            .build());
+                }
+
                 TransactWriteItemsRequest transactRequest = TransactWriteItemsRequest.builder()
                         .transactItems(transactWriteItems)
                         .build();
 
                 dynamoDb.transactWriteItems(transactRequest);
+                AGGREGATE_RETRY_POLICY.onSuccess();
                 log.info("Successfully deleted review and updated aggregate for restaurantId: {}", restaurantId);
                 return true;
 
             } catch (TransactionCanceledException e) {
+                if (isConditionalCheckFailure(e, accountSummaryIndex)) {
+                    // The review predates the account summary; delete it without touching the summary rather than
+                    // drive it negative. This is not a conflict, so it does not use up an attempt.
+                    log.warn("Account summary for reviewId: {} does not count the review, deleting without it", reviewId);
+                    includeAccountSummary = false;
+                    attempt--;
+                    continue;
+                }
                 handleAggregateUpdateOptimisticLockingConflict(restaurantId, attempt, e);
             }
         }
@@ -455,13 +1410,79 @@ public class ReviewDALImpl implements ReviewDAL {
                 .distinct()
                 .collect(Collectors.toList());
 
-        final Map<String, PublicUserMetadata> userMetadataMap = batchFetchUserMetadata(accountIds);
-
+        final UserMetadataBatch userMetadata = getUserMetadata(accountIds);
         final List<Review> reviews = items.parallelStream()
-                .map(item -> mapItemToReview(item, userMetadataMap))
+                .map(item -> mapItemToReview(item, userMetadata.userMetadata()))
                 .collect(Collectors.toList());
 
-        return new GetAllReviewsOutput(reviews);
+        final GetAllReviewsOutput output = new GetAllReviewsOutput(reviews);
+        if (userMetadata.partial()) {
+            output.setPartial(true);
+        }
+        return output;
+    }
+
+    private UserMetadataBatch degradedUserMetadata(final List<String> accountIds, final Duration timeout) {
+        log.warn("User metadata for {} accounts not read within {} ms, answering with cached usernames",
+                accountIds.size(), timeout.toMillis());
+        return new UserMetadataBatch(USER_METADATA_CACHE.getAll(accountIds), true);
+    }
+
+    private List<Review> mapItemsToReviews(List<Map<String, AttributeValue>> items) {
+        return items.stream()
+                .map(item -> mapItemToReview(item, Map.of()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the user metadata of the given accounts in one BatchGetItem wave.
+     *
+     * In degraded mode, enabled by setting a user metadata deadline, the batch runs under its own short sub-deadline so
+     * that a slow user metadata table cannot hold up the listing. Only running out of that sub-deadline degrades: the
+     * container's cached metadata is returned for the accounts it has and the batch is marked partial. Any other
+     * failure, including the request's own deadline running out, is thrown.
+     */
+    @Override
+    public UserMetadataBatch getUserMetadata(@NonNull final List<String> accountIds) {
+        if (USER_METADATA_DEADLINE_MILLIS <= 0 || accountIds.isEmpty()) {
+            return new UserMetadataBatch(batchFetchUserMetadata(accountIds), false);
+        }
+        return getUserMetadataWithin(accountIds, Duration.ofMillis(USER_METADATA_DEADLINE_MILLIS));
+    }
+
+    UserMetadataBatch getUserMetadataWithin(final List<String> accountIds, final Duration timeout) {
+        final Deadline metadataDeadline = Deadline.atMost(timeout);
+        // atMost keeps the request's deadline when that runs out first; running out of it is not a reason to degrade
+        final boolean subDeadline = metadataDeadline != Deadline.current();
+        final CompletableFuture<Map<String, PublicUserMetadata>> fetch = CompletableFuture.supplyAsync(() -> {
+            try {
+                return Deadline.runWithin(metadataDeadline, () -> batchFetchUserMetadata(accountIds));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, ExecutorUtils.executor());
+        try {
+            return new UserMetadataBatch(fetch.get(metadataDeadline.remaining().toMillis(), TimeUnit.MILLISECONDS), false);
+        } catch (TimeoutException e) {
+            if (!subDeadline) {
+                throw new DeadlineExceededException("User metadata was not read before the request deadline");
+            }
+            return degradedUserMetadata(accountIds, timeout);
+        } catch (ExecutionException e) {
+            // The fetch sheds its last call with DeadlineExceededException once the sub-deadline is nearly spent
+            if (subDeadline && e.getCause() instanceof DeadlineExceededException) {
+                return degradedUserMetadata(accountIds, timeout);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to read user metadata", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading user metadata", e);
+        }
     }
 
     /**
@@ -495,7 +1516,7 @@ public class ReviewDALImpl implements ReviewDAL {
     /**
      * Batch fetches user metadata for multiple account IDs.
      */
-    private Map<String, PublicUserMetadata> batchFetchUserMetadata(List<String> accountIds) {
+    private Map<String, PublicUserMetadata> batchFetchUserMetadata(@NonNull final List<String> accountIds) {
         if (accountIds.isEmpty()) {
             return Map.of();
         }
@@ -515,7 +1536,7 @@ public class ReviewDALImpl implements ReviewDAL {
                     .requestItems(Map.of(USER_METADATA_TABLE_NAME, KeysAndAttributes.builder().keys(keys).build()))
                     .build();
 
-            final BatchGetItemResponse batchResponse = dynamoDb.batchGetItem(batchRequest);
+            final BatchGetItemResponse batchResponse = BATCH_GET_HEDGE.execute(() -> dynamoDb.batchGetItem(batchRequest));
             final List<Map<String, AttributeValue>> items = batchResponse.responses().get(USER_METADATA_TABLE_NAME);
 
             if (items != null) {
@@ -529,6 +1550,7 @@ public class ReviewDALImpl implements ReviewDAL {
             }
         }
 
+        USER_METADATA_CACHE.putAll(result);
         return result;
     }
 
@@ -0,0 +1,45 @@
+package com.fryrank.dal;
+
+import com.fryrank.model.PublicUserMetadata;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-container LRU cache of the last user metadata read for each account. Usernames rarely change, so when the user
+ * metadata table is too slow to answer within a listing's sub-deadline, a cached and possibly stale username is a
+ * better answer than none.
+ */
+class UserMetadataCache {
+
+    private final Map<String, PublicUserMetadata> entries;
+
+    UserMetadataCache(final int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PublicUserMetadata> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized void putAll(final Map<String, PublicUserMetadata> userMetadata) {
+        entries.putAll(userMetadata);
+    }
+
+    /**
+     * @return the cached metadata of those accounts that have any
+     */
+    synchronized Map<String, PublicUserMetadata> getAll(final List<String> accountIds) {
+        final Map<String, PublicUserMetadata> cached = new HashMap<>();
+        for (String accountId : accountIds) {
+            final PublicUserMetadata userMetadata = entries.get(accountId);
+            if (userMetadata != null) {
+                cached.put(accountId, userMetadata);
+            }
+        }
+        return cached;
+    }
+}
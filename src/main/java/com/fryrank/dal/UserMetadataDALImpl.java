@@ -1,5 +1,6 @@
 package com.fryrank.dal;
 
+import com.fryrank.model.AccountReviewSummary;
 import com.fryrank.model.PublicUserMetadata;
 import com.fryrank.model.PublicUserMetadataOutput;
 import com.fryrank.util.DynamoDbUtils;
@@ -11,11 +12,16 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Map;
 
 import static com.fryrank.Constants.ACCOUNT_ID_KEY;
+import static com.fryrank.Constants.LAST_REVIEW_ISO_DATE_TIME_KEY;
+import static com.fryrank.Constants.REVIEW_COUNT_KEY;
+import static com.fryrank.Constants.TOTAL_SCORE_KEY;
 import static com.fryrank.Constants.USER_METADATA_TABLE_NAME;
 
 @Repository
@@ -25,6 +31,8 @@ public class UserMetadataDALImpl implements UserMetadataDAL {
 
     private static final String USERNAME_KEY = "username";
 
+    private static final HedgedRead GET_ITEM_HEDGE = new HedgedRead("userMetadata.getItem", 0.95, 10, 0.05);
+
     private final DynamoDbClient dynamoDb;
 
     public UserMetadataDALImpl() {
@@ -62,7 +70,7 @@ public class UserMetadataDALImpl implements UserMetadataDAL {
                 .key(key)
                 .build();
 
-        final GetItemResponse response = dynamoDb.getItem(request);
+        final GetItemResponse response = GET_ITEM_HEDGE.execute(() -> dynamoDb.getItem(request));
         final Map<String, AttributeValue> item = response.item();
 
         if (item == null || item.isEmpty()) {
@@ -71,7 +79,34 @@ public class UserMetadataDALImpl implements UserMetadataDAL {
 
         final AttributeValue usernameAttr = item.get(USERNAME_KEY);
         final String username = (usernameAttr == null) ? null : usernameAttr.s();
-        return new PublicUserMetadataOutput(username);
+        final PublicUserMetadataOutput output = new PublicUserMetadataOutput(username);
+        output.setReviewSummary(mapItemToReviewSummary(item));
+        return output;
+    }
+
+    /**
+     * Reads the review summary that ReviewDALImpl maintains on the user metadata item in the same transaction as each
+     * review write, so profile pages do not need to load every review.
+     */
+    private AccountReviewSummary mapItemToReviewSummary(final Map<String, AttributeValue> item) {
+        final AttributeValue reviewCountAttr = item.get(REVIEW_COUNT_KEY);
+        final AttributeValue totalScoreAttr = item.get(TOTAL_SCORE_KEY);
+        if (reviewCountAttr == null || totalScoreAttr == null) {
+            return null;
+        }
+
+        final int reviewCount = Integer.parseInt(reviewCountAttr.n());
+        if (reviewCount <= 0) {
+            return null;
+        }
+
+        final double averageScore = Double.parseDouble(totalScoreAttr.n()) / reviewCount;
+        final AttributeValue lastReviewAttr = item.get(LAST_REVIEW_ISO_DATE_TIME_KEY);
+        return new AccountReviewSummary(
+                reviewCount,
+                BigDecimal.valueOf(averageScore).setScale(1, RoundingMode.DOWN).floatValue(),
+                lastReviewAttr == null ? null : lastReviewAttr.s()
+        );
     }
 
     // TODO(FRY-137): Consolidate into 1 function
@@ -79,19 +114,20 @@ public class UserMetadataDALImpl implements UserMetadataDAL {
     public PublicUserMetadataOutput upsertPublicUserMetadata(@NonNull final PublicUserMetadata userMetadata) {
         log.info("Upserting public user metadata for accountId: {}", userMetadata.getAccountId());
 
-        final Map<String, AttributeValue> item = Map.of(
-                ACCOUNT_ID_KEY, AttributeValue.builder().s(userMetadata.getAccountId()).build(),
-                USERNAME_KEY, AttributeValue.builder().s(userMetadata.getUsername()).build()
-        );
-
-        final PutItemRequest request = PutItemRequest.builder()
+        // UpdateItem rather than PutItem so the review summary attributes on the same item are preserved
+        final UpdateItemRequest request = UpdateItemRequest.builder()
                 .tableName(USER_METADATA_TABLE_NAME)
-                .item(item)
+                .key(Map.of(ACCOUNT_ID_KEY, AttributeValue.builder().s(userMetadata.getAccountId()).build()))
+                .updateExpression("SET #username = :username")
+                .expressionAttributeNames(Map.of("#username", USERNAME_KEY))
+                .expressionAttributeValues(Map.of(
+                        ":username", AttributeValue.builder().s(userMetadata.getUsername()).build()
+                ))
                 .build();
 
-        dynamoDb.putItem(request);
+        dynamoDb.updateItem(request);
 
-        // DynamoDB PutItem doesn't return the saved item by default
+        // DynamoDB UpdateItem doesn't return the saved item by default
         return new PublicUserMetadataOutput(userMetadata.getUsername());
     }
 }
@@ -0,0 +1,178 @@
+package com.fryrank.domain;
+
+import com.fryrank.dal.ReviewDAL;
+import com.fryrank.model.AggregateReviewFilter;
+import com.fryrank.model.AggregateReviewInformation;
+import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.PublicUserMetadata;
+import com.fryrank.model.Review;
+import com.fryrank.model.UserMetadataBatch;
+import com.fryrank.util.ExecutorUtils;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Request-scoped batching loader for the user metadata and restaurant aggregates a request needs.
+ *
+ * Callers queue every accountId and restaurantId up front and the next {@link #dispatch()} resolves each deduplicated
+ * set with one BatchGetItem wave, running the two waves concurrently. Keys resolved by an earlier dispatch are served
+ * from the loader, so composite and multi-step requests never read the same item twice.
+ *
+ * A loader holds per-request state and is not thread-safe; create a new one for every request.
+ */
+@Log4j2
+public class ReviewDataLoader {
+
+    private final ReviewDAL reviewDAL;
+    private final AggregateReviewFilter aggregateReviewFilter;
+
+    private final Set<String> pendingAccountIds = new LinkedHashSet<>();
+    private final Set<String> pendingRestaurantIds = new LinkedHashSet<>();
+    private final Set<String> resolvedAccountIds = new HashSet<>();
+    private final Set<String> resolvedRestaurantIds = new HashSet<>();
+    private final Map<String, PublicUserMetadata> userMetadata = new HashMap<>();
+    private final Map<String, AggregateReviewInformation> aggregates = new HashMap<>();
+    private boolean partial;
+
+    ReviewDataLoader(@NonNull final ReviewDAL reviewDAL, @NonNull final AggregateReviewFilter aggregateReviewFilter) {
+        this.reviewDAL = reviewDAL;
+        this.aggregateReviewFilter = aggregateReviewFilter;
+    }
+
+    public ReviewDataLoader queueAccountId(final String accountId) {
+        if (accountId != null && !resolvedAccountIds.contains(accountId)) {
+            pendingAccountIds.add(accountId);
+        }
+        return this;
+    }
+
+    public ReviewDataLoader queueRestaurantId(final String restaurantId) {
+        if (restaurantId != null && !resolvedRestaurantIds.contains(restaurantId)) {
+            pendingRestaurantIds.add(restaurantId);
+        }
+        return this;
+    }
+
+    /**
+     * Queues the account of every review. Restaurant aggregates are only queued on request since most review listings
+     * do not display them.
+     */
+    public ReviewDataLoader queueReviews(@NonNull final List<Review> reviews, final boolean includeAggregates) {
+        for (Review review : reviews) {
+            queueAccountId(review.getAccountId());
+            if (includeAggregates) {
+                queueRestaurantId(review.getRestaurantId());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Resolves every queued key. User metadata and aggregates are fetched concurrently, one BatchGetItem wave each.
+     */
+    public void dispatch() {
+        final List<String> accountIds = new ArrayList<>(pendingAccountIds);
+        final List<String> restaurantIds = pendingRestaurantIds.stream().sorted().collect(Collectors.toList());
+        pendingAccountIds.clear();
+        pendingRestaurantIds.clear();
+
+        if (accountIds.isEmpty() && restaurantIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Dispatching batched loads for {} accounts and {} restaurants", accountIds.size(), restaurantIds.size());
+
+        final CompletableFuture<UserMetadataBatch> metadataFuture = accountIds.isEmpty()
+                ? CompletableFuture.completedFuture(new UserMetadataBatch(Map.of(), false))
+                : CompletableFuture.supplyAsync(() -> reviewDAL.getUserMetadata(accountIds), ExecutorUtils.executor());
+
+        if (!restaurantIds.isEmpty()) {
+            aggregates.putAll(reviewDAL.getAggregateReviewInformationForRestaurants(restaurantIds, aggregateReviewFilter)
+                    .getRestaurantIdToRestaurantInformation());
+            resolvedRestaurantIds.addAll(restaurantIds);
+        }
+
+        final UserMetadataBatch metadata = ExecutorUtils.join(metadataFuture);
+        userMetadata.putAll(metadata.userMetadata());
+        if (metadata.partial()) {
+            // Accounts missed by a partial read are left unresolved so a later step can try them again
+            partial = true;
+            accountIds.stream().filter(metadata.userMetadata()::containsKey).forEach(resolvedAccountIds::add);
+        } else {
+            resolvedAccountIds.addAll(accountIds);
+        }
+    }
+
+    public PublicUserMetadata getUserMetadata(final String accountId) {
+        queueAccountId(accountId);
+        if (!pendingAccountIds.isEmpty()) {
+            dispatch();
+        }
+        return accountId != null ? userMetadata.get(accountId) : null;
+    }
+
+    public AggregateReviewInformation getAggregate(final String restaurantId) {
+        queueRestaurantId(restaurantId);
+        if (!pendingRestaurantIds.isEmpty()) {
+            dispatch();
+        }
+        return restaurantId != null ? aggregates.get(restaurantId) : null;
+    }
+
+    /**
+     * @return the aggregates of those restaurants that have one, loading any not yet resolved in a single dispatch
+     * together with whatever else is queued
+     */
+    public Map<String, AggregateReviewInformation> getAggregates(@NonNull final List<String> restaurantIds) {
+        restaurantIds.forEach(this::queueRestaurantId);
+        dispatch();
+        final Map<String, AggregateReviewInformation> result = new HashMap<>();
+        for (String restaurantId : restaurantIds) {
+            final AggregateReviewInformation aggregate = aggregates.get(restaurantId);
+            if (aggregate != null) {
+                result.put(restaurantId, aggregate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns copies of the given reviews with user metadata attached, loading any accounts not yet resolved in a single
+     * dispatch together with whatever else is queued.
+     */
+    public List<Review> withUserMetadata(@NonNull final List<Review> reviews) {
+        queueReviews(reviews, false);
+        dispatch();
+        return reviews.stream()
+                .map(review -> review.getAccountId() == null ? review : review.toBuilder()
+                        .userMetadata(userMetadata.get(review.getAccountId()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Like {@link #withUserMetadata(List)}, wrapped as a listing that is marked partial if any metadata read so far
+     * missed its sub-deadline.
+     */
+    public GetAllReviewsOutput toOutputWithUserMetadata(@NonNull final List<Review> reviews) {
+        final GetAllReviewsOutput output = new GetAllReviewsOutput(withUserMetadata(reviews));
+        if (partial) {
+            output.setPartial(true);
+        }
+        return output;
+    }
+
+    public boolean isPartial() {
+        return partial;
+    }
+}
@@ -1,9 +1,21 @@
 package com.fryrank.domain;
 
+import static com.fryrank.Constants.DEFAULT_FEED_REVIEW_COUNT;
+import static com.fryrank.Constants.DEFAULT_LEADERBOARD_PAGE_SIZE;
+import static com.fryrank.Constants.DEFAULT_TRENDING_COUNT;
+import static com.fryrank.Constants.DEFAULT_TRENDING_WINDOW_DAYS;
+import static com.fryrank.Constants.GET_REVIEWS_BY_ID_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME;
+import static com.fryrank.Constants.IMPORT_REVIEWS_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME;
+import static com.fryrank.Constants.MAX_IDEMPOTENCY_KEY_LENGTH;
 import static com.fryrank.Constants.REVIEW_VALIDATOR_ERRORS_OBJECT_NAME;
+import static com.fryrank.Constants.STALE_CACHE_CAPACITY;
+import static com.fryrank.Constants.STALE_CACHE_MAX_STALENESS_MINUTES;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fryrank.dal.ReviewDAL;
@@ -12,7 +24,19 @@ import com.fryrank.model.AggregateReviewFilter;
 import com.fryrank.model.DeleteReviewRequest;
 import com.fryrank.model.GetAggregateReviewInformationOutput;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.GetRestaurantLeaderboardOutput;
+import com.fryrank.model.GetReviewsByIdRequest;
+import com.fryrank.model.GetTrendingRestaurantsOutput;
+import com.fryrank.model.GetUserReviewStatusOutput;
+import com.fryrank.model.ImportReviewsOutput;
+import com.fryrank.model.ImportReviewsRequest;
+import com.fryrank.model.PurgeAccountReviewsOutput;
 import com.fryrank.model.Review;
+import com.fryrank.model.ReviewTimeFilter;
+import com.fryrank.util.DynamoDbUtils;
+import com.fryrank.util.StaleCache;
+import com.fryrank.validator.GetReviewsByIdRequestValidator;
+import com.fryrank.validator.ImportReviewsRequestValidator;
 import com.fryrank.validator.ReviewValidator;
 import com.fryrank.validator.ValidatorException;
 import com.fryrank.validator.ValidatorUtils;
@@ -25,34 +49,146 @@ import lombok.extern.log4j.Log4j2;
 @AllArgsConstructor
 public class ReviewDomain {
 
+    // Last good results of the most read endpoints, served while DynamoDB is throttling or unreachable.
+    private static final StaleCache<String, GetAllReviewsOutput> RECENT_REVIEWS_CACHE = new StaleCache<>(
+            "recent reviews", STALE_CACHE_CAPACITY, Duration.ofMinutes(STALE_CACHE_MAX_STALENESS_MINUTES), DynamoDbUtils::isOutage,
+            output -> !Boolean.TRUE.equals(output.getPartial()));
+    private static final StaleCache<String, GetAggregateReviewInformationOutput> AGGREGATE_CACHE = new StaleCache<>(
+            "aggregates", STALE_CACHE_CAPACITY, Duration.ofMinutes(STALE_CACHE_MAX_STALENESS_MINUTES), DynamoDbUtils::isOutage);
+
     ReviewDAL reviewDAL;
 
     public GetAllReviewsOutput getAllReviews(final String restaurantId, final String accountId) {
+        return getAllReviews(restaurantId, accountId, ReviewTimeFilter.NONE);
+    }
+
+    public GetAllReviewsOutput getAllReviews(final String restaurantId, final String accountId, @NonNull final ReviewTimeFilter timeFilter) {
 
         log.info("Getting all reviews{}{}",
                 restaurantId != null ? " for restaurantId: " + restaurantId : "",
                 accountId != null ? " for accountId: " + accountId : "");
 
         if (restaurantId != null) {
-            return reviewDAL.getAllReviewsByRestaurantId(restaurantId);
+            return reviewDAL.getAllReviewsByRestaurantId(restaurantId, timeFilter);
         } else if (accountId != null) {
-            return reviewDAL.getAllReviewsByAccountId(accountId);
+            return reviewDAL.getAllReviewsByAccountId(accountId, timeFilter);
         } else {
             throw new NullPointerException("At least one of restaurantId and accountId must not be null.");
         }
     }
 
     public GetAllReviewsOutput getRecentReviews(final Integer count) {
-        return reviewDAL.getRecentReviews(count);
+        return getRecentReviews(count, ReviewTimeFilter.NONE);
+    }
+
+    public GetAllReviewsOutput getRecentReviews(final Integer count, @NonNull final ReviewTimeFilter timeFilter) {
+        return RECENT_REVIEWS_CACHE.get(count + ":" + timeFilter, () -> reviewDAL.getRecentReviews(count, timeFilter));
+    }
+
+    public GetAllReviewsOutput getLatestReviewsForRestaurants(
+            @NonNull final List<String> restaurantIds,
+            final Integer count,
+            @NonNull final ReviewTimeFilter timeFilter
+    ) {
+        final int reviewCount = count != null ? count : DEFAULT_FEED_REVIEW_COUNT;
+
+        log.info("Getting {} latest reviews for restaurantIds: {}", reviewCount, restaurantIds);
+        final List<Review> reviews = reviewDAL.getLatestReviewsForRestaurants(restaurantIds, reviewCount, timeFilter).getReviews();
+        return newDataLoader(false).toOutputWithUserMetadata(reviews);
+    }
+
+    public GetAllReviewsOutput getReviewsById(@NonNull final GetReviewsByIdRequest request) throws ValidatorException {
+        ValidatorUtils.validateAndThrow(request, GET_REVIEWS_BY_ID_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME, new GetReviewsByIdRequestValidator());
+
+        final List<String> reviewIds = request.reviewIds().stream().distinct().collect(Collectors.toList());
+        log.info("Getting {} reviews by id", reviewIds.size());
+        return newDataLoader(false).toOutputWithUserMetadata(reviewDAL.getReviewsByIds(reviewIds).getReviews());
+    }
+
+    public GetUserReviewStatusOutput getUserReviewStatus(
+            @NonNull final List<String> restaurantIds,
+            @NonNull final String accountId,
+            final Boolean includeReview
+    ) {
+        return getUserReviewStatus(restaurantIds, accountId, includeReview, false);
+    }
+
+    /**
+     * Gets the account's review status for each restaurant. The author metadata of the returned reviews and, when
+     * requested, the restaurants' aggregates are resolved together by one loader dispatch.
+     */
+    public GetUserReviewStatusOutput getUserReviewStatus(
+            @NonNull final List<String> restaurantIds,
+            @NonNull final String accountId,
+            final Boolean includeReview,
+            final Boolean includeRating
+    ) {
+        final boolean withReview = includeReview != null && includeReview;
+        final boolean withAggregates = includeRating != null && includeRating;
+        final GetUserReviewStatusOutput status = reviewDAL.getUserReviewStatus(restaurantIds, accountId, withReview);
+        if (!withReview && !withAggregates) {
+            return status;
+        }
+
+        // Queue the aggregates first so they load in the same dispatch as the review authors' metadata
+        final ReviewDataLoader loader = newDataLoader(true);
+        if (withAggregates) {
+            restaurantIds.forEach(loader::queueRestaurantId);
+        }
+        Map<String, Review> restaurantIdToReview = status.getRestaurantIdToReview();
+        if (restaurantIdToReview != null) {
+            final List<String> reviewedIds = List.copyOf(restaurantIdToReview.keySet());
+            final List<Review> reviews = loader.withUserMetadata(
+                    reviewedIds.stream().map(restaurantIdToReview::get).collect(Collectors.toList()));
+            restaurantIdToReview = new HashMap<>();
+            for (int i = 0; i < reviewedIds.size(); i++) {
+                restaurantIdToReview.put(reviewedIds.get(i), reviews.get(i));
+            }
+        }
+
+        final GetUserReviewStatusOutput output = new GetUserReviewStatusOutput(status.getRestaurantIdToHasReviewed(), restaurantIdToReview);
+        if (withAggregates) {
+            output.setRestaurantIdToRestaurantInformation(loader.getAggregates(restaurantIds));
+        }
+        return output;
     }
 
     public GetAggregateReviewInformationOutput getAggregateReviewInformationForRestaurants(
-            String ids,
+            List<String> ids,
             Boolean includeRating
     ) {
-        List<String> parsedIDs = Arrays.stream(ids.split(",")).sorted().collect(Collectors.toList());
-        AggregateReviewFilter filter = new AggregateReviewFilter(includeRating != null ? includeRating : false);
-        return reviewDAL.getAggregateReviewInformationForRestaurants(parsedIDs, filter);
+        return getAggregateReviewInformationForRestaurants(ids, includeRating, false);
+    }
+
+    public GetAggregateReviewInformationOutput getAggregateReviewInformationForRestaurants(
+            List<String> ids,
+            Boolean includeRating,
+            Boolean includeHistogram
+    ) {
+        List<String> sortedIds = ids.stream().sorted().collect(Collectors.toList());
+        AggregateReviewFilter filter = new AggregateReviewFilter(
+                includeRating != null ? includeRating : false,
+                includeHistogram != null ? includeHistogram : false);
+        return AGGREGATE_CACHE.get(sortedIds + ":" + filter,
+                () -> reviewDAL.getAggregateReviewInformationForRestaurants(sortedIds, filter));
+    }
+
+    public GetRestaurantLeaderboardOutput getRestaurantLeaderboard(final Integer count, final String pageToken) {
+        final int pageSize = count != null ? count : DEFAULT_LEADERBOARD_PAGE_SIZE;
+        return reviewDAL.getRestaurantLeaderboard(pageSize, pageToken);
+    }
+
+    public GetTrendingRestaurantsOutput getTrendingRestaurants(final Integer windowDays, final Integer count) {
+        final int days = windowDays != null ? windowDays : DEFAULT_TRENDING_WINDOW_DAYS;
+        final int restaurantCount = count != null ? count : DEFAULT_TRENDING_COUNT;
+        return reviewDAL.getTrendingRestaurants(days, restaurantCount);
+    }
+
+    /**
+     * Creates a request-scoped loader that batches user metadata and aggregate lookups across every step of a request.
+     */
+    public ReviewDataLoader newDataLoader(final Boolean includeRating) {
+        return new ReviewDataLoader(reviewDAL, new AggregateReviewFilter(includeRating != null ? includeRating : false));
     }
 
     public Review addNewReviewForRestaurant(@NonNull final Review review) throws ValidatorException {
@@ -60,9 +196,38 @@ public class ReviewDomain {
         return reviewDAL.addNewReview(review);
     }
 
+    public Review addNewReviewForRestaurant(@NonNull final Review review, @NonNull final String idempotencyKey) throws ValidatorException {
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters.");
+        }
+
+        ValidatorUtils.validateAndThrow(review, REVIEW_VALIDATOR_ERRORS_OBJECT_NAME, new ReviewValidator());
+        return reviewDAL.addNewReview(review, idempotencyKey);
+    }
+
+    public ImportReviewsOutput importReviews(@NonNull final ImportReviewsRequest request) throws ValidatorException {
+        ValidatorUtils.validateAndThrow(request, IMPORT_REVIEWS_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME, new ImportReviewsRequestValidator());
+
+        log.info("Importing {} reviews", request.reviews().size());
+        return reviewDAL.importReviews(request.reviews());
+    }
+
     public void deleteReview(@NonNull final DeleteReviewRequest reviewIDString) throws NotFoundException {
         if (!reviewDAL.deleteUserReview(reviewIDString)) {
             throw new NotFoundException("Review not found in database.");
         }
     }
+
+    /**
+     * Deletes the account's reviews until the time budget runs out. A result that is not complete can be resumed by
+     * calling again.
+     */
+    public PurgeAccountReviewsOutput purgeAccountReviews(@NonNull final String accountId, @NonNull final Duration budget) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Not enough time remaining to purge reviews.");
+        }
+
+        log.info("Purging reviews for accountId: {} within {}ms", accountId, budget.toMillis());
+        return reviewDAL.purgeAccountReviews(accountId, Instant.now().plus(budget));
+    }
 }
@@ -11,48 +11,63 @@ import com.fryrank.model.exceptions.AuthorizationDisabledException;
 import com.fryrank.model.exceptions.NotAuthorizedException;
 import com.fryrank.util.APIGatewayResponseBuilder;
 import com.fryrank.util.Authorizer;
+import com.fryrank.util.ExecutorUtils;
 import com.fryrank.util.HeaderUtils;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.InitOrchestrator;
+import com.fryrank.util.WarmUp;
 import com.fryrank.validator.ReviewValidator;
+import com.fryrank.validator.RouteSpec;
 import com.fryrank.validator.ValidatorUtils;
 import com.google.gson.Gson;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.fryrank.Constants.REVIEW_VALIDATOR_ERRORS_OBJECT_NAME;
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 
 @Log4j2
 public class AddNewReviewForRestaurantHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
 
+    public static final RouteSpec ROUTE = RouteSpec.builder().body().build();
+
     private final ReviewDALImpl reviewDAL;
     private final ReviewDomain reviewDomain;
-    private final APIGatewayRequestValidator requestValidator;
     private final ReviewValidator reviewValidator;
     private final Authorizer authorizer;
 
     public AddNewReviewForRestaurantHandler() {
-        reviewDAL = new ReviewDALImpl();
+        final InitOrchestrator init = new InitOrchestrator(getClass().getSimpleName());
+        final CompletableFuture<ReviewDALImpl> reviewDALInit = init.start("dynamoDbClient", ReviewDALImpl::new);
+        final CompletableFuture<Authorizer> authorizerInit = Authorizer.initialize(init);
+        init.join();
+
+        reviewDAL = ExecutorUtils.join(reviewDALInit);
         reviewDomain = new ReviewDomain(reviewDAL);
-        requestValidator = new APIGatewayRequestValidator();
         reviewValidator = new ReviewValidator();
-        authorizer = new Authorizer();
+        authorizer = ExecutorUtils.join(authorizerInit);
     }
 
-    public AddNewReviewForRestaurantHandler(ReviewDALImpl reviewDAL, ReviewDomain reviewDomain, APIGatewayRequestValidator requestValidator, ReviewValidator reviewValidator, Authorizer authorizer) {
+    public AddNewReviewForRestaurantHandler(ReviewDALImpl reviewDAL, ReviewDomain reviewDomain, ReviewValidator reviewValidator, Authorizer authorizer) {
         this.reviewDAL = reviewDAL;
         this.reviewDomain = reviewDomain;
-        this.requestValidator = requestValidator;
         this.reviewValidator = reviewValidator;
         this.authorizer = authorizer;
     }
 
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName(), authorizer::primePublicKeys);
+        }
         log.info("Handling request: {}", input);
         
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            ROUTE.parse(input);
 
             final Review review = new Gson().fromJson(input.getBody(), Review.class);
 
@@ -71,7 +86,11 @@ public class AddNewReviewForRestaurantHandler implements RequestHandler<APIGatew
 
             ValidatorUtils.validateAndThrow(review, REVIEW_VALIDATOR_ERRORS_OBJECT_NAME, reviewValidator);
 
-            final Review output = reviewDomain.addNewReviewForRestaurant(review);
+            // Retries carrying the same Idempotency-Key are applied at most once
+            final String idempotencyKey = HeaderUtils.extractIdempotencyKey(input);
+            final Review output = idempotencyKey != null
+                    ? reviewDomain.addNewReviewForRestaurant(review, idempotencyKey)
+                    : reviewDomain.addNewReviewForRestaurant(review);
 
             log.info("Request processed successfully");
             return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
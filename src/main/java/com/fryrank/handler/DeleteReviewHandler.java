@@ -8,8 +8,10 @@ import com.fryrank.dal.ReviewDALImpl;
 import com.fryrank.domain.ReviewDomain;
 import com.fryrank.model.DeleteReviewRequest;
 import com.fryrank.util.APIGatewayResponseBuilder;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
 import com.fryrank.validator.DeleteReviewRequestValidator;
+import com.fryrank.validator.RouteSpec;
 import com.fryrank.validator.ValidatorUtils;
 import com.google.gson.Gson;
 import lombok.extern.log4j.Log4j2;
@@ -18,32 +20,38 @@ import static com.fryrank.Constants.DELETE_REVIEW_REQUEST_VALIDATOR_ERRORS_OBJEC
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 @Log4j2
 public class DeleteReviewHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder().body().build();
+
     private final ReviewDALImpl reviewDAL;
     private final ReviewDomain reviewDomain;
-    private final APIGatewayRequestValidator requestValidator;
     private final DeleteReviewRequestValidator deleteReviewRequestValidator;
     
     public DeleteReviewHandler() {
         reviewDAL = new ReviewDALImpl();
         reviewDomain = new ReviewDomain(reviewDAL);
-        requestValidator = new APIGatewayRequestValidator();
         deleteReviewRequestValidator = new DeleteReviewRequestValidator();
     }
 
-    public DeleteReviewHandler(ReviewDALImpl reviewDAL, ReviewDomain reviewDomain, APIGatewayRequestValidator requestValidator, DeleteReviewRequestValidator deleteReviewRequestValidator) {
+    public DeleteReviewHandler(ReviewDALImpl reviewDAL, ReviewDomain reviewDomain, DeleteReviewRequestValidator deleteReviewRequestValidator) {
         this.reviewDAL = reviewDAL;
         this.reviewDomain = reviewDomain;
-        this.requestValidator = requestValidator;
         this.deleteReviewRequestValidator = deleteReviewRequestValidator;
     }
 
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
         log.info("Handling request: {}", input);
 
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            ROUTE.parse(input);
             
             final DeleteReviewRequest reviewId = new Gson().fromJson(input.getBody(), DeleteReviewRequest.class);
             ValidatorUtils.validateAndThrow(reviewId, DELETE_REVIEW_REQUEST_VALIDATOR_ERRORS_OBJECT_NAME, deleteReviewRequestValidator);
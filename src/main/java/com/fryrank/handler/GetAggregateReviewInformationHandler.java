@@ -7,40 +7,52 @@ import com.fryrank.dal.ReviewDAL;
 import com.fryrank.dal.ReviewDALImpl;
 import com.fryrank.domain.ReviewDomain;
 import com.fryrank.model.GetAggregateReviewInformationOutput;
+import com.fryrank.model.RequestParams;
 import com.fryrank.model.enums.QueryParam;
 import com.fryrank.util.APIGatewayResponseBuilder;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.Map;
-
+import static com.fryrank.Constants.MAX_AGGREGATE_RESTAURANT_IDS;
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 
 @Log4j2
 public class GetAggregateReviewInformationHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
 
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .requiredIds(QueryParam.IDS, MAX_AGGREGATE_RESTAURANT_IDS)
+            .optionalBoolean(QueryParam.INCLUDE_RATING)
+            .optionalBoolean(QueryParam.INCLUDE_HISTOGRAM)
+            .build();
+
     private final ReviewDomain reviewDomain;
     private final ReviewDAL reviewDAL;
-    private final APIGatewayRequestValidator requestValidator;
 
     public GetAggregateReviewInformationHandler() {
         reviewDAL = new ReviewDALImpl();
         reviewDomain = new ReviewDomain(reviewDAL);
-        requestValidator = new APIGatewayRequestValidator();
     }
 
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
         log.info("Handling request: {}", input);
 
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
 
-            Map<String, String> params = input.getQueryStringParameters();
             final GetAggregateReviewInformationOutput output = reviewDomain.getAggregateReviewInformationForRestaurants(
-                params.get(QueryParam.IDS.getValue()),
-                Boolean.parseBoolean(params.getOrDefault(QueryParam.INCLUDE_RATING.getValue(), "false"))
+                params.getIds(QueryParam.IDS),
+                params.getBoolean(QueryParam.INCLUDE_RATING),
+                params.getBoolean(QueryParam.INCLUDE_HISTOGRAM)
             );
 
             log.info("Request processed successfully");
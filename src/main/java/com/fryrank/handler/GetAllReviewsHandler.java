@@ -7,40 +7,66 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
 import com.fryrank.dal.ReviewDALImpl;
 import com.fryrank.domain.ReviewDomain;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.ReviewTimeFilter;
 import com.fryrank.model.enums.QueryParam;
 import com.fryrank.util.APIGatewayResponseBuilder;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.Map;
-
+import static com.fryrank.Constants.MAX_FEED_RESTAURANT_IDS;
+import static com.fryrank.Constants.MAX_FEED_REVIEW_COUNT;
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 
 @Log4j2
 public class GetAllReviewsHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
 
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .optionalString(QueryParam.RESTAURANT_ID)
+            .optionalString(QueryParam.ACCOUNT_ID)
+            .optionalIds(QueryParam.RESTAURANT_IDS, MAX_FEED_RESTAURANT_IDS)
+            .optionalInteger(QueryParam.COUNT, 1, MAX_FEED_REVIEW_COUNT)
+            .atLeastOneOf(QueryParam.RESTAURANT_ID, QueryParam.ACCOUNT_ID, QueryParam.RESTAURANT_IDS)
+            .timeRange()
+            .build();
+
     private final ReviewDALImpl reviewDAL;
     private final ReviewDomain reviewDomain;
-    private final APIGatewayRequestValidator requestValidator;
 
     public GetAllReviewsHandler() {
         reviewDAL = new ReviewDALImpl();
         reviewDomain = new ReviewDomain(reviewDAL);
-        requestValidator = new APIGatewayRequestValidator();
     }
 
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
         log.info("Handling request: {}", input);
 
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
 
-            Map<String, String> params = input.getQueryStringParameters();
-            final GetAllReviewsOutput output = reviewDomain.getAllReviews(
-                    params.get(QueryParam.RESTAURANT_ID.getValue()),
-                    params.get(QueryParam.ACCOUNT_ID.getValue()));
+            final ReviewTimeFilter timeFilter = params.getTimeFilter();
+            final GetAllReviewsOutput output;
+            if (params.has(QueryParam.RESTAURANT_IDS)) {
+                output = reviewDomain.getLatestReviewsForRestaurants(
+                        params.getIds(QueryParam.RESTAURANT_IDS),
+                        params.getInteger(QueryParam.COUNT),
+                        timeFilter);
+            } else {
+                output = reviewDomain.getAllReviews(
+                        params.getString(QueryParam.RESTAURANT_ID),
+                        params.getString(QueryParam.ACCOUNT_ID),
+                        timeFilter);
+            }
 
             log.info("Request processed successfully");
             return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
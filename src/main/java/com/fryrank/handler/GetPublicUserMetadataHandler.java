@@ -8,9 +8,12 @@ import com.fryrank.dal.UserMetadataDAL;
 import com.fryrank.dal.UserMetadataDALImpl;
 import com.fryrank.domain.UserMetadataDomain;
 import com.fryrank.model.PublicUserMetadataOutput;
+import com.fryrank.model.RequestParams;
 import com.fryrank.model.enums.QueryParam;
 import com.fryrank.util.APIGatewayResponseBuilder;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
 import lombok.extern.log4j.Log4j2;
 
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
@@ -18,26 +21,34 @@ import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 @Log4j2
 public class GetPublicUserMetadataHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
 
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .requiredString(QueryParam.ACCOUNT_ID)
+            .build();
+
     private final UserMetadataDAL userMetadataDAL;
     private final UserMetadataDomain userMetadataDomain;
-    private final APIGatewayRequestValidator requestValidator;
 
     public GetPublicUserMetadataHandler() {
         userMetadataDAL = new UserMetadataDALImpl();
         userMetadataDomain = new UserMetadataDomain(userMetadataDAL);
-        requestValidator = new APIGatewayRequestValidator();
     }
 
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
         log.info("Handling request: {}", input);
 
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
 
             final PublicUserMetadataOutput output = userMetadataDomain.getPublicUserMetadata(
-                    input.getQueryStringParameters().getOrDefault(QueryParam.ACCOUNT_ID.getValue(), null));
+                    params.getString(QueryParam.ACCOUNT_ID));
 
             log.info("Request processed successfully");
             return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
@@ -7,36 +7,51 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
 import com.fryrank.dal.ReviewDALImpl;
 import com.fryrank.domain.ReviewDomain;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.ReviewTimeFilter;
 import com.fryrank.model.enums.QueryParam;
 import com.fryrank.util.APIGatewayResponseBuilder;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
 import lombok.extern.log4j.Log4j2;
 
+import static com.fryrank.Constants.MAX_RECENT_REVIEW_COUNT;
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 
 @Log4j2
 public class GetRecentReviewsHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
 
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .requiredInteger(QueryParam.COUNT, 1, MAX_RECENT_REVIEW_COUNT)
+            .optionalInstant(QueryParam.SINCE)
+            .build();
+
     private final ReviewDALImpl reviewDAL;
     private final ReviewDomain reviewDomain;
-    private final APIGatewayRequestValidator requestValidator;
 
     public GetRecentReviewsHandler() {
         reviewDAL = new ReviewDALImpl();
         reviewDomain = new ReviewDomain(reviewDAL);
-        requestValidator = new APIGatewayRequestValidator();
     }
     
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
         log.info("Handling request: {}", input);
 
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
 
             final GetAllReviewsOutput output = reviewDomain.getRecentReviews(
-                    Integer.parseInt(input.getQueryStringParameters().get(QueryParam.COUNT.getValue())));
+                    params.getInteger(QueryParam.COUNT),
+                    ReviewTimeFilter.builder().since(params.getString(QueryParam.SINCE)).build());
 
             log.info("Request processed successfully");
             return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
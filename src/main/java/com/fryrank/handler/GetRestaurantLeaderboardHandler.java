@@ -0,0 +1,59 @@
+package com.fryrank.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.GetRestaurantLeaderboardOutput;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.enums.QueryParam;
+import com.fryrank.util.APIGatewayResponseBuilder;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
+import lombok.extern.log4j.Log4j2;
+
+import static com.fryrank.Constants.MAX_LEADERBOARD_PAGE_SIZE;
+import static com.fryrank.util.HeaderUtils.createCorsHeaders;
+
+@Log4j2
+public class GetRestaurantLeaderboardHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .optionalInteger(QueryParam.COUNT, 1, MAX_LEADERBOARD_PAGE_SIZE)
+            .optionalString(QueryParam.PAGE_TOKEN)
+            .build();
+
+    private final ReviewDALImpl reviewDAL;
+    private final ReviewDomain reviewDomain;
+
+    public GetRestaurantLeaderboardHandler() {
+        reviewDAL = new ReviewDALImpl();
+        reviewDomain = new ReviewDomain(reviewDAL);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
+        log.info("Handling request: {}", input);
+
+        final String handlerName = getClass().getSimpleName();
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
+
+            final GetRestaurantLeaderboardOutput output = reviewDomain.getRestaurantLeaderboard(
+                    params.getInteger(QueryParam.COUNT),
+                    params.getString(QueryParam.PAGE_TOKEN));
+
+            log.info("Request processed successfully");
+            return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
+        });
+    }
+}
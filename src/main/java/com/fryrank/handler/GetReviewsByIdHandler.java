@@ -0,0 +1,58 @@
+package com.fryrank.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.GetReviewsByIdRequest;
+import com.fryrank.util.APIGatewayResponseBuilder;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
+import com.google.gson.Gson;
+import lombok.extern.log4j.Log4j2;
+
+import static com.fryrank.util.HeaderUtils.createCorsHeaders;
+
+/**
+ * POST endpoint for loading specific reviews by id. The ids travel in the body since several hundred of them would not
+ * fit in a query string.
+ */
+@Log4j2
+public class GetReviewsByIdHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder().body().build();
+
+    private final ReviewDALImpl reviewDAL;
+    private final ReviewDomain reviewDomain;
+
+    public GetReviewsByIdHandler() {
+        reviewDAL = new ReviewDALImpl();
+        reviewDomain = new ReviewDomain(reviewDAL);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
+        log.info("Handling request: {}", input);
+
+        final String handlerName = getClass().getSimpleName();
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            ROUTE.parse(input);
+
+            final GetReviewsByIdRequest request = new Gson().fromJson(input.getBody(), GetReviewsByIdRequest.class);
+            final GetAllReviewsOutput output = reviewDomain.getReviewsById(request);
+
+            log.info("Request processed successfully");
+            return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.fryrank.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.GetTrendingRestaurantsOutput;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.enums.QueryParam;
+import com.fryrank.util.APIGatewayResponseBuilder;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
+import lombok.extern.log4j.Log4j2;
+
+import static com.fryrank.Constants.MAX_TRENDING_COUNT;
+import static com.fryrank.Constants.MAX_TRENDING_WINDOW_DAYS;
+import static com.fryrank.util.HeaderUtils.createCorsHeaders;
+
+@Log4j2
+public class GetTrendingRestaurantsHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .optionalInteger(QueryParam.WINDOW_DAYS, 1, MAX_TRENDING_WINDOW_DAYS)
+            .optionalInteger(QueryParam.COUNT, 1, MAX_TRENDING_COUNT)
+            .build();
+
+    private final ReviewDALImpl reviewDAL;
+    private final ReviewDomain reviewDomain;
+
+    public GetTrendingRestaurantsHandler() {
+        reviewDAL = new ReviewDALImpl();
+        reviewDomain = new ReviewDomain(reviewDAL);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
+        log.info("Handling request: {}", input);
+
+        final String handlerName = getClass().getSimpleName();
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
+
+            final GetTrendingRestaurantsOutput output = reviewDomain.getTrendingRestaurants(
+                    params.getInteger(QueryParam.WINDOW_DAYS),
+                    params.getInteger(QueryParam.COUNT));
+
+            log.info("Request processed successfully");
+            return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
+        });
+    }
+}
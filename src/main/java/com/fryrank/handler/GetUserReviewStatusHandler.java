@@ -0,0 +1,63 @@
+package com.fryrank.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.GetUserReviewStatusOutput;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.enums.QueryParam;
+import com.fryrank.util.APIGatewayResponseBuilder;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
+import lombok.extern.log4j.Log4j2;
+
+import static com.fryrank.Constants.MAX_REVIEW_STATUS_RESTAURANT_IDS;
+import static com.fryrank.util.HeaderUtils.createCorsHeaders;
+
+@Log4j2
+public class GetUserReviewStatusHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .requiredString(QueryParam.ACCOUNT_ID)
+            .requiredIds(QueryParam.RESTAURANT_IDS, MAX_REVIEW_STATUS_RESTAURANT_IDS)
+            .optionalBoolean(QueryParam.INCLUDE_REVIEW)
+            .optionalBoolean(QueryParam.INCLUDE_RATING)
+            .build();
+
+    private final ReviewDALImpl reviewDAL;
+    private final ReviewDomain reviewDomain;
+
+    public GetUserReviewStatusHandler() {
+        reviewDAL = new ReviewDALImpl();
+        reviewDomain = new ReviewDomain(reviewDAL);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
+        log.info("Handling request: {}", input);
+
+        final String handlerName = getClass().getSimpleName();
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
+
+            final GetUserReviewStatusOutput output = reviewDomain.getUserReviewStatus(
+                    params.getIds(QueryParam.RESTAURANT_IDS),
+                    params.getString(QueryParam.ACCOUNT_ID),
+                    params.getBoolean(QueryParam.INCLUDE_REVIEW),
+                    params.getBoolean(QueryParam.INCLUDE_RATING));
+
+            log.info("Request processed successfully");
+            return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
+        });
+    }
+}
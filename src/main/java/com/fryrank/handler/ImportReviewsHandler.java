@@ -0,0 +1,93 @@
+package com.fryrank.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.ImportReviewsOutput;
+import com.fryrank.model.ImportReviewsRequest;
+import com.fryrank.model.Review;
+import com.fryrank.model.exceptions.AuthorizationDisabledException;
+import com.fryrank.model.exceptions.NotAuthorizedException;
+import com.fryrank.util.APIGatewayResponseBuilder;
+import com.fryrank.util.Authorizer;
+import com.fryrank.util.ExecutorUtils;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.InitOrchestrator;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
+import com.google.gson.Gson;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.fryrank.util.HeaderUtils.createCorsHeaders;
+
+@Log4j2
+public class ImportReviewsHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder().body().build();
+
+    private final ReviewDALImpl reviewDAL;
+    private final ReviewDomain reviewDomain;
+    private final Authorizer authorizer;
+
+    public ImportReviewsHandler() {
+        final InitOrchestrator init = new InitOrchestrator(getClass().getSimpleName());
+        final CompletableFuture<ReviewDALImpl> reviewDALInit = init.start("dynamoDbClient", ReviewDALImpl::new);
+        final CompletableFuture<Authorizer> authorizerInit = Authorizer.initialize(init);
+        init.join();
+
+        reviewDAL = ExecutorUtils.join(reviewDALInit);
+        reviewDomain = new ReviewDomain(reviewDAL);
+        authorizer = ExecutorUtils.join(authorizerInit);
+    }
+
+    public ImportReviewsHandler(ReviewDALImpl reviewDAL, ReviewDomain reviewDomain, Authorizer authorizer) {
+        this.reviewDAL = reviewDAL;
+        this.reviewDomain = reviewDomain;
+        this.authorizer = authorizer;
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName(), authorizer::primePublicKeys);
+        }
+        log.info("Handling request: {}", input);
+
+        final String handlerName = getClass().getSimpleName();
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            ROUTE.parse(input);
+
+            final ImportReviewsRequest request = new Gson().fromJson(input.getBody(), ImportReviewsRequest.class);
+
+            // An authorized caller can only import their own reviews
+            try {
+                final String token = HeaderUtils.extractBearerToken(input);
+                final String authorizedAccountId = authorizer.authorizeAndGetAccountId(token);
+                if (request.reviews() != null) {
+                    for (Review review : request.reviews()) {
+                        if (review != null) {
+                            review.setAccountId(authorizedAccountId);
+                        }
+                    }
+                }
+            } catch (NotAuthorizedException e) {
+                return APIGatewayResponseBuilder.buildErrorResponse(401, e.getMessage());
+            } catch (AuthorizationDisabledException e) {
+                log.info("Authorization disabled, using accountIds from request body");
+            }
+
+            final ImportReviewsOutput output = reviewDomain.importReviews(request);
+
+            log.info("Request processed successfully");
+            return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
+        });
+    }
+}
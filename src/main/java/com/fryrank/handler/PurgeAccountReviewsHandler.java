@@ -0,0 +1,101 @@
+package com.fryrank.handler;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.PurgeAccountReviewsOutput;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.enums.QueryParam;
+import com.fryrank.model.exceptions.AuthorizationDisabledException;
+import com.fryrank.model.exceptions.NotAuthorizedException;
+import com.fryrank.util.APIGatewayResponseBuilder;
+import com.fryrank.util.Authorizer;
+import com.fryrank.util.ExecutorUtils;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.InitOrchestrator;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static com.fryrank.Constants.ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS;
+import static com.fryrank.Constants.DEFAULT_ACCOUNT_PURGE_BUDGET_MILLIS;
+import static com.fryrank.util.HeaderUtils.createCorsHeaders;
+
+@Log4j2
+public class PurgeAccountReviewsHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    public static final RouteSpec ROUTE = RouteSpec.builder()
+            .optionalString(QueryParam.ACCOUNT_ID)
+            .build();
+
+    private final ReviewDALImpl reviewDAL;
+    private final ReviewDomain reviewDomain;
+    private final Authorizer authorizer;
+
+    public PurgeAccountReviewsHandler() {
+        final InitOrchestrator init = new InitOrchestrator(getClass().getSimpleName());
+        final CompletableFuture<ReviewDALImpl> reviewDALInit = init.start("dynamoDbClient", ReviewDALImpl::new);
+        final CompletableFuture<Authorizer> authorizerInit = Authorizer.initialize(init);
+        init.join();
+
+        reviewDAL = ExecutorUtils.join(reviewDALInit);
+        reviewDomain = new ReviewDomain(reviewDAL);
+        authorizer = ExecutorUtils.join(authorizerInit);
+    }
+
+    public PurgeAccountReviewsHandler(ReviewDALImpl reviewDAL, ReviewDomain reviewDomain, Authorizer authorizer) {
+        this.reviewDAL = reviewDAL;
+        this.reviewDomain = reviewDomain;
+        this.authorizer = authorizer;
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName(), authorizer::primePublicKeys);
+        }
+        log.info("Handling request: {}", input);
+
+        final String handlerName = getClass().getSimpleName();
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            final RequestParams params = ROUTE.parse(input);
+
+            String accountId;
+            try {
+                final String token = HeaderUtils.extractBearerToken(input);
+                accountId = authorizer.authorizeAndGetAccountId(token);
+            } catch (NotAuthorizedException e) {
+                return APIGatewayResponseBuilder.buildErrorResponse(401, e.getMessage());
+            } catch (AuthorizationDisabledException e) {
+                log.info("Authorization disabled, using accountId from query parameters");
+                accountId = params.getString(QueryParam.ACCOUNT_ID);
+                if (accountId == null) {
+                    throw new IllegalArgumentException("accountId is required when authorization is disabled.");
+                }
+            }
+
+            // Leave enough of the invocation for the account summary update and the response
+            final long remainingMillis = context != null ? context.getRemainingTimeInMillis() : DEFAULT_ACCOUNT_PURGE_BUDGET_MILLIS;
+            if (remainingMillis <= ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS) {
+                log.warn("Only {} ms left in the invocation, not starting the purge", remainingMillis);
+                return APIGatewayResponseBuilder.buildErrorResponse(503,
+                        "Service Unavailable: Not enough time left to purge reviews, retry the request", createCorsHeaders(input));
+            }
+            final Duration budget = Duration.ofMillis(remainingMillis - ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS);
+
+            final PurgeAccountReviewsOutput output = reviewDomain.purgeAccountReviews(accountId, budget);
+
+            log.info("Request processed successfully");
+            return APIGatewayResponseBuilder.buildSuccessResponse(output, createCorsHeaders(input));
+        });
+    }
+}
@@ -10,7 +10,9 @@ import com.fryrank.domain.UserMetadataDomain;
 import com.fryrank.model.PublicUserMetadata;
 import com.fryrank.model.PublicUserMetadataOutput;
 import com.fryrank.util.APIGatewayResponseBuilder;
-import com.fryrank.validator.APIGatewayRequestValidator;
+import com.fryrank.util.HeaderUtils;
+import com.fryrank.util.WarmUp;
+import com.fryrank.validator.RouteSpec;
 import com.google.gson.Gson;
 import lombok.extern.log4j.Log4j2;
 
@@ -19,23 +21,29 @@ import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 @Log4j2
 public class UpsertPublicUserMetadataHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
 
+    public static final RouteSpec ROUTE = RouteSpec.builder().body().build();
+
     private final UserMetadataDAL userMetadataDAL;
     private final UserMetadataDomain userMetadataDomain;
-    private final APIGatewayRequestValidator requestValidator;
 
     public UpsertPublicUserMetadataHandler() {
         userMetadataDAL = new UserMetadataDALImpl();
         userMetadataDomain = new UserMetadataDomain(userMetadataDAL);
-        requestValidator = new APIGatewayRequestValidator();
     }
 
     @Override
     public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent input, Context context) {
+        if (HeaderUtils.isPreflightRequest(input)) {
+            return APIGatewayResponseBuilder.buildPreflightResponse(input);
+        }
+        if (WarmUp.isWarmUpEvent(input)) {
+            return WarmUp.prime(getClass().getSimpleName());
+        }
         log.info("Handling request: {}", input);
 
         final String handlerName = getClass().getSimpleName();
-        return APIGatewayResponseBuilder.handleRequest(handlerName, input, () -> {
-            requestValidator.validateRequest(handlerName, input);
+        return APIGatewayResponseBuilder.handleRequest(handlerName, input, context, () -> {
+            ROUTE.parse(input);
 
             final PublicUserMetadata userMetadata = new Gson().fromJson(input.getBody(), PublicUserMetadata.class);
             final PublicUserMetadataOutput output = userMetadataDomain.upsertPublicUserMetadata(userMetadata);
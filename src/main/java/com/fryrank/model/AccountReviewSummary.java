@@ -0,0 +1,16 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+public class AccountReviewSummary {
+    @NonNull
+    private final Integer reviewCount;
+
+    // Average score the account has given across its reviews.
+    @NonNull
+    private final Float averageScore;
+
+    private final String lastReviewIsoDateTime;
+}
@@ -8,15 +8,31 @@ import lombok.experimental.SuperBuilder;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
 
 import static com.fryrank.Constants.AGGREGATE_IDENTIFIER;
 import static com.fryrank.Constants.AVERAGE_SCORE_KEY;
+import static com.fryrank.Constants.BAYESIAN_PRIOR_MEAN;
+import static com.fryrank.Constants.BAYESIAN_PRIOR_WEIGHT;
+import static com.fryrank.Constants.BAYESIAN_SCORE_KEY;
+import static com.fryrank.Constants.DAILY_REVIEW_COUNTS_KEY;
+import static com.fryrank.Constants.DAILY_TOTAL_SCORES_KEY;
 import static com.fryrank.Constants.IDENTIFIER_KEY;
 import static com.fryrank.Constants.ISO_DATE_TIME_KEY;
+import static com.fryrank.Constants.LAST_REVIEW_DAY_KEY;
+import static com.fryrank.Constants.LEADERBOARD_KEY;
+import static com.fryrank.Constants.LEADERBOARD_MIN_REVIEW_COUNT;
+import static com.fryrank.Constants.LEADERBOARD_VALUE;
+import static com.fryrank.Constants.MAX_TRENDING_WINDOW_DAYS;
 import static com.fryrank.Constants.RESTAURANT_ID_KEY;
 import static com.fryrank.Constants.REVIEW_COUNT_KEY;
+import static com.fryrank.Constants.SCORE_HISTOGRAM_KEY;
 import static com.fryrank.Constants.TOTAL_SCORE_KEY;
 
 @Data
@@ -34,14 +50,39 @@ public class AggregateRanking extends Ranking {
     @NonNull
     private Double averageScore;
 
+    // Bayesian-weighted average used to rank restaurants on the leaderboard.
+    private Double bayesianScore;
+
+    // Review count per whole-number score bucket. Null for aggregates written before the histogram was tracked, since
+    // their distribution cannot be rebuilt without reading every review.
+    private Map<String, Integer> scoreHistogram;
+
+    // Review count and score total per UTC day (yyyy-MM-dd) over the longest trending window.
+    private Map<String, Integer> dailyReviewCounts;
+
+    private Map<String, Double> dailyTotalScores;
+
+    // Day of the newest review, the partition key of the sparse trending index.
+    private String lastReviewDay;
+
     public static AggregateRanking fromMap(Map<String, AttributeValue> map) {
+        final double totalScore = Double.parseDouble(map.get(TOTAL_SCORE_KEY).n());
+        final int reviewCount = Integer.parseInt(map.get(REVIEW_COUNT_KEY).n());
         return AggregateRanking.builder()
                 .restaurantId(map.get(RESTAURANT_ID_KEY).s())
                 .identifier(map.get(IDENTIFIER_KEY).s())
                 .isoDateTime(map.get(ISO_DATE_TIME_KEY) != null ? map.get(ISO_DATE_TIME_KEY).s() : null)
-                .totalScore(Double.parseDouble(map.get(TOTAL_SCORE_KEY).n()))
-                .reviewCount(Integer.parseInt(map.get(REVIEW_COUNT_KEY).n()))
+                .totalScore(totalScore)
+                .reviewCount(reviewCount)
                 .averageScore(Double.parseDouble(map.get(AVERAGE_SCORE_KEY).n()))
+                // Aggregates written before the leaderboard existed do not have a stored score yet.
+                .bayesianScore(map.get(BAYESIAN_SCORE_KEY) != null
+                        ? Double.parseDouble(map.get(BAYESIAN_SCORE_KEY).n())
+                        : bayesianScore(totalScore, reviewCount))
+                .scoreHistogram(countsFromAttribute(map.get(SCORE_HISTOGRAM_KEY)))
+                .dailyReviewCounts(countsFromAttribute(map.get(DAILY_REVIEW_COUNTS_KEY)))
+                .dailyTotalScores(totalsFromAttribute(map.get(DAILY_TOTAL_SCORES_KEY)))
+                .lastReviewDay(map.get(LAST_REVIEW_DAY_KEY) != null ? map.get(LAST_REVIEW_DAY_KEY).s() : null)
                 .build();
     }
 
@@ -53,9 +94,125 @@ public class AggregateRanking extends Ranking {
         map.put(TOTAL_SCORE_KEY, AttributeValue.builder().n(String.valueOf(totalScore)).build());
         map.put(REVIEW_COUNT_KEY, AttributeValue.builder().n(String.valueOf(reviewCount)).build());
         map.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n(String.valueOf(averageScore)).build());
+        if (bayesianScore != null) {
+            map.put(BAYESIAN_SCORE_KEY, AttributeValue.builder().n(String.valueOf(bayesianScore)).build());
+        }
+        if (scoreHistogram != null) {
+            map.put(SCORE_HISTOGRAM_KEY, numbersToAttribute(scoreHistogram));
+        }
+        // Empty bucket maps are left out so that a Put of this map removes the attributes once every bucket has expired.
+        if (dailyReviewCounts != null && dailyTotalScores != null && !dailyReviewCounts.isEmpty()) {
+            map.put(DAILY_REVIEW_COUNTS_KEY, numbersToAttribute(dailyReviewCounts));
+            map.put(DAILY_TOTAL_SCORES_KEY, numbersToAttribute(dailyTotalScores));
+        }
+        if (lastReviewDay != null) {
+            map.put(LAST_REVIEW_DAY_KEY, AttributeValue.builder().s(lastReviewDay).build());
+        }
+        // Only aggregates with enough reviews get the sparse leaderboard index partition key.
+        if (reviewCount >= LEADERBOARD_MIN_REVIEW_COUNT) {
+            map.put(LEADERBOARD_KEY, AttributeValue.builder().s(LEADERBOARD_VALUE).build());
+        }
         return map;
     }
 
+    /**
+     * @return the histogram bucket a score is counted in, the score rounded down to a whole number
+     */
+    public static String histogramBucket(Double score) {
+        return String.valueOf((int) Math.floor(score));
+    }
+
+    /**
+     * @return the UTC day bucket (yyyy-MM-dd) a review is counted in, falling back to today for reviews without a time,
+     * or null if the stored time is in a legacy format that cannot be read, in which case no bucket is adjusted
+     */
+    public static String dayBucket(String isoDateTime, LocalDate today) {
+        if (isoDateTime == null) {
+            return today.toString();
+        }
+        try {
+            return Instant.parse(isoDateTime).atZone(ZoneOffset.UTC).toLocalDate().toString();
+        } catch (DateTimeParseException e) {
+            // Older clients wrote local offsets or plain dates; fall through to the more lenient forms.
+        }
+        try {
+            return OffsetDateTime.parse(isoDateTime).atZoneSameInstant(ZoneOffset.UTC).toLocalDate().toString();
+        } catch (DateTimeParseException e) {
+            // Not a date-time with an offset either.
+        }
+        try {
+            return LocalDate.parse(isoDateTime.length() > 10 ? isoDateTime.substring(0, 10) : isoDateTime).toString();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return whether a day bucket falls inside the window of the given number of days ending today
+     */
+    public static boolean isInWindow(String day, int windowDays, LocalDate today) {
+        LocalDate bucketDay = LocalDate.parse(day);
+        return bucketDay.isAfter(today.minusDays(windowDays)) && !bucketDay.isAfter(today);
+    }
+
+    /**
+     * Number of reviews in the trending window. Buckets that have expired since the last write are ignored.
+     */
+    public int windowReviewCount(int windowDays, LocalDate today) {
+        if (dailyReviewCounts == null) {
+            return 0;
+        }
+        return dailyReviewCounts.entrySet().stream()
+                .filter(entry -> isInWindow(entry.getKey(), windowDays, today))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
+
+    /**
+     * Sum of review scores in the trending window. Buckets that have expired since the last write are ignored.
+     */
+    public double windowTotalScore(int windowDays, LocalDate today) {
+        if (dailyTotalScores == null) {
+            return 0;
+        }
+        return dailyTotalScores.entrySet().stream()
+                .filter(entry -> isInWindow(entry.getKey(), windowDays, today))
+                .mapToDouble(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static Map<String, Integer> countsFromAttribute(AttributeValue attribute) {
+        if (attribute == null || !attribute.hasM()) {
+            return null;
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        attribute.m().forEach((bucket, count) -> counts.put(bucket, Integer.parseInt(count.n())));
+        return counts;
+    }
+
+    private static Map<String, Double> totalsFromAttribute(AttributeValue attribute) {
+        if (attribute == null || !attribute.hasM()) {
+            return null;
+        }
+        Map<String, Double> totals = new HashMap<>();
+        attribute.m().forEach((bucket, total) -> totals.put(bucket, Double.parseDouble(total.n())));
+        return totals;
+    }
+
+    private static AttributeValue numbersToAttribute(Map<String, ? extends Number> numbers) {
+        Map<String, AttributeValue> buckets = new HashMap<>();
+        numbers.forEach((bucket, number) -> buckets.put(bucket, AttributeValue.builder().n(String.valueOf(number)).build()));
+        return AttributeValue.builder().m(buckets).build();
+    }
+
+    /**
+     * Computes the Bayesian-weighted average of a restaurant's scores, pulling restaurants with few reviews toward the
+     * prior mean.
+     */
+    public static double bayesianScore(double totalScore, int reviewCount) {
+        return (BAYESIAN_PRIOR_WEIGHT * BAYESIAN_PRIOR_MEAN + totalScore) / (BAYESIAN_PRIOR_WEIGHT + reviewCount);
+    }
+
 
     /**
      * Creates an AggregateRanking with computed average score.
@@ -68,6 +225,7 @@ public class AggregateRanking extends Ranking {
                 .totalScore(totalScore)
                 .reviewCount(reviewCount)
                 .averageScore(totalScore / reviewCount)
+                .bayesianScore(bayesianScore(totalScore, reviewCount))
                 .build();
     }
 
@@ -75,6 +233,15 @@ public class AggregateRanking extends Ranking {
      * Creates a new AggregateRanking by adding a new review score to this aggregate.
      */
     public AggregateRanking withNewReview(Double newScore) {
+        return withNewReview(newScore, null, null);
+    }
+
+    /**
+     * Creates a new AggregateRanking by adding a new review score to this aggregate and counting it in the day bucket
+     * of the review. Buckets that have fallen out of the longest trending window are pruned.
+     */
+    public AggregateRanking withNewReview(Double newScore, String reviewDay, LocalDate today) {
+        DayBuckets dayBuckets = adjustDayBuckets(reviewDay, newScore, 1, today);
         double newTotalScore = this.totalScore + newScore;
         int newReviewCount = this.reviewCount + 1;
         return AggregateRanking.builder()
@@ -84,6 +251,13 @@ public class AggregateRanking extends Ranking {
                 .totalScore(newTotalScore)
                 .reviewCount(newReviewCount)
                 .averageScore(newTotalScore / newReviewCount)
+                .bayesianScore(bayesianScore(newTotalScore, newReviewCount))
+                .scoreHistogram(adjustHistogram(newScore, 1))
+                .dailyReviewCounts(dayBuckets.counts())
+                .dailyTotalScores(dayBuckets.totals())
+                .lastReviewDay(reviewDay == null || (lastReviewDay != null && lastReviewDay.compareTo(reviewDay) >= 0)
+                        ? lastReviewDay
+                        : reviewDay)
                 .build();
     }
 
@@ -91,6 +265,14 @@ public class AggregateRanking extends Ranking {
      * Deletes an AggregateRanking by removing a review score from this aggregate.
      */
     public AggregateRanking withoutReview(Double newScore) {
+        return withoutReview(newScore, null, null);
+    }
+
+    /**
+     * Deletes an AggregateRanking by removing a review score from this aggregate and from the day bucket of the review.
+     */
+    public AggregateRanking withoutReview(Double newScore, String reviewDay, LocalDate today) {
+        DayBuckets dayBuckets = adjustDayBuckets(reviewDay, newScore, -1, today);
         double totalScore = this.totalScore - newScore;
         int reviewCount = this.reviewCount - 1;
         return AggregateRanking.builder()
@@ -100,20 +282,92 @@ public class AggregateRanking extends Ranking {
                 .totalScore(totalScore)
                 .reviewCount(reviewCount)
                 .averageScore(totalScore / reviewCount)
+                .bayesianScore(bayesianScore(totalScore, reviewCount))
+                .scoreHistogram(adjustHistogram(newScore, -1))
+                .dailyReviewCounts(dayBuckets.counts())
+                .dailyTotalScores(dayBuckets.totals())
+                .lastReviewDay(lastReviewDay)
                 .build();
     }
 
+    /**
+     * Returns a copy of this aggregate's histogram with the bucket for the given score moved by delta, dropping buckets
+     * that reach zero. Legacy aggregates without a histogram stay without one.
+     */
+    private Map<String, Integer> adjustHistogram(Double score, int delta) {
+        if (scoreHistogram == null) {
+            return null;
+        }
+        Map<String, Integer> histogram = new HashMap<>(scoreHistogram);
+        histogram.merge(histogramBucket(score), delta, Integer::sum);
+        histogram.values().removeIf(count -> count <= 0);
+        return histogram;
+    }
+
+    private record DayBuckets(Map<String, Integer> counts, Map<String, Double> totals) {}
+
+    /**
+     * Returns copies of this aggregate's day buckets with expired buckets pruned and the review day moved by one review
+     * in the given direction. A review is only counted if its day is known and inside the longest window, and a removal
+     * only touches a bucket that still exists.
+     */
+    private DayBuckets adjustDayBuckets(String reviewDay, Double score, int delta, LocalDate today) {
+        if (today == null) {
+            return new DayBuckets(dailyReviewCounts, dailyTotalScores);
+        }
+        Map<String, Integer> counts = pruneExpired(dailyReviewCounts, today);
+        Map<String, Double> totals = pruneExpired(dailyTotalScores, today);
+        if (reviewDay != null && isInWindow(reviewDay, MAX_TRENDING_WINDOW_DAYS, today)
+                && (delta > 0 || counts.containsKey(reviewDay))) {
+            counts.merge(reviewDay, delta, Integer::sum);
+            totals.merge(reviewDay, delta * score, Double::sum);
+            if (counts.get(reviewDay) <= 0) {
+                counts.remove(reviewDay);
+                totals.remove(reviewDay);
+            }
+        }
+        return new DayBuckets(counts, totals);
+    }
+
+    private static <T> Map<String, T> pruneExpired(Map<String, T> buckets, LocalDate today) {
+        Map<String, T> pruned = new HashMap<>();
+        if (buckets != null) {
+            buckets.forEach((day, value) -> {
+                if (isInWindow(day, MAX_TRENDING_WINDOW_DAYS, today)) {
+                    pruned.put(day, value);
+                }
+            });
+        }
+        return pruned;
+    }
+
     /**
      * Creates a new AggregateRanking for the first review of a restaurant.
      */
     public static AggregateRanking forFirstReview(String restaurantId, Double score) {
-        return AggregateRanking.builder()
+        return forFirstReview(restaurantId, score, null, null);
+    }
+
+    /**
+     * Creates a new AggregateRanking for the first review of a restaurant, counted in the day bucket of the review.
+     */
+    public static AggregateRanking forFirstReview(String restaurantId, Double score, String reviewDay, LocalDate today) {
+        AggregateRanking aggregateRanking = AggregateRanking.builder()
                 .restaurantId(restaurantId)
                 .identifier(AGGREGATE_IDENTIFIER)
                 .isoDateTime(AGGREGATE_IDENTIFIER)
                 .totalScore(score)
                 .reviewCount(1)
                 .averageScore(score)
+                .bayesianScore(bayesianScore(score, 1))
+                .scoreHistogram(new HashMap<>(Map.of(histogramBucket(score), 1)))
+                .lastReviewDay(reviewDay)
                 .build();
+        if (today != null) {
+            DayBuckets dayBuckets = aggregateRanking.adjustDayBuckets(reviewDay, score, 1, today);
+            aggregateRanking.setDailyReviewCounts(dayBuckets.counts());
+            aggregateRanking.setDailyTotalScores(dayBuckets.totals());
+        }
+        return aggregateRanking;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,16 @@
 package com.fryrank.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
+@AllArgsConstructor
 public class AggregateReviewFilter {
     private final Boolean includeRating;
+
+    private final Boolean includeHistogram;
+
+    public AggregateReviewFilter(Boolean includeRating) {
+        this(includeRating, false);
+    }
 }
@@ -4,6 +4,8 @@ import lombok.Data;
 import lombok.NonNull;
 import org.springframework.data.annotation.Id;
 
+import java.util.Map;
+
 @Data
 public class AggregateReviewInformation {
     @Id
@@ -11,4 +13,7 @@ public class AggregateReviewInformation {
     private final String restaurantId;
 
     private final Float avgScore;
+
+    // Only populated when requested and the aggregate tracks a histogram.
+    private Map<String, Integer> scoreHistogram;
 }
@@ -10,4 +10,8 @@ public class GetAllReviewsOutput {
 
     @NonNull
     private final List<Review> reviews;
+
+    // True when user metadata could not be read in time and some reviews carry cached or no usernames. Left null, and
+    // so out of the response body, for complete responses.
+    private Boolean partial;
 }
@@ -0,0 +1,15 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.List;
+
+@Data
+public class GetRestaurantLeaderboardOutput {
+    @NonNull
+    private final List<LeaderboardEntry> entries;
+
+    // Opaque token for the next page, null on the last page.
+    private final String nextPageToken;
+}
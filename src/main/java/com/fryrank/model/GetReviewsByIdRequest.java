@@ -0,0 +1,5 @@
+package com.fryrank.model;
+
+import java.util.List;
+
+public record GetReviewsByIdRequest(List<String> reviewIds) {}
@@ -0,0 +1,15 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.List;
+
+@Data
+public class GetTrendingRestaurantsOutput {
+    @NonNull
+    private final Integer windowDays;
+
+    @NonNull
+    private final List<TrendingRestaurant> restaurants;
+}
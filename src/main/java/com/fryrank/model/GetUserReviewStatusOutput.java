@@ -0,0 +1,19 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.Map;
+
+@Data
+public class GetUserReviewStatusOutput {
+    // Whether the account has reviewed each requested restaurant.
+    @NonNull
+    private final Map<String, Boolean> restaurantIdToHasReviewed;
+
+    // The account's review of each reviewed restaurant, only populated when requested.
+    private final Map<String, Review> restaurantIdToReview;
+
+    // The aggregate of each requested restaurant that has one, only populated when requested.
+    private Map<String, AggregateReviewInformation> restaurantIdToRestaurantInformation;
+}
@@ -0,0 +1,30 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+public class ImportReviewsOutput {
+    // Reviews written by this import.
+    @NonNull
+    private final Integer importedReviewCount;
+
+    // Reviews left untouched because the account had already reviewed the restaurant.
+    @NonNull
+    private final Integer skippedReviewCount;
+
+    // Restaurant aggregates updated, each in the same transactions as the reviews it received.
+    @NonNull
+    private final Integer updatedAggregateCount;
+
+    @NonNull
+    private final Long elapsedMillis;
+
+    // Imported reviews per second of wall-clock time.
+    @NonNull
+    private final Double itemsPerSecond;
+
+    // Write capacity units consumed across review, aggregate and account summary writes.
+    @NonNull
+    private final Double consumedWriteCapacityUnits;
+}
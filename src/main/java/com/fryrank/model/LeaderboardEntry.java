@@ -0,0 +1,20 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+public class LeaderboardEntry {
+    @NonNull
+    private final String restaurantId;
+
+    @NonNull
+    private final Float avgScore;
+
+    @NonNull
+    private final Integer reviewCount;
+
+    // Bayesian-weighted score the leaderboard is ordered by.
+    @NonNull
+    private final Float weightedScore;
+}
@@ -7,4 +7,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Data
 public class PublicUserMetadataOutput {
     private final String username;
-}
\ No newline at end of file
+
+    // Maintained alongside the username by review writes; null for accounts without reviews.
+    private AccountReviewSummary reviewSummary;
+}
@@ -0,0 +1,19 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+public class PurgeAccountReviewsOutput {
+    // Number of reviews deleted by this call.
+    @NonNull
+    private final Integer deletedReviewCount;
+
+    // Number of reviews whose delete failed in this call. They are still in place and are retried by the next call.
+    @NonNull
+    private final Integer failedReviewCount;
+
+    // False when the time budget ran out or a delete failed before every review was deleted; call again to resume.
+    @NonNull
+    private final Boolean complete;
+}
@@ -0,0 +1,60 @@
+package com.fryrank.model;
+
+import com.fryrank.model.enums.QueryParam;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Query parameters of a request that passed its route spec, already converted to the types the spec declares.
+ * Integers are parsed and bounds-checked, id lists split and counted, booleans parsed and instants validated once, so
+ * handlers read them without parsing again. Absent optional parameters read as null, or false for booleans.
+ */
+public final class RequestParams {
+
+    public static final RequestParams EMPTY = new RequestParams(new EnumMap<>(QueryParam.class));
+
+    private final Map<QueryParam, Object> values;
+
+    public RequestParams(final EnumMap<QueryParam, Object> values) {
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    public boolean has(final QueryParam param) {
+        return values.containsKey(param);
+    }
+
+    public String getString(final QueryParam param) {
+        final Object value = values.get(param);
+        return value != null ? value.toString() : null;
+    }
+
+    public Integer getInteger(final QueryParam param) {
+        return (Integer) values.get(param);
+    }
+
+    /**
+     * @return the distinct ids of an id list parameter, in request order, or null when absent
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getIds(final QueryParam param) {
+        return (List<String>) values.get(param);
+    }
+
+    public boolean getBoolean(final QueryParam param) {
+        return Boolean.TRUE.equals(values.get(param));
+    }
+
+    /**
+     * @return the since/from/to bounds of the request, each null when absent
+     */
+    public ReviewTimeFilter getTimeFilter() {
+        return ReviewTimeFilter.builder()
+                .since(getString(QueryParam.SINCE))
+                .from(getString(QueryParam.FROM))
+                .to(getString(QueryParam.TO))
+                .build();
+    }
+}
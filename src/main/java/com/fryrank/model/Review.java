@@ -8,7 +8,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document("review")
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class Review {
     @Id
     private final String reviewId;
@@ -0,0 +1,41 @@
+package com.fryrank.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Optional bounds on a review's isoDateTime. The DAL turns these into a sort key condition on the time-sorted review
+ * GSIs, so DynamoDB only reads the matching slice instead of the whole partition.
+ */
+@Data
+@Builder
+public class ReviewTimeFilter {
+    public static final ReviewTimeFilter NONE = ReviewTimeFilter.builder().build();
+
+    // Exclusive lower bound, used by clients polling for reviews newer than the latest one they already have.
+    private final String since;
+
+    // Inclusive range bounds, either of which may be open.
+    private final String from;
+    private final String to;
+
+    public boolean isEmpty() {
+        return since == null && from == null && to == null;
+    }
+
+    public boolean isRange() {
+        return from != null || to != null;
+    }
+
+    /**
+     * Rewrites an ISO-8601 date-time, with any offset, in the UTC form reviews are stored with, so that bounds compare
+     * chronologically against stored isoDateTime values.
+     *
+     * @throws java.time.format.DateTimeParseException if the value is not an ISO-8601 date-time
+     */
+    public static String toStoredIsoDateTime(final String isoDateTime) {
+        return isoDateTime != null ? Instant.parse(isoDateTime).toString() : null;
+    }
+}
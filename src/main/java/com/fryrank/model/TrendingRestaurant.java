@@ -0,0 +1,18 @@
+package com.fryrank.model;
+
+import lombok.Data;
+import lombok.NonNull;
+
+@Data
+public class TrendingRestaurant {
+    @NonNull
+    private final String restaurantId;
+
+    // Reviews received within the trending window.
+    @NonNull
+    private final Integer reviewCount;
+
+    // Average score of the reviews within the trending window.
+    @NonNull
+    private final Float avgScore;
+}
@@ -0,0 +1,9 @@
+package com.fryrank.model;
+
+import java.util.Map;
+
+/**
+ * User metadata read for a set of accounts. partial is true when the read missed its sub-deadline and some entries are
+ * cached or missing.
+ */
+public record UserMetadataBatch(Map<String, PublicUserMetadata> userMetadata, boolean partial) {}
@@ -2,10 +2,18 @@ package com.fryrank.model.enums;
 
 public enum QueryParam {
     RESTAURANT_ID("restaurantId"),
+    RESTAURANT_IDS("restaurantIds"),
     ACCOUNT_ID("accountId"),
     COUNT("count"),
+    SINCE("since"),
+    FROM("from"),
+    TO("to"),
     IDS("ids"),
     INCLUDE_RATING("rating"),
+    INCLUDE_HISTOGRAM("histogram"),
+    PAGE_TOKEN("pageToken"),
+    WINDOW_DAYS("windowDays"),
+    INCLUDE_REVIEW("includeReview"),
     USERNAME("defaultUsername");
 
     private final String value;
@@ -0,0 +1,11 @@
+package com.fryrank.model.exceptions;
+
+/**
+ * Thrown instead of calling a dependency whose circuit breaker is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fryrank.model.exceptions;
+
+/**
+ * Thrown when a request runs out of its deadline. Unchecked so it passes through the suppliers and futures the DAL fans
+ * out with.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fryrank.model.exceptions;
+
+/**
+ * Thrown when an Idempotency-Key that already completed a request is sent again with a different request body.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
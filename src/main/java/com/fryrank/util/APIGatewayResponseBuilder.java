@@ -1,7 +1,11 @@
 package com.fryrank.util;
 
+import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.model.exceptions.CircuitOpenException;
+import com.fryrank.model.exceptions.DeadlineExceededException;
+import com.fryrank.model.exceptions.IdempotencyKeyReusedException;
 import com.fryrank.model.exceptions.NotFoundException;
 import com.fryrank.validator.ValidatorException;
 import com.google.gson.Gson;
@@ -9,7 +13,6 @@ import lombok.extern.log4j.Log4j2;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import static com.fryrank.util.HeaderUtils.createCorsHeaders;
 
@@ -54,10 +57,10 @@ public class APIGatewayResponseBuilder {
     }
 
     public APIGatewayResponseBuilder addHeader(String key, String value) {
-        Map<String, String> currentHeaders = response.getHeaders();
-        if (currentHeaders == null) {
-            currentHeaders = new HashMap<>();
-        }
+        // Copy rather than mutate: the current headers may be the shared, unmodifiable CORS headers.
+        Map<String, String> currentHeaders = response.getHeaders() == null
+                ? new HashMap<>()
+                : new HashMap<>(response.getHeaders());
         currentHeaders.put(key, value);
         response.setHeaders(currentHeaders);
         return this;
@@ -69,23 +72,41 @@ public class APIGatewayResponseBuilder {
 
     // Utility methods to maintain backward compatibility
     public static APIGatewayV2HTTPResponse handleRequest(String handlerName, APIGatewayV2HTTPEvent input, RequestHandler handler) {
-        Map<String, String> corsHeaders = Optional.ofNullable(input)
-            .map(event -> createCorsHeaders(event))
-            .orElse(new HashMap<>());
+        return handleRequest(handlerName, input, null, handler);
+    }
+
+    /**
+     * Runs the handler with the request deadline taken from the Lambda context bound, so every DynamoDB call made for
+     * the request is bounded by the time the function has left. CORS headers are only looked up here when the handler
+     * fails; on success the handler attaches them itself. Counters that moved during the request are emitted as
+     * metrics afterwards.
+     */
+    public static APIGatewayV2HTTPResponse handleRequest(String handlerName, APIGatewayV2HTTPEvent input, Context context, RequestHandler handler) {
         try {
-            return handler.execute();
+            return Deadline.runWithin(Deadline.fromContext(context), handler::execute);
+        } catch (DeadlineExceededException e) {
+            log.error("DeadlineExceededException caught in handler: {}", handlerName, e);
+            return buildErrorResponse(504, "Gateway Timeout: " + e.getMessage(), createCorsHeaders(input));
+        } catch (CircuitOpenException e) {
+            log.error("CircuitOpenException caught in handler: {}", handlerName, e);
+            return buildErrorResponse(503, "Service Unavailable: " + e.getMessage(), createCorsHeaders(input));
         } catch (ValidatorException e) {
             log.error("ValidatorException caught in handler: {}", handlerName, e);
-            return buildErrorResponse(400, "Bad Request: " + e.getErrorsString(), corsHeaders);
+            return buildErrorResponse(400, "Bad Request: " + e.getErrorsString(), createCorsHeaders(input));
         } catch (IllegalArgumentException e) {
             log.error("IllegalArgumentException caught in handler: {}", handlerName, e);
-            return buildErrorResponse(400, "Bad Request: " + e.getMessage(), corsHeaders);
+            return buildErrorResponse(400, "Bad Request: " + e.getMessage(), createCorsHeaders(input));
         } catch (NotFoundException e) {
             log.error("NotFoundException caught in handler: {}", handlerName, e);
-            return buildErrorResponse(404, e.getMessage(), corsHeaders);
+            return buildErrorResponse(404, e.getMessage(), createCorsHeaders(input));
+        } catch (IdempotencyKeyReusedException e) {
+            log.error("IdempotencyKeyReusedException caught in handler: {}", handlerName, e);
+            return buildErrorResponse(422, "Unprocessable Content: " + e.getMessage(), createCorsHeaders(input));
         } catch (Exception e) {
             log.error("Exception caught in handler: {}", handlerName, e);
-            return buildErrorResponse(500, "Internal Server Error: " + e.getMessage(), corsHeaders);
+            return buildErrorResponse(500, "Internal Server Error: " + e.getMessage(), createCorsHeaders(input));
+        } finally {
+            EmbeddedMetrics.emit(handlerName);
         }
     }
 
@@ -108,6 +129,16 @@ public class APIGatewayResponseBuilder {
                 .build();
     }
 
+    /**
+     * Answers a CORS preflight from the precomputed headers for the request's origin, without running the handler.
+     */
+    public static APIGatewayV2HTTPResponse buildPreflightResponse(APIGatewayV2HTTPEvent input) {
+        return builder()
+                .statusCode(204)
+                .headers(HeaderUtils.preflightHeaders(input))
+                .build();
+    }
+
     public static APIGatewayV2HTTPResponse buildErrorResponse(int statusCode, String message) {
         return buildErrorResponse(statusCode, message, new HashMap<>());
     }
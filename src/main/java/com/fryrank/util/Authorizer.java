@@ -2,13 +2,20 @@ package com.fryrank.util;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fryrank.Constants;
 import com.fryrank.model.exceptions.AuthorizationDisabledException;
+import com.fryrank.model.exceptions.CircuitOpenException;
 import com.fryrank.model.exceptions.NotAuthorizedException;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.JsonFactory;
@@ -19,10 +26,25 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class Authorizer {
 
+    private static final int VERIFIED_TOKEN_CACHE_CAPACITY = 1000;
+
     private final HttpTransport transport;
     private final JsonFactory jsonFactory;
     private final GoogleIdTokenVerifier verifier;
     private final boolean authDisabled;
+    // Opens when Google's signing certificates cannot be fetched, so requests fail fast instead of each waiting on the
+    // certificate endpoint.
+    private final CircuitBreaker verifierCircuit = new CircuitBreaker("Google token verifier", 3, Duration.ofSeconds(30));
+    // Accounts of recently verified tokens, used while the verifier circuit is open. A token is only accepted from here
+    // until it expires.
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > VERIFIED_TOKEN_CACHE_CAPACITY;
+        }
+    };
+
+    private record VerifiedToken(String accountId, long expiresAtEpochSeconds) {}
 
     public Authorizer() {
         this.transport = new NetHttpTransport();
@@ -33,6 +55,39 @@ public class Authorizer {
             .build();
     }
 
+    private Authorizer(GooglePublicKeysManager publicKeys) {
+        this.transport = publicKeys.getTransport();
+        this.jsonFactory = publicKeys.getJsonFactory();
+        this.authDisabled = "true".equals(SSMParameterStore.getDisableAuthFromSSM());
+        this.verifier = new GoogleIdTokenVerifier.Builder(publicKeys)
+            .setAudience(Collections.singletonList(SSMParameterStore.getGoogleClientIdFromSSM()))
+            .build();
+    }
+
+    /**
+     * Starts the network-bound parts of building an Authorizer as init steps: reading its SSM parameters in one batch
+     * and fetching Google's public signing keys, which would otherwise be fetched by the first request. The returned
+     * future completes once both have.
+     */
+    public static CompletableFuture<Authorizer> initialize(InitOrchestrator init) {
+        final CompletableFuture<Void> parameters = init.start("ssmParameters", () -> {
+            SSMParameterStore.prefetch(Constants.GOOGLE_CLIENT_ID_PARAMETER_NAME_ENV_VAR, Constants.SSM_DISABLE_AUTH_PARAMETER_NAME_ENV_VAR);
+            return null;
+        });
+        final CompletableFuture<GooglePublicKeysManager> publicKeys = init.start("googlePublicKeys", Authorizer::fetchPublicKeys);
+        return parameters.thenCombine(publicKeys, (ignored, keys) -> new Authorizer(keys));
+    }
+
+    private static GooglePublicKeysManager fetchPublicKeys() {
+        final GooglePublicKeysManager publicKeys = new GooglePublicKeysManager(new NetHttpTransport(), GsonFactory.getDefaultInstance());
+        try {
+            publicKeys.refresh();
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn("Could not prefetch Google public keys, they will be fetched on first use", e);
+        }
+        return publicKeys;
+    }
+
     public Authorizer(GoogleIdTokenVerifier verifier) {
         this(verifier, false);
     }
@@ -44,6 +99,21 @@ public class Authorizer {
         this.authDisabled = authDisabled;
     }
 
+    /**
+     * Refreshes Google's public signing keys if they are about to expire, so a request does not have to. Failures are
+     * logged and left to the next verification.
+     */
+    public void primePublicKeys() {
+        if (authDisabled) {
+            return;
+        }
+        try {
+            verifier.getPublicKeysManager().getPublicKeys();
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn("Refreshing Google public keys failed", e);
+        }
+    }
+
     /**
      * Authorizes a bearer token and returns the account ID from the token.
      * @param token The bearer token to authorize (can be null)
@@ -61,14 +131,51 @@ public class Authorizer {
         }
 
         try {
-            final GoogleIdToken idToken = verifier.verify(token);
-            if (idToken == null) {
-                throw new NotAuthorizedException(Constants.AUTH_ERROR_INVALID_TOKEN);
+            verifierCircuit.beforeCall();
+        } catch (CircuitOpenException e) {
+            final String accountId = previouslyVerifiedAccountId(token);
+            if (accountId != null) {
+                log.warn("Token verifier circuit is open, accepting a previously verified token");
+                return accountId;
             }
-            return idToken.getPayload().getSubject();
-        } catch (GeneralSecurityException | IOException e) {
+            throw e;
+        }
+
+        final GoogleIdToken idToken;
+        try {
+            idToken = verifier.verify(token);
+        } catch (IOException e) {
+            verifierCircuit.onFailure();
             log.error("Authorization failed", e);
             throw new NotAuthorizedException(Constants.AUTH_ERROR_VERIFICATION_FAILED);
+        } catch (GeneralSecurityException e) {
+            verifierCircuit.onSuccess();
+            log.error("Authorization failed", e);
+            throw new NotAuthorizedException(Constants.AUTH_ERROR_VERIFICATION_FAILED);
+        }
+        verifierCircuit.onSuccess();
+
+        if (idToken == null) {
+            throw new NotAuthorizedException(Constants.AUTH_ERROR_INVALID_TOKEN);
+        }
+        final String accountId = idToken.getPayload().getSubject();
+        final Long expiresAtEpochSeconds = idToken.getPayload().getExpirationTimeSeconds();
+        if (expiresAtEpochSeconds != null) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(token, new VerifiedToken(accountId, expiresAtEpochSeconds));
+            }
+        }
+        return accountId;
+    }
+
+    private String previouslyVerifiedAccountId(String token) {
+        final VerifiedToken verifiedToken;
+        synchronized (verifiedTokens) {
+            verifiedToken = verifiedTokens.get(token);
+        }
+        if (verifiedToken == null || verifiedToken.expiresAtEpochSeconds() <= Instant.now().getEpochSecond()) {
+            return null;
         }
+        return verifiedToken.accountId();
     }
 }
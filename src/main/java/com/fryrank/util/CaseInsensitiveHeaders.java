@@ -0,0 +1,52 @@
+package com.fryrank.util;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+
+import java.util.Map;
+
+/**
+ * Read-only, case-insensitive lookup over a request's original header map. Nothing is copied and values are returned
+ * untouched, so case-sensitive values such as bearer tokens survive.
+ *
+ * API Gateway HTTP APIs deliver header names in lowercase, so a lookup first tries the name as given and in lowercase
+ * and only scans the map when neither matches.
+ */
+public final class CaseInsensitiveHeaders {
+
+    private static final CaseInsensitiveHeaders EMPTY = new CaseInsensitiveHeaders(Map.of());
+
+    private final Map<String, String> headers;
+
+    private CaseInsensitiveHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public static CaseInsensitiveHeaders of(APIGatewayV2HTTPEvent event) {
+        return event == null || event.getHeaders() == null ? EMPTY : new CaseInsensitiveHeaders(event.getHeaders());
+    }
+
+    /**
+     * @param name The header name, in any case
+     * @return The header value as sent, or null if the header is absent
+     */
+    public String get(String name) {
+        String value = headers.get(name);
+        if (value != null) {
+            return value;
+        }
+        value = headers.get(name.toLowerCase());
+        if (value != null) {
+            return value;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.fryrank.util;
+
+import com.fryrank.model.exceptions.CircuitOpenException;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Consecutive-failure circuit breaker for a dependency shared by every request in the container. After
+ * {@code failureThreshold} failures in a row the circuit opens and calls fail fast with {@link CircuitOpenException}
+ * instead of each waiting for its own timeout. Once {@code openDuration} has passed a single trial call is let through;
+ * its success closes the circuit and its failure opens it again.
+ */
+@Log4j2
+public class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(@NonNull final String name, final int failureThreshold, @NonNull final Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Runs the call through the breaker. Only failures matching {@code isFailure} count against the dependency; others,
+     * such as a failed condition check, are passed through and count as a healthy response.
+     */
+    public <T> T call(@NonNull final Supplier<T> call, @NonNull final Predicate<Throwable> isFailure) {
+        beforeCall();
+        final T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            if (isFailure.test(e)) {
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    /**
+     * @throws CircuitOpenException if the circuit is open, or half-open with its trial call already in flight
+     */
+    public synchronized void beforeCall() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+            throw new CircuitOpenException("Circuit for " + name + " is open");
+        }
+        if (state == State.HALF_OPEN) {
+            trialInFlight = true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Closing circuit for {}", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("Opening circuit for {} after {} consecutive failures", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            trialInFlight = false;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
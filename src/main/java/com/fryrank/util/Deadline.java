@@ -0,0 +1,107 @@
+package com.fryrank.util;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.fryrank.model.exceptions.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static com.fryrank.Constants.MIN_DYNAMODB_CALL_BUDGET_MILLIS;
+import static com.fryrank.Constants.REQUEST_DEADLINE_SAFETY_MARGIN_MILLIS;
+
+/**
+ * The point in time by which a request has to be answered. The handler binds the deadline derived from the Lambda
+ * context for the duration of a request, and every DynamoDB call made on behalf of the request, including those fanned
+ * out on {@link ExecutorUtils#executor()}, is bounded by what is left of it.
+ *
+ * The binding is inherited by threads started while it is active, so work fanned out through the domain and DAL is
+ * covered without passing the deadline through every method.
+ */
+public final class Deadline {
+
+    private static final InheritableThreadLocal<Deadline> CURRENT = new InheritableThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(final long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(final Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * @return the deadline of the current invocation, leaving a margin to return the response, or null without a context
+     */
+    public static Deadline fromContext(final Context context) {
+        if (context == null) {
+            return null;
+        }
+        return after(Duration.ofMillis(context.getRemainingTimeInMillis() - REQUEST_DEADLINE_SAFETY_MARGIN_MILLIS));
+    }
+
+    /**
+     * @return the deadline bound to the current thread, or null if the work is not bounded
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the task with the deadline bound to the current thread and every thread it starts. A null deadline runs the
+     * task unbounded.
+     */
+    public static <T> T runWithin(final Deadline deadline, final Callable<T> task) throws Exception {
+        final Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return a deadline {@code timeout} from now, or the current deadline if that one expires first
+     */
+    public static Deadline atMost(final Duration timeout) {
+        final Deadline sub = after(timeout);
+        final Deadline current = current();
+        return current != null && current.expiresAtNanos - sub.expiresAtNanos < 0 ? current : sub;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(expiresAtNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return remaining().isNegative();
+    }
+
+    /**
+     * @return whether the deadline bound to the current thread leaves too little time for another DynamoDB call, which
+     * is when a call bounded by it times out because of the request rather than the dependency
+     */
+    public static boolean isCurrentExhausted() {
+        final Deadline deadline = current();
+        return deadline != null && deadline.remaining().toMillis() < MIN_DYNAMODB_CALL_BUDGET_MILLIS;
+    }
+
+    /**
+     * @return the time left for one more DynamoDB call
+     * @throws DeadlineExceededException if too little is left for the call to be worth issuing
+     */
+    public Duration remainingForCall(final String operation) {
+        final Duration remaining = remaining();
+        if (remaining.toMillis() < MIN_DYNAMODB_CALL_BUDGET_MILLIS) {
+            throw new DeadlineExceededException("Shedding " + operation + " with " + remaining.toMillis()
+                    + " ms left before the request deadline");
+        }
+        return remaining;
+    }
+}
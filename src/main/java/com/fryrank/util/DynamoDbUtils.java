@@ -1,24 +1,230 @@
 package com.fryrank.util;
 
+import com.fryrank.model.exceptions.CircuitOpenException;
+import com.fryrank.model.exceptions.DeadlineExceededException;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryMode;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.crt.TcpKeepAliveConfiguration;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.RequestLimitExceededException;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import com.amazonaws.xray.interceptors.TracingInterceptor;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static com.fryrank.Constants.DYNAMODB_API_CALL_ATTEMPT_TIMEOUT_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_CONNECTION_ACQUISITION_TIMEOUT_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_CONNECTION_MAX_IDLE_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_CONNECTION_TIMEOUT_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_HTTP_CLIENT_ENV;
+import static com.fryrank.Constants.DYNAMODB_MAX_CONNECTIONS;
+import static com.fryrank.Constants.DYNAMODB_PREWARM_ENV;
+import static com.fryrank.Constants.DYNAMODB_PREWARM_TIMEOUT_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_SOCKET_TIMEOUT_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_TCP_KEEPALIVE_INTERVAL_MILLIS;
+import static com.fryrank.Constants.DYNAMODB_TCP_KEEPALIVE_TIMEOUT_MILLIS;
+import static com.fryrank.Constants.IDENTIFIER_KEY;
+import static com.fryrank.Constants.PREWARM_KEY_VALUE;
+import static com.fryrank.Constants.RANKINGS_TABLE_NAME;
+import static com.fryrank.Constants.RESTAURANT_ID_KEY;
+
+@Log4j2
 public final class DynamoDbUtils {
-    private static final DynamoDbClient CLIENT = DynamoDbClient.builder()
-            .region(Region.of(System.getenv().getOrDefault("AWS_REGION", "us-west-2")))
-            .overrideConfiguration(
-                    ClientOverrideConfiguration.builder()
-                            .addExecutionInterceptor(new TracingInterceptor())
-                            .build()
-            )
-            .build();
+
+    public enum HttpClientType {
+        // Pooled connections with keep-alive; a good default for handlers that fan out.
+        APACHE,
+        // JDK HttpURLConnection; loads the fewest classes, so it has the fastest cold start.
+        URL_CONNECTION,
+        // AWS Common Runtime; native, non-blocking I/O with the highest throughput once warm. Only packaged when built
+        // with -PwithCrt.
+        CRT
+    }
+
+    // Held in its own class so that using the helpers below does not build the client.
+    private static final class ClientHolder {
+        private static final DynamoDbClient CLIENT = new GuardedDynamoDbClient(
+                createClient(), new CircuitBreaker("DynamoDB", 10, Duration.ofSeconds(5)));
+    }
+
+    // Set when init pre-warmed the shared client, so that the first warm-up ping does not repeat the lookup.
+    private static final AtomicBoolean PREWARMED_DURING_INIT = new AtomicBoolean();
 
     private DynamoDbUtils() {}
 
     public static DynamoDbClient client() {
-        return CLIENT;
+        return ClientHolder.CLIENT;
+    }
+
+    private static DynamoDbClient createClient() {
+        final HttpClientType httpClientType = resolveHttpClientType(
+                HttpClientType.valueOf(EnvironmentUtils.getEnvOrDefault(DYNAMODB_HTTP_CLIENT_ENV, HttpClientType.APACHE.name())),
+                DynamoDbUtils::isCrtAvailable);
+        log.info("Building DynamoDB client with the {} HTTP client", httpClientType);
+
+        final DynamoDbClient client = builder(httpClientType)
+                .region(Region.of(System.getenv().getOrDefault("AWS_REGION", "us-west-2")))
+                .overrideConfiguration(overrideConfiguration()
+                        .addExecutionInterceptor(new TracingInterceptor())
+                        .build())
+                .build();
+        if (!"false".equals(EnvironmentUtils.getEnvOrDefault(DYNAMODB_PREWARM_ENV, "true"))) {
+            PREWARMED_DURING_INIT.set(prewarm(client));
+        }
+        return client;
+    }
+
+    /**
+     * Touches the shared client's connection so it is not closed as idle between warm-up pings. The call goes through
+     * the circuit breaker and the request deadline like any other. It is skipped once when init has just pre-warmed the
+     * connection, since a cold container would otherwise send the same lookup twice. Failures are logged.
+     */
+    public static void prime() {
+        final DynamoDbClient client = ClientHolder.CLIENT;
+        if (PREWARMED_DURING_INIT.getAndSet(false)) {
+            log.info("DynamoDB connection was pre-warmed during init, not priming it again");
+            return;
+        }
+        prewarm(client);
+    }
+
+    /**
+     * @return the requested HTTP client, or {@link HttpClientType#APACHE} when CRT is requested but not packaged
+     */
+    static HttpClientType resolveHttpClientType(HttpClientType requested, BooleanSupplier crtAvailable) {
+        if (requested == HttpClientType.CRT && !crtAvailable.getAsBoolean()) {
+            log.warn("The CRT HTTP client is not packaged in this build (build with -PwithCrt), using {} instead",
+                    HttpClientType.APACHE);
+            return HttpClientType.APACHE;
+        }
+        return requested;
+    }
+
+    /**
+     * @return a client builder using the given HTTP client with this service's pool, keep-alive and timeout settings
+     */
+    static DynamoDbClientBuilder builder(HttpClientType httpClientType) {
+        final DynamoDbClientBuilder builder = DynamoDbClient.builder();
+        switch (httpClientType) {
+            case APACHE -> builder.httpClientBuilder(ApacheHttpClient.builder()
+                    .maxConnections(DYNAMODB_MAX_CONNECTIONS)
+                    .connectionTimeout(Duration.ofMillis(DYNAMODB_CONNECTION_TIMEOUT_MILLIS))
+                    .connectionAcquisitionTimeout(Duration.ofMillis(DYNAMODB_CONNECTION_ACQUISITION_TIMEOUT_MILLIS))
+                    .socketTimeout(Duration.ofMillis(DYNAMODB_SOCKET_TIMEOUT_MILLIS))
+                    .connectionMaxIdleTime(Duration.ofMillis(DYNAMODB_CONNECTION_MAX_IDLE_MILLIS))
+                    .tcpKeepAlive(true)
+                    // A frozen Lambda sandbox cannot run the reaper thread anyway; idle connections are checked on use.
+                    .useIdleConnectionReaper(false));
+            case URL_CONNECTION -> builder.httpClientBuilder(UrlConnectionHttpClient.builder()
+                    .connectionTimeout(Duration.ofMillis(DYNAMODB_CONNECTION_TIMEOUT_MILLIS))
+                    .socketTimeout(Duration.ofMillis(DYNAMODB_SOCKET_TIMEOUT_MILLIS)));
+            case CRT -> builder.httpClientBuilder(AwsCrtHttpClient.builder()
+                    .maxConcurrency(DYNAMODB_MAX_CONNECTIONS)
+                    .connectionTimeout(Duration.ofMillis(DYNAMODB_CONNECTION_TIMEOUT_MILLIS))
+                    .connectionMaxIdleTime(Duration.ofMillis(DYNAMODB_CONNECTION_MAX_IDLE_MILLIS))
+                    .tcpKeepAliveConfiguration(TcpKeepAliveConfiguration.builder()
+                            .keepAliveInterval(Duration.ofMillis(DYNAMODB_TCP_KEEPALIVE_INTERVAL_MILLIS))
+                            .keepAliveTimeout(Duration.ofMillis(DYNAMODB_TCP_KEEPALIVE_TIMEOUT_MILLIS))
+                            .build()));
+        }
+        return builder;
+    }
+
+    private static boolean isCrtAvailable() {
+        try {
+            Class.forName("software.amazon.awssdk.http.crt.AwsCrtHttpClient", false, DynamoDbUtils.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Per-attempt timeout and the SDK's standard retry mode with its adaptive token bucket, shared by every client.
+     */
+    static ClientOverrideConfiguration.Builder overrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+                .apiCallAttemptTimeout(Duration.ofMillis(DYNAMODB_API_CALL_ATTEMPT_TIMEOUT_MILLIS))
+                .retryPolicy(RetryMode.STANDARD);
+    }
+
+    /**
+     * Opens the first connection during init, where the TLS handshake, credential resolution and the lazy class loading
+     * of the request path would otherwise be paid by the first request. The lookup of a key that never exists is
+     * answered without reading any data; failures only cost the first request the same work again.
+     *
+     * @return whether the lookup succeeded
+     */
+    static boolean prewarm(DynamoDbClient client) {
+        final long start = System.nanoTime();
+        try {
+            client.getItem(GetItemRequest.builder()
+                    .tableName(RANKINGS_TABLE_NAME)
+                    .key(Map.of(
+                            RESTAURANT_ID_KEY, AttributeValue.builder().s(PREWARM_KEY_VALUE).build(),
+                            IDENTIFIER_KEY, AttributeValue.builder().s(PREWARM_KEY_VALUE).build()))
+                    .overrideConfiguration(override -> override.apiCallTimeout(Duration.ofMillis(DYNAMODB_PREWARM_TIMEOUT_MILLIS)))
+                    .build());
+            log.info("Pre-warmed DynamoDB connection in {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Pre-warming the DynamoDB connection failed after {} ms",
+                    Duration.ofNanos(System.nanoTime() - start).toMillis(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Whether a failure means DynamoDB itself is unhealthy or unreachable: throttling, server errors, connection and I/O
+     * failures, attempt timeouts, or a call that was not attempted because of one. Failures caused by the request are not
+     * outages: a failed condition check, or running out of request deadline. A call timeout counts only when the current
+     * deadline still had room, since otherwise it was cut short by the request's own budget, and a slow client or a
+     * nearly expired Lambda would open the breaker for every other request in the container.
+     */
+    public static boolean isOutage(Throwable e) {
+        if (e instanceof CircuitOpenException) {
+            return true;
+        }
+        if (e instanceof DeadlineExceededException) {
+            return false;
+        }
+        if (e instanceof ApiCallTimeoutException) {
+            return !Deadline.isCurrentExhausted();
+        }
+        if (e instanceof ApiCallAttemptTimeoutException) {
+            return true;
+        }
+        if (e instanceof ProvisionedThroughputExceededException || e instanceof RequestLimitExceededException) {
+            return true;
+        }
+        if (e instanceof AwsServiceException serviceException) {
+            return serviceException.isThrottlingException() || serviceException.statusCode() >= 500;
+        }
+        return e instanceof SdkClientException && hasIOExceptionCause(e);
+    }
+
+    private static boolean hasIOExceptionCause(Throwable e) {
+        for (Throwable cause = e.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
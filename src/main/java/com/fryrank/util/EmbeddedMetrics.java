@@ -0,0 +1,89 @@
+package com.fryrank.util;
+
+import com.google.gson.Gson;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Publishes container-wide counters to CloudWatch as CloudWatch Embedded Metric Format (EMF) log lines. Sources report
+ * running totals since the container started; {@link #emit(String)} logs only how much each counter grew since the
+ * previous emission, so summing the metric across invocations and containers gives the true count.
+ *
+ * Lines go to the {@code EMF} logger, whose appender writes the bare message: CloudWatch only extracts metrics from
+ * log events that are a JSON object on their own.
+ */
+public final class EmbeddedMetrics {
+
+    static final String NAMESPACE = "FryRank";
+    static final String HANDLER_DIMENSION = "Handler";
+
+    private static final Logger EMF_LOG = LogManager.getLogger("EMF");
+    private static final Gson GSON = new Gson();
+    private static final List<Supplier<Map<String, Long>>> SOURCES = new CopyOnWriteArrayList<>();
+    private static final Map<String, Long> LAST_EMITTED = new HashMap<>();
+
+    private EmbeddedMetrics() {
+    }
+
+    /**
+     * Registers a source of running counter totals, keyed by metric name, to be included in every emission.
+     */
+    public static void register(@NonNull final Supplier<Map<String, Long>> source) {
+        SOURCES.add(source);
+    }
+
+    /**
+     * Logs one EMF line with the growth of every registered counter since the last call, dimensioned by handler.
+     * Nothing is logged when no counter moved.
+     */
+    public static void emit(@NonNull final String handlerName) {
+        final String line = nextLine(handlerName, System.currentTimeMillis());
+        if (line != null) {
+            EMF_LOG.info(line);
+        }
+    }
+
+    static synchronized String nextLine(final String handlerName, final long timestampMillis) {
+        final Map<String, Long> deltas = new LinkedHashMap<>();
+        for (final Supplier<Map<String, Long>> source : SOURCES) {
+            source.get().forEach((name, total) -> {
+                final long delta = total - LAST_EMITTED.getOrDefault(name, 0L);
+                LAST_EMITTED.put(name, total);
+                if (delta > 0) {
+                    deltas.put(name, delta);
+                }
+            });
+        }
+        if (deltas.isEmpty()) {
+            return null;
+        }
+
+        final List<Map<String, String>> metricDefinitions = new ArrayList<>();
+        deltas.keySet().forEach(name -> metricDefinitions.add(Map.of("Name", name, "Unit", "Count")));
+
+        final Map<String, Object> line = new LinkedHashMap<>();
+        line.put("_aws", Map.of(
+                "Timestamp", timestampMillis,
+                "CloudWatchMetrics", List.of(Map.of(
+                        "Namespace", NAMESPACE,
+                        "Dimensions", List.of(List.of(HANDLER_DIMENSION)),
+                        "Metrics", metricDefinitions))));
+        line.put(HANDLER_DIMENSION, handlerName);
+        line.putAll(deltas);
+        return GSON.toJson(line);
+    }
+
+    static synchronized void reset() {
+        SOURCES.clear();
+        LAST_EMITTED.clear();
+    }
+}
@@ -1,5 +1,8 @@
 package com.fryrank.util;
 
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
 public final class EnvironmentUtils {
 
     private EnvironmentUtils() {}
@@ -16,4 +19,21 @@ public final class EnvironmentUtils {
         String value = System.getenv(name);
         return (value == null || value.isBlank()) ? defaultValue : value;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the variable as a long, or the default if it is unset or not a number, so a misconfigured value degrades
+     * to the default instead of failing class initialization
+     */
+    public static long getLongEnvOrDefault(String name, long defaultValue) {
+        final String value = getEnvOrDefault(name, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Environment variable '{}' is not a number: '{}', using {}", name, value, defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fryrank.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared executor for fanning out blocking DynamoDB calls. Virtual threads keep concurrent I/O cheap even on the
+ * single vCPU a small Lambda container gets, where the common ForkJoinPool would serialize the calls.
+ */
+public final class ExecutorUtils {
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ExecutorUtils() {}
+
+    public static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Waits for the future and rethrows the original unchecked exception instead of the CompletionException wrapper,
+     * so callers surface the same errors they would have seen from a synchronous call.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    static RuntimeException unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(cause);
+    }
+}
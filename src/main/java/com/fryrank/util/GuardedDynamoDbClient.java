@@ -0,0 +1,139 @@
+package com.fryrank.util;
+
+import com.fryrank.model.exceptions.DeadlineExceededException;
+import lombok.NonNull;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbServiceClientConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Client decorator that guards each call in two ways:
+ * - It is bounded by the request {@link Deadline}: the remaining time becomes the call's apiCallTimeout, so retries
+ *   inside the SDK stop when the request would have to give up anyway, and calls are shed without being issued once
+ *   too little time is left. Calls made without a bound deadline are not bounded.
+ * - It goes through a {@link CircuitBreaker} that opens after repeated throttling, server errors or timeouts, so that
+ *   during an outage requests fail fast instead of each waiting out its own timeout.
+ *
+ * Only the operations the DALs use are decorated.
+ */
+final class GuardedDynamoDbClient implements DynamoDbClient {
+
+    private final DynamoDbClient delegate;
+    private final CircuitBreaker circuitBreaker;
+
+    GuardedDynamoDbClient(@NonNull final DynamoDbClient delegate, @NonNull final CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public QueryResponse query(QueryRequest request) {
+        return call("Query", request, delegate::query);
+    }
+
+    @Override
+    public GetItemResponse getItem(GetItemRequest request) {
+        return call("GetItem", request, delegate::getItem);
+    }
+
+    @Override
+    public BatchGetItemResponse batchGetItem(BatchGetItemRequest request) {
+        return call("BatchGetItem", request, delegate::batchGetItem);
+    }
+
+    @Override
+    public TransactGetItemsResponse transactGetItems(TransactGetItemsRequest request) {
+        return call("TransactGetItems", request, delegate::transactGetItems);
+    }
+
+    @Override
+    public PutItemResponse putItem(PutItemRequest request) {
+        return call("PutItem", request, delegate::putItem);
+    }
+
+    @Override
+    public UpdateItemResponse updateItem(UpdateItemRequest request) {
+        return call("UpdateItem", request, delegate::updateItem);
+    }
+
+    @Override
+    public DeleteItemResponse deleteItem(DeleteItemRequest request) {
+        return call("DeleteItem", request, delegate::deleteItem);
+    }
+
+    @Override
+    public BatchWriteItemResponse batchWriteItem(BatchWriteItemRequest request) {
+        return call("BatchWriteItem", request, delegate::batchWriteItem);
+    }
+
+    @Override
+    public TransactWriteItemsResponse transactWriteItems(TransactWriteItemsRequest request) {
+        return call("TransactWriteItems", request, delegate::transactWriteItems);
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    @Override
+    public DynamoDbServiceClientConfiguration serviceClientConfiguration() {
+        return delegate.serviceClientConfiguration();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private <Q extends DynamoDbRequest, R> R call(String operation, Q request, Function<Q, R> invocation) {
+        final Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return circuitBreaker.call(() -> invocation.apply(request), DynamoDbUtils::isOutage);
+        }
+
+        final Q boundedRequest = withApiCallTimeout(request, deadline.remainingForCall(operation));
+        try {
+            return circuitBreaker.call(() -> invocation.apply(boundedRequest), DynamoDbUtils::isOutage);
+        } catch (ApiCallTimeoutException e) {
+            throw new DeadlineExceededException(operation + " did not finish before the request deadline", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <Q extends DynamoDbRequest> Q withApiCallTimeout(Q request, Duration timeout) {
+        final Duration callTimeout = request.overrideConfiguration()
+                .flatMap(AwsRequestOverrideConfiguration::apiCallTimeout)
+                .filter(configured -> configured.compareTo(timeout) < 0)
+                .orElse(timeout);
+        final AwsRequestOverrideConfiguration override = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder)
+                .apiCallTimeout(callTimeout)
+                .build();
+        return (Q) request.toBuilder().overrideConfiguration(override).build();
+    }
+}
@@ -4,8 +4,9 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
 import com.fryrank.Constants;
 import lombok.extern.log4j.Log4j2;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.fryrank.Constants.*;
 
@@ -14,6 +15,60 @@ import static com.fryrank.Constants.*;
  */
 @Log4j2
 public class HeaderUtils {
+
+    // CORS and preflight headers are built once per allowed origin at class init and shared, unmodifiable, by every
+    // response.
+    private static final Map<String, String> CORS_HEADERS_WITHOUT_ORIGIN = Map.of(
+            HEADER_ACCESS_CONTROL_ALLOW_METHODS, ALLOWED_METHODS,
+            HEADER_ACCESS_CONTROL_ALLOW_HEADERS, CONTENT_TYPE
+    );
+
+    private static final Map<String, Map<String, String>> CORS_HEADERS_BY_ORIGIN = Constants.ALLOWED_ORIGINS.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), origin -> Map.of(
+                    HEADER_ACCESS_CONTROL_ALLOW_METHODS, ALLOWED_METHODS,
+                    HEADER_ACCESS_CONTROL_ALLOW_HEADERS, CONTENT_TYPE,
+                    HEADER_ACCESS_CONTROL_ALLOW_ORIGIN, origin
+            )));
+
+    private static final Map<String, String> PREFLIGHT_HEADERS_WITHOUT_ORIGIN = Map.of(
+            HEADER_ACCESS_CONTROL_ALLOW_METHODS, ALLOWED_METHODS,
+            HEADER_ACCESS_CONTROL_ALLOW_HEADERS, PREFLIGHT_ALLOWED_HEADERS,
+            HEADER_ACCESS_CONTROL_MAX_AGE, String.valueOf(PREFLIGHT_MAX_AGE_SECONDS)
+    );
+
+    private static final Map<String, Map<String, String>> PREFLIGHT_HEADERS_BY_ORIGIN = Constants.ALLOWED_ORIGINS.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), origin -> Map.of(
+                    HEADER_ACCESS_CONTROL_ALLOW_METHODS, ALLOWED_METHODS,
+                    HEADER_ACCESS_CONTROL_ALLOW_HEADERS, PREFLIGHT_ALLOWED_HEADERS,
+                    HEADER_ACCESS_CONTROL_MAX_AGE, String.valueOf(PREFLIGHT_MAX_AGE_SECONDS),
+                    HEADER_ACCESS_CONTROL_ALLOW_ORIGIN, origin
+            )));
+
+    /**
+     * Checks if the request is a CORS preflight, i.e. an OPTIONS request.
+     *
+     * @param event The API Gateway HTTP event
+     * @return true if the request method is OPTIONS
+     */
+    public static boolean isPreflightRequest(APIGatewayV2HTTPEvent event) {
+        return event != null
+                && event.getRequestContext() != null
+                && event.getRequestContext().getHttp() != null
+                && HTTP_METHOD_OPTIONS.equalsIgnoreCase(event.getRequestContext().getHttp().getMethod());
+    }
+
+    /**
+     * Returns the precomputed preflight headers for the request's origin, so answering a preflight neither allocates
+     * nor logs the request headers.
+     *
+     * @param event The API Gateway HTTP event
+     * @return Preflight headers including Access-Control-Allow-Origin if the origin is allowed, otherwise without it
+     */
+    public static Map<String, String> preflightHeaders(APIGatewayV2HTTPEvent event) {
+        final String origin = getAllowedOrigin(event);
+        return origin != null ? PREFLIGHT_HEADERS_BY_ORIGIN.get(origin) : PREFLIGHT_HEADERS_WITHOUT_ORIGIN;
+    }
+
     /**
      * Checks if the Origin header from the request is in the allowed origins list.
      * 
@@ -21,90 +76,45 @@ public class HeaderUtils {
      * @return The Origin header value if it's allowed, otherwise null
      */
     public static String getAllowedOrigin(APIGatewayV2HTTPEvent event) {
-        log.info("Extracting origin from incoming HTTP request");
-        Map<String, String> headers = toLowerCaseMap(event.getHeaders());
-        log.info("Found headers: {}", headers);
-        if (headers == null) {
-            log.info("No headers found");
-            return null;
-        }
-
-        // CORS headers are given to us in lowercase from API Gateway
-        String origin = headers.get(ORIGIN);
-        log.info("Found origin: " + origin);
-        
+        final String origin = CaseInsensitiveHeaders.of(event).get(ORIGIN);
         if (origin != null && Constants.ALLOWED_ORIGINS.contains(origin)) {
             return origin;
         }
 
+        log.debug("Origin {} is not allowed", origin);
         return null;
     }
 
     /**
-     * Creates CORS headers with the provided origin.
+     * Returns the CORS headers for the request's origin. The returned map is shared and unmodifiable.
      *
      * @param event The API Gateway HTTP event from which we will extract the valid origin value to use in CORS headers, if any
      * @return Map of CORS headers
      */
     public static Map<String, String> createCorsHeaders(APIGatewayV2HTTPEvent event) {
-        Map<String, String> corsHeaders = new HashMap<>(Map.of(
-                HEADER_ACCESS_CONTROL_ALLOW_METHODS, ALLOWED_METHODS,
-                HEADER_ACCESS_CONTROL_ALLOW_HEADERS, CONTENT_TYPE
-        ));
-
-
-        String allowedOrigin = getAllowedOrigin(event);
-        if(allowedOrigin != null) {
-            corsHeaders.put(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN, getAllowedOrigin(event));
-        }
-
-        return corsHeaders;
+        final String origin = getAllowedOrigin(event);
+        return origin != null ? CORS_HEADERS_BY_ORIGIN.get(origin) : CORS_HEADERS_WITHOUT_ORIGIN;
     }
 
     /**
-     * Converts all keys and values in a Map<String, String> to lowercase.
+     * Extracts the Idempotency-Key header, matching the header name case-insensitively.
      *
-     * @param originalMap The original map to convert
-     * @return A new map with all keys and values converted to lowercase
+     * @param event The API Gateway HTTP event
+     * @return The idempotency key if present and not blank, otherwise null
      */
-    public static Map<String, String> toLowerCaseMap(Map<String, String> originalMap) {
-        if (originalMap == null) {
-            return null;
-        }
-
-        Map<String, String> lowerCaseMap = new HashMap<>();
-
-        for (Map.Entry<String, String> entry : originalMap.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-
-            // Convert key to lowercase
-            String lowerCaseKey = (key != null) ? key.toLowerCase() : null;
-
-            // Convert value to lowercase
-            String lowerCaseValue = (value != null) ? value.toLowerCase() : null;
-
-            lowerCaseMap.put(lowerCaseKey, lowerCaseValue);
-        }
-
-        return lowerCaseMap;
+    public static String extractIdempotencyKey(APIGatewayV2HTTPEvent event) {
+        final String key = CaseInsensitiveHeaders.of(event).get(IDEMPOTENCY_KEY_HEADER);
+        return key != null && !key.isBlank() ? key.trim() : null;
     }
 
     /**
-     * Extracts the bearer token from the Authorization header.
+     * Extracts the bearer token from the Authorization header, matching the header name case-insensitively.
      * 
      * @param event The API Gateway HTTP event
      * @return The token if found and properly formatted, otherwise null
      */
     public static String extractBearerToken(APIGatewayV2HTTPEvent event) {
-        log.info("Extracting bearer token from incoming HTTP request");
-        
-        if (event.getHeaders() == null) {
-            log.info("No headers found");
-            return null;
-        }
-
-        final String authHeader = event.getHeaders().get("Authorization");
+        final String authHeader = CaseInsensitiveHeaders.of(event).get(AUTHORIZATION_HEADER);
         
         if (authHeader == null) {
             log.info("No authorization header found");
@@ -116,8 +126,6 @@ public class HeaderUtils {
             return null;
         }
         
-        final String token = authHeader.substring(7); // Remove "Bearer " prefix
-        log.info("Successfully extracted bearer token");
-        return token;
+        return authHeader.substring(7); // Remove "Bearer " prefix
     }
 }
\ No newline at end of file
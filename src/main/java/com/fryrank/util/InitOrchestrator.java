@@ -0,0 +1,65 @@
+package com.fryrank.util;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent steps of a handler's cold start concurrently. Building SDK clients, reading SSM parameters and
+ * fetching Google's signing keys each block on network or class loading, so starting them together on virtual threads
+ * makes init take as long as the slowest step instead of the sum of all of them.
+ *
+ * Steps are started with {@link #start(String, Supplier)} and {@link #join()} waits for all of them before the handler
+ * takes its first request, logging how long each step took.
+ */
+@Log4j2
+public class InitOrchestrator {
+
+    private final String owner;
+    private final long startNanos = System.nanoTime();
+    private final List<CompletableFuture<?>> steps = new ArrayList<>();
+    private final Map<String, Long> stepMillis = new LinkedHashMap<>();
+
+    public InitOrchestrator(@NonNull final String owner) {
+        this.owner = owner;
+    }
+
+    public <T> CompletableFuture<T> start(@NonNull final String name, @NonNull final Supplier<T> step) {
+        synchronized (stepMillis) {
+            stepMillis.put(name, null);
+        }
+        final CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            final long stepStartNanos = System.nanoTime();
+            try {
+                return step.get();
+            } finally {
+                synchronized (stepMillis) {
+                    stepMillis.put(name, Duration.ofNanos(System.nanoTime() - stepStartNanos).toMillis());
+                }
+            }
+        }, ExecutorUtils.executor());
+        steps.add(future);
+        return future;
+    }
+
+    /**
+     * Waits for every started step and rethrows the failure of the first one that failed.
+     */
+    public void join() {
+        try {
+            ExecutorUtils.join(CompletableFuture.allOf(steps.toArray(new CompletableFuture<?>[0])));
+        } finally {
+            synchronized (stepMillis) {
+                log.info("{} initialized in {} ms, step timings in ms: {}",
+                        owner, Duration.ofNanos(System.nanoTime() - startNanos).toMillis(), stepMillis);
+            }
+        }
+    }
+}
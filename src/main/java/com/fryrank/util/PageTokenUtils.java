@@ -0,0 +1,73 @@
+package com.fryrank.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Converts DynamoDB LastEvaluatedKey/ExclusiveStartKey maps to and from opaque, URL-safe page tokens. Only string and
+ * number attributes are supported, which covers every table and index key in this service.
+ */
+public final class PageTokenUtils {
+    private static final Gson GSON = new Gson();
+    private static final Type TOKEN_TYPE = new TypeToken<Map<String, Map<String, String>>>() {}.getType();
+    private static final String STRING_TYPE = "S";
+    private static final String NUMBER_TYPE = "N";
+
+    private PageTokenUtils() {}
+
+    /**
+     * @return the encoded token, or null if there is no next page
+     */
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, Map<String, String>> token = new HashMap<>();
+        lastEvaluatedKey.forEach((name, value) -> token.put(name, value.n() != null
+                ? Map.of(NUMBER_TYPE, value.n())
+                : Map.of(STRING_TYPE, value.s())));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(GSON.toJson(token, TOKEN_TYPE).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded key, or null if the token is null or empty
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static Map<String, AttributeValue> decode(String pageToken) {
+        if (pageToken == null || pageToken.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, Map<String, String>> token;
+        try {
+            token = GSON.fromJson(new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8), TOKEN_TYPE);
+        } catch (IllegalArgumentException | JsonParseException e) {
+            throw new IllegalArgumentException("Invalid page token.");
+        }
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Invalid page token.");
+        }
+
+        final Map<String, AttributeValue> key = new HashMap<>();
+        token.forEach((name, value) -> {
+            if (value.containsKey(NUMBER_TYPE)) {
+                key.put(name, AttributeValue.builder().n(value.get(NUMBER_TYPE)).build());
+            } else if (value.containsKey(STRING_TYPE)) {
+                key.put(name, AttributeValue.builder().s(value.get(STRING_TYPE)).build());
+            } else {
+                throw new IllegalArgumentException("Invalid page token.");
+            }
+        });
+        return key;
+    }
+}
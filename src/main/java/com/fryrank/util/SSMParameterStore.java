@@ -1,11 +1,19 @@
 package com.fryrank.util;
 
 import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.model.GetParameterRequest;
 import software.amazon.awssdk.services.ssm.model.GetParameterResponse;
+import software.amazon.awssdk.services.ssm.model.GetParametersRequest;
+import software.amazon.awssdk.services.ssm.model.GetParametersResponse;
+import software.amazon.awssdk.services.ssm.model.Parameter;
 import software.amazon.awssdk.services.ssm.model.SsmException;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static com.fryrank.Constants.DATABASE_URI_PARAMETER_NAME_ENV_VAR;
 import static com.fryrank.Constants.GOOGLE_CLIENT_ID_PARAMETER_NAME_ENV_VAR;
 import static com.fryrank.Constants.SSM_DISABLE_AUTH_PARAMETER_NAME_ENV_VAR;
@@ -13,6 +21,9 @@ import static com.fryrank.Constants.SSM_DISABLE_AUTH_PARAMETER_NAME_ENV_VAR;
 @Log4j2
 public class SSMParameterStore {
 
+    // Values read by prefetch, keyed by the environment variable naming the parameter.
+    private static final Map<String, String> PREFETCHED = new ConcurrentHashMap<>();
+
     public static String getDatabaseUriFromSSM() {
         return getParameterFromSSM(DATABASE_URI_PARAMETER_NAME_ENV_VAR);
     }
@@ -25,8 +36,43 @@ public class SSMParameterStore {
         return getParameterFromSSM(SSM_DISABLE_AUTH_PARAMETER_NAME_ENV_VAR);
     }
 
+    /**
+     * Reads several parameters with a single GetParameters call (at most 10) and keeps them for the getters above, so
+     * init pays for one SSM client and one round trip instead of one of each per parameter.
+     *
+     * @param parameterNameEnvVars environment variables holding the parameter names
+     */
+    public static void prefetch(String... parameterNameEnvVars) {
+        final Map<String, String> envVarsByParameterName = new HashMap<>();
+        for (String parameterNameEnvVar : parameterNameEnvVars) {
+            envVarsByParameterName.put(System.getenv(parameterNameEnvVar), parameterNameEnvVar);
+        }
+
+        try (SsmClient ssmClient = ssmClient()) {
+            final GetParametersResponse response = ssmClient.getParameters(GetParametersRequest.builder()
+                .names(envVarsByParameterName.keySet())
+                .withDecryption(true)
+                .build());
+            if (response.hasInvalidParameters() && !response.invalidParameters().isEmpty()) {
+                throw new IllegalStateException("Parameters " + response.invalidParameters() + " not found in SSM Parameter Store");
+            }
+            for (Parameter parameter : response.parameters()) {
+                PREFETCHED.put(envVarsByParameterName.get(parameter.name()), parameter.value());
+            }
+            log.info("Parameters {} retrieved from SSM Parameter Store successfully", (Object) parameterNameEnvVars);
+        } catch (SsmException e) {
+            log.error("Error retrieving parameters from SSM Parameter Store", e);
+            throw new IllegalStateException("Failed to retrieve parameters from SSM Parameter Store", e);
+        }
+    }
+
     private static String getParameterFromSSM(String parameterName) {
-        try (SsmClient ssmClient = SsmClient.create()) {
+        final String prefetched = PREFETCHED.get(parameterName);
+        if (prefetched != null) {
+            return prefetched;
+        }
+
+        try (SsmClient ssmClient = ssmClient()) {
             final GetParameterRequest parameterRequest = GetParameterRequest.builder()
                 .name(System.getenv(parameterName))
                 .withDecryption(true)
@@ -40,4 +86,11 @@ public class SSMParameterStore {
             throw new IllegalStateException("Failed to retrieve parameter " + parameterName + " from SSM Parameter Store", e);
         }
     }
-} 
\ No newline at end of file
+
+    // SSM is only read during init, so the client with the cheapest startup is used.
+    private static SsmClient ssmClient() {
+        return SsmClient.builder()
+            .httpClient(UrlConnectionHttpClient.create())
+            .build();
+    }
+}
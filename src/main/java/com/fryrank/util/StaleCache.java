@@ -0,0 +1,84 @@
+package com.fryrank.util;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * In-container cache of the last good result of a read, used only as a fallback: every call still goes to the loader,
+ * and the cached result is served only when the loader fails with an outage and the result is younger than
+ * {@code maxStaleness}. This bounds the latency of read endpoints during a partial outage at the cost of briefly stale
+ * data. Results the {@code cacheable} predicate rejects, such as degraded listings, are returned but never stored.
+ */
+@Log4j2
+public class StaleCache<K, V> {
+
+    private record Entry<V>(V value, long storedAtNanos) {}
+
+    private final String name;
+    private final long maxStalenessNanos;
+    private final Predicate<Throwable> isOutage;
+    private final Predicate<V> cacheable;
+    private final Map<K, Entry<V>> entries;
+
+    public StaleCache(
+            @NonNull final String name,
+            final int capacity,
+            @NonNull final Duration maxStaleness,
+            @NonNull final Predicate<Throwable> isOutage
+    ) {
+        this(name, capacity, maxStaleness, isOutage, value -> true);
+    }
+
+    public StaleCache(
+            @NonNull final String name,
+            final int capacity,
+            @NonNull final Duration maxStaleness,
+            @NonNull final Predicate<Throwable> isOutage,
+            @NonNull final Predicate<V> cacheable
+    ) {
+        this.name = name;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.isOutage = isOutage;
+        this.cacheable = cacheable;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public V get(@NonNull final K key, @NonNull final Supplier<V> loader) {
+        final V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            if (!isOutage.test(e)) {
+                throw e;
+            }
+            final Entry<V> stale;
+            synchronized (this) {
+                stale = entries.get(key);
+            }
+            if (stale == null || System.nanoTime() - stale.storedAtNanos() > maxStalenessNanos) {
+                throw e;
+            }
+            log.warn("Serving {} for {} from a result cached {} ms ago: {}", name, key,
+                    Duration.ofNanos(System.nanoTime() - stale.storedAtNanos()).toMillis(), e.getMessage());
+            return stale.value();
+        }
+
+        if (cacheable.test(value)) {
+            synchronized (this) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+            }
+        }
+        return value;
+    }
+}
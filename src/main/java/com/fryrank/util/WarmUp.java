@@ -0,0 +1,44 @@
+package com.fryrank.util;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+
+import static com.fryrank.Constants.WARMUP_ROUTE_KEY;
+
+/**
+ * Fast path for scheduled keep-warm pings. Handlers check for the warm-up event before anything else, then run a cheap
+ * priming pass and answer without going through validation, CORS header building or request logging.
+ */
+@Log4j2
+public final class WarmUp {
+
+    private WarmUp() {}
+
+    public static boolean isWarmUpEvent(APIGatewayV2HTTPEvent input) {
+        return input != null && WARMUP_ROUTE_KEY.equals(input.getRouteKey());
+    }
+
+    /**
+     * Touches the DynamoDB connection and runs the handler's own primers. Priming never fails the ping.
+     */
+    public static APIGatewayV2HTTPResponse prime(String handlerName, Runnable... primers) {
+        return primeWith(handlerName, DynamoDbUtils::prime, primers);
+    }
+
+    static APIGatewayV2HTTPResponse primeWith(String handlerName, Runnable connectionPrimer, Runnable... primers) {
+        final long start = System.nanoTime();
+        connectionPrimer.run();
+        for (Runnable primer : primers) {
+            try {
+                primer.run();
+            } catch (RuntimeException e) {
+                log.warn("Priming step of {} failed", handlerName, e);
+            }
+        }
+        log.info("{} primed in {} ms", handlerName, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return APIGatewayResponseBuilder.builder().statusCode(200).build();
+    }
+}
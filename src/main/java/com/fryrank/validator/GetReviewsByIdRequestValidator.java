@@ -0,0 +1,50 @@
+package com.fryrank.validator;
+
+import lombok.NonNull;
+import com.fryrank.model.GetReviewsByIdRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.util.List;
+
+import static com.fryrank.Constants.MAX_REVIEW_IDS_PER_LOOKUP;
+import static com.fryrank.Constants.REJECTION_FORMAT_CODE;
+import static com.fryrank.Constants.REJECTION_REQUIRED_CODE;
+
+public class GetReviewsByIdRequestValidator implements Validator {
+    public static final String REVIEW_IDS = "reviewIds";
+    public static final String REVIEW_IDS_REJECTION_REQUIRED_REASON = "At least one review ID is required.";
+    public static final String REVIEW_IDS_REJECTION_TOO_MANY_REASON = "At most " + MAX_REVIEW_IDS_PER_LOOKUP + " review IDs can be requested at once.";
+    public static final String REVIEW_IDS_REJECTION_FORMAT_REASON = "Each review ID must be in the format 'restaurantId:accountId'.";
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return GetReviewsByIdRequest.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        GetReviewsByIdRequest request = (GetReviewsByIdRequest) target;
+        List<String> reviewIds = request.reviewIds();
+
+        // Validate review IDs are present
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            errors.rejectValue(REVIEW_IDS, REJECTION_REQUIRED_CODE, REVIEW_IDS_REJECTION_REQUIRED_REASON);
+            return;
+        }
+
+        // Validate the batch stays within the lookup limit
+        if (reviewIds.size() > MAX_REVIEW_IDS_PER_LOOKUP) {
+            errors.rejectValue(REVIEW_IDS, REJECTION_FORMAT_CODE, REVIEW_IDS_REJECTION_TOO_MANY_REASON);
+            return;
+        }
+
+        // Validate format: each ID should be restaurantId:accountId with both parts present
+        for (String reviewId : reviewIds) {
+            if (reviewId == null || reviewId.indexOf(':') <= 0 || reviewId.indexOf(':') == reviewId.length() - 1) {
+                errors.rejectValue(REVIEW_IDS, REJECTION_FORMAT_CODE, REVIEW_IDS_REJECTION_FORMAT_REASON);
+                return;
+            }
+        }
+    }
+}
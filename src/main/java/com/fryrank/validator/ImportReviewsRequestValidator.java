@@ -0,0 +1,75 @@
+package com.fryrank.validator;
+
+import lombok.NonNull;
+import com.fryrank.model.ImportReviewsRequest;
+import com.fryrank.model.Review;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.fryrank.Constants.MAX_IMPORT_REVIEWS_PER_REQUEST;
+import static com.fryrank.Constants.REJECTION_FORMAT_CODE;
+import static com.fryrank.Constants.REJECTION_REQUIRED_CODE;
+import static com.fryrank.Constants.REVIEW_VALIDATOR_ERRORS_OBJECT_NAME;
+
+public class ImportReviewsRequestValidator implements Validator {
+    public static final String REVIEWS = "reviews";
+    public static final String REVIEWS_REJECTION_REQUIRED_REASON = "At least one review is required.";
+    public static final String REVIEWS_REJECTION_TOO_MANY_REASON = "At most " + MAX_IMPORT_REVIEWS_PER_REQUEST + " reviews can be imported at once.";
+    public static final String REVIEWS_REJECTION_INVALID_REVIEW_FORMAT = "Review at index %d is invalid: %s";
+    public static final String REVIEWS_REJECTION_DUPLICATE_FORMAT = "Review at index %d duplicates an earlier review for the same restaurant and account.";
+
+    private final ReviewValidator reviewValidator = new ReviewValidator();
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return ImportReviewsRequest.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        ImportReviewsRequest request = (ImportReviewsRequest) target;
+        List<Review> reviews = request.reviews();
+
+        // Validate reviews are present
+        if (reviews == null || reviews.isEmpty()) {
+            errors.rejectValue(REVIEWS, REJECTION_REQUIRED_CODE, REVIEWS_REJECTION_REQUIRED_REASON);
+            return;
+        }
+
+        // Validate the batch stays within the import limit
+        if (reviews.size() > MAX_IMPORT_REVIEWS_PER_REQUEST) {
+            errors.rejectValue(REVIEWS, REJECTION_FORMAT_CODE, REVIEWS_REJECTION_TOO_MANY_REASON);
+            return;
+        }
+
+        // Validate each review like a single add, and that each account reviews a restaurant at most once
+        final Set<String> reviewIds = new HashSet<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            final Review review = reviews.get(i);
+            if (review == null) {
+                errors.rejectValue(REVIEWS, REJECTION_REQUIRED_CODE, String.format(REVIEWS_REJECTION_INVALID_REVIEW_FORMAT, i, "review is missing"));
+                return;
+            }
+
+            final Errors reviewErrors = new BeanPropertyBindingResult(review, REVIEW_VALIDATOR_ERRORS_OBJECT_NAME);
+            reviewValidator.validate(review, reviewErrors);
+            if (reviewErrors.hasErrors()) {
+                final String reason = reviewErrors.getFieldError() != null && reviewErrors.getFieldError().getDefaultMessage() != null
+                        ? reviewErrors.getFieldError().getDefaultMessage()
+                        : reviewErrors.getAllErrors().get(0).getCode();
+                errors.rejectValue(REVIEWS, REJECTION_FORMAT_CODE, String.format(REVIEWS_REJECTION_INVALID_REVIEW_FORMAT, i, reason));
+                return;
+            }
+
+            if (!reviewIds.add(review.getRestaurantId() + ":" + review.getAccountId())) {
+                errors.rejectValue(REVIEWS, REJECTION_FORMAT_CODE, String.format(REVIEWS_REJECTION_DUPLICATE_FORMAT, i));
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.fryrank.validator;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.ReviewTimeFilter;
+import com.fryrank.model.enums.QueryParam;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+
+/**
+ * Declarative description of what a route accepts: whether it needs a body, and for each query parameter whether it
+ * is required, its type and its bounds. Each handler builds its spec once as a constant; {@link #parse} checks a
+ * request against the spec and returns the typed parameters.
+ */
+public final class RouteSpec {
+
+    public static final String REQUEST_BODY_REQUIRED_ERROR_MESSAGE = "Request body is required";
+    public static final String QUERY_PARAMS_REQUIRED_ERROR_MESSAGE = "Query parameters are required";
+    public static final String QUERY_PARAM_MISSING_ERROR_FORMAT = "Required query parameter '%s' is missing";
+    public static final String AT_LEAST_ONE_PARAM_REQUIRED_ERROR_FORMAT = "At least one of these query parameters is required: %s";
+    public static final String QUERY_PARAM_INVALID_ISO_DATE_TIME_ERROR_FORMAT = "Query parameter '%s' must be an ISO-8601 instant";
+    public static final String QUERY_PARAM_INVALID_INTEGER_ERROR_FORMAT = "Query parameter '%s' must be an integer";
+    public static final String QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT = "Query parameter '%s' must be between %d and %d";
+    public static final String QUERY_PARAM_NO_IDS_ERROR_FORMAT = "Query parameter '%s' must contain at least one id";
+    public static final String QUERY_PARAM_TOO_MANY_IDS_ERROR_FORMAT = "Query parameter '%s' accepts at most %d ids";
+    public static final String SINCE_WITH_RANGE_ERROR_MESSAGE = "Query parameter 'since' cannot be combined with 'from' or 'to'";
+    public static final String INVALID_TIME_RANGE_ERROR_MESSAGE = "Query parameter 'from' must not be after 'to'";
+
+    enum ParamType { STRING, INTEGER, BOOLEAN, INSTANT, ID_LIST }
+
+    private record ParamSpec(QueryParam param, ParamType type, boolean required, int min, int max) {}
+
+    private final boolean bodyRequired;
+    private final List<ParamSpec> params;
+    private final List<QueryParam> atLeastOneOf;
+    private final String atLeastOneOfNames;
+    private final boolean timeRange;
+    private final boolean queryParamsRequired;
+
+    private RouteSpec(final Builder builder) {
+        this.bodyRequired = builder.bodyRequired;
+        this.params = List.copyOf(builder.params);
+        this.atLeastOneOf = List.copyOf(builder.atLeastOneOf);
+        this.atLeastOneOfNames = atLeastOneOf.stream()
+                .map(param -> "'" + param.getValue() + "'")
+                .collect(Collectors.joining(" or "));
+        this.timeRange = builder.timeRange;
+        this.queryParamsRequired = !atLeastOneOf.isEmpty() || params.stream().anyMatch(ParamSpec::required);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks the request against this spec.
+     * @param request The API Gateway request
+     * @return The declared query parameters that are present, converted to their types
+     * @throws IllegalArgumentException if the request does not satisfy the spec
+     */
+    public RequestParams parse(final APIGatewayV2HTTPEvent request) {
+        if (bodyRequired && (request.getBody() == null || request.getBody().isEmpty())) {
+            throw new IllegalArgumentException(REQUEST_BODY_REQUIRED_ERROR_MESSAGE);
+        }
+        if (params.isEmpty()) {
+            return RequestParams.EMPTY;
+        }
+
+        if (request.getQueryStringParameters() == null && queryParamsRequired) {
+            throw new IllegalArgumentException(QUERY_PARAMS_REQUIRED_ERROR_MESSAGE);
+        }
+        final Map<String, String> query = request.getQueryStringParameters() != null
+                ? request.getQueryStringParameters()
+                : Map.of();
+
+        if (!atLeastOneOf.isEmpty() && atLeastOneOf.stream().noneMatch(param -> query.get(param.getValue()) != null)) {
+            throw new IllegalArgumentException(String.format(AT_LEAST_ONE_PARAM_REQUIRED_ERROR_FORMAT, atLeastOneOfNames));
+        }
+
+        final EnumMap<QueryParam, Object> values = new EnumMap<>(QueryParam.class);
+        for (ParamSpec spec : params) {
+            final String raw = query.get(spec.param().getValue());
+            if (raw == null) {
+                if (spec.required()) {
+                    throw new IllegalArgumentException(String.format(QUERY_PARAM_MISSING_ERROR_FORMAT, spec.param().getValue()));
+                }
+                continue;
+            }
+            values.put(spec.param(), convert(spec, raw));
+        }
+
+        if (timeRange) {
+            validateTimeRange(values);
+        }
+        return new RequestParams(values);
+    }
+
+    private static Object convert(final ParamSpec spec, final String raw) {
+        final String name = spec.param().getValue();
+        switch (spec.type()) {
+            case INTEGER:
+                final int value;
+                try {
+                    value = Integer.parseInt(raw);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(String.format(QUERY_PARAM_INVALID_INTEGER_ERROR_FORMAT, name));
+                }
+                if (value < spec.min() || value > spec.max()) {
+                    throw new IllegalArgumentException(String.format(QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT, name, spec.min(), spec.max()));
+                }
+                return value;
+            case BOOLEAN:
+                return Boolean.parseBoolean(raw);
+            case INSTANT:
+                try {
+                    return ReviewTimeFilter.toStoredIsoDateTime(raw);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException(String.format(QUERY_PARAM_INVALID_ISO_DATE_TIME_ERROR_FORMAT, name));
+                }
+            case ID_LIST:
+                final List<String> ids = Arrays.stream(raw.split(","))
+                        .map(String::trim)
+                        .filter(id -> !id.isEmpty())
+                        .distinct()
+                        .collect(Collectors.toUnmodifiableList());
+                if (ids.isEmpty()) {
+                    throw new IllegalArgumentException(String.format(QUERY_PARAM_NO_IDS_ERROR_FORMAT, name));
+                }
+                if (ids.size() > spec.max()) {
+                    throw new IllegalArgumentException(String.format(QUERY_PARAM_TOO_MANY_IDS_ERROR_FORMAT, name, spec.max()));
+                }
+                return ids;
+            default:
+                return raw;
+        }
+    }
+
+    private static void validateTimeRange(final Map<QueryParam, Object> values) {
+        final String from = (String) values.get(QueryParam.FROM);
+        final String to = (String) values.get(QueryParam.TO);
+        if (values.containsKey(QueryParam.SINCE) && (from != null || to != null)) {
+            throw new IllegalArgumentException(SINCE_WITH_RANGE_ERROR_MESSAGE);
+        }
+        if (from != null && to != null && Instant.parse(from).isAfter(Instant.parse(to))) {
+            throw new IllegalArgumentException(INVALID_TIME_RANGE_ERROR_MESSAGE);
+        }
+    }
+
+    public static final class Builder {
+        private final List<ParamSpec> params = new ArrayList<>();
+        private final List<QueryParam> atLeastOneOf = new ArrayList<>();
+        private boolean bodyRequired;
+        private boolean timeRange;
+
+        private Builder() {
+        }
+
+        public Builder body() {
+            bodyRequired = true;
+            return this;
+        }
+
+        public Builder requiredString(final QueryParam param) {
+            return add(param, ParamType.STRING, true, 0, 0);
+        }
+
+        public Builder optionalString(final QueryParam param) {
+            return add(param, ParamType.STRING, false, 0, 0);
+        }
+
+        public Builder requiredInteger(final QueryParam param, final int min, final int max) {
+            return add(param, ParamType.INTEGER, true, min, max);
+        }
+
+        public Builder optionalInteger(final QueryParam param, final int min, final int max) {
+            return add(param, ParamType.INTEGER, false, min, max);
+        }
+
+        public Builder optionalBoolean(final QueryParam param) {
+            return add(param, ParamType.BOOLEAN, false, 0, 0);
+        }
+
+        public Builder optionalInstant(final QueryParam param) {
+            return add(param, ParamType.INSTANT, false, 0, 0);
+        }
+
+        /**
+         * A comma-separated list of ids, parsed into a list of distinct, trimmed ids.
+         */
+        public Builder requiredIds(final QueryParam param, final int maxIds) {
+            return add(param, ParamType.ID_LIST, true, 1, maxIds);
+        }
+
+        public Builder optionalIds(final QueryParam param, final int maxIds) {
+            return add(param, ParamType.ID_LIST, false, 1, maxIds);
+        }
+
+        /**
+         * Requires at least one of the given parameters; each must also be declared on its own.
+         */
+        public Builder atLeastOneOf(final QueryParam... anyOf) {
+            atLeastOneOf.addAll(List.of(anyOf));
+            return this;
+        }
+
+        /**
+         * Accepts the optional since/from/to bounds of a review listing. since cannot be combined with a range and
+         * from must not be after to.
+         */
+        public Builder timeRange() {
+            timeRange = true;
+            return optionalInstant(QueryParam.SINCE)
+                    .optionalInstant(QueryParam.FROM)
+                    .optionalInstant(QueryParam.TO);
+        }
+
+        public RouteSpec build() {
+            return new RouteSpec(this);
+        }
+
+        private Builder add(final QueryParam param, final ParamType type, final boolean required, final int min, final int max) {
+            params.add(new ParamSpec(param, type, required, min, max));
+            return this;
+        }
+    }
+}
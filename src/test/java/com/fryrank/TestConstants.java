@@ -30,6 +30,7 @@ public class TestConstants {
     public static final String TEST_INVALID_TOKEN = "invalid-token";
     public static final String TEST_MALFORMED_TOKEN = "InvalidToken";
     public static final String TEST_CLIENT_ID = "test-client-id";
+    public static final String TEST_IDEMPOTENCY_KEY = "3f1c2a9e-idempotency-key";
 
     public static final PublicUserMetadata TEST_USER_METADATA_1 = new PublicUserMetadata(
             TEST_ACCOUNT_ID,
@@ -0,0 +1,117 @@
+package com.fryrank.dal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HedgedReadTests {
+
+    private static HedgedRead warmedUp(double budgetRatio) {
+        final HedgedRead hedgedRead = new HedgedRead("test", 0.95, 10, budgetRatio);
+        for (int i = 0; i < 100; i++) {
+            hedgedRead.recordLatency(5);
+        }
+        return hedgedRead;
+    }
+
+    @Test
+    public void testExecute_slowPrimary_hedgeWins() {
+        final HedgedRead hedgedRead = warmedUp(1.0);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final String result = hedgedRead.execute(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+        release.countDown();
+
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, hedgedRead.hedgeCount());
+        assertEquals(1, hedgedRead.hedgeWinCount());
+    }
+
+    @Test
+    public void testExecute_notWarmedUp_neverHedges() {
+        final HedgedRead hedgedRead = new HedgedRead("test", 0.95, 10, 1.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertEquals("primary", hedgedRead.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(50);
+            return "primary";
+        }));
+        assertEquals(1, attempts.get());
+        assertEquals(0, hedgedRead.hedgeCount());
+    }
+
+    @Test
+    public void testExecute_budgetExhausted_waitsForPrimary() {
+        final HedgedRead hedgedRead = warmedUp(0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        assertEquals("primary", hedgedRead.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(50);
+            return "primary";
+        }));
+        assertEquals(1, attempts.get());
+        assertEquals(0, hedgedRead.hedgeCount());
+    }
+
+    @Test
+    public void testExecute_bothFail_throwsPrimaryFailure() {
+        final HedgedRead hedgedRead = warmedUp(1.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, () -> hedgedRead.execute(() -> {
+            final int attempt = attempts.getAndIncrement();
+            sleep(attempt == 0 ? 50 : 0);
+            throw new IllegalStateException("attempt " + attempt);
+        }));
+        assertEquals("attempt 0", e.getMessage());
+    }
+
+    @Test
+    public void testExecute_primaryFailsBeforeHedgeSucceeds_returnsHedgeResult() {
+        final HedgedRead hedgedRead = warmedUp(1.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // Repeated since the race only shows when the primary's callbacks run first; few enough times that the hedges'
+        // latencies do not move the hedge delay
+        for (int i = 0; i < 3; i++) {
+            attempts.set(0);
+            assertEquals("hedge", hedgedRead.execute(() -> {
+                if (attempts.getAndIncrement() == 0) {
+                    // Slow enough to be hedged, then fails while the hedge is still running
+                    sleep(20);
+                    throw new IllegalStateException("primary");
+                }
+                sleep(30);
+                return "hedge";
+            }));
+        }
+        assertEquals(3, hedgedRead.hedgeWinCount());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.fryrank.dal;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JitteredRetryPolicyTests {
+
+    private static TransactionCanceledException canceled(String... codes) {
+        final CancellationReason[] reasons = new CancellationReason[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            reasons[i] = CancellationReason.builder().code(codes[i]).build();
+        }
+        return TransactionCanceledException.builder().cancellationReasons(reasons).build();
+    }
+
+    @Test
+    public void testClassify() {
+        assertEquals(RetryPolicy.FailureKind.CONFLICT, RetryPolicy.classify(canceled("None", "ConditionalCheckFailed")));
+        assertEquals(RetryPolicy.FailureKind.CONFLICT, RetryPolicy.classify(TransactionCanceledException.builder().build()));
+        assertEquals(RetryPolicy.FailureKind.THROTTLED, RetryPolicy.classify(canceled("ConditionalCheckFailed", "ThrottlingError")));
+        assertEquals(RetryPolicy.FailureKind.NON_RETRYABLE, RetryPolicy.classify(canceled("ThrottlingError", "ValidationError")));
+        assertEquals(RetryPolicy.FailureKind.CONFLICT, RetryPolicy.classify(ConditionalCheckFailedException.builder().build()));
+        assertEquals(RetryPolicy.FailureKind.THROTTLED, RetryPolicy.classify(ProvisionedThroughputExceededException.builder().build()));
+        assertEquals(RetryPolicy.FailureKind.NON_RETRYABLE, RetryPolicy.classify(new IllegalStateException()));
+    }
+
+    @Test
+    public void testBackoff_isJitteredWithinCap() {
+        final JitteredRetryPolicy policy = new JitteredRetryPolicy("test", 10, 10, 50, 100, new RetryBudget(100));
+        for (int i = 0; i < 100; i++) {
+            final long conflictDelay = policy.backoffMillis(2, RetryPolicy.FailureKind.CONFLICT);
+            assertTrue(conflictDelay >= 0 && conflictDelay <= 40);
+            final long throttledDelay = policy.backoffMillis(5, RetryPolicy.FailureKind.THROTTLED);
+            assertTrue(throttledDelay >= 0 && throttledDelay <= 100);
+        }
+    }
+
+    @Test
+    public void testOnFailure_stopsAtMaxAttemptsAndOnNonRetryable() {
+        final JitteredRetryPolicy policy = new JitteredRetryPolicy("test", 2, 0, 0, 0, new RetryBudget(100));
+
+        assertEquals(RetryPolicy.Decision.RETRY, policy.onFailure(0, RetryPolicy.FailureKind.CONFLICT));
+        assertEquals(RetryPolicy.Decision.ATTEMPTS_EXHAUSTED, policy.onFailure(1, RetryPolicy.FailureKind.CONFLICT));
+        assertEquals(RetryPolicy.Decision.NON_RETRYABLE, policy.onFailure(0, RetryPolicy.FailureKind.NON_RETRYABLE));
+
+        assertEquals(1L, policy.metrics().get("test.retries.conflict"));
+        assertEquals(1L, policy.metrics().get("test.giveUps.attemptsExhausted"));
+        assertEquals(1L, policy.metrics().get("test.giveUps.nonRetryable"));
+    }
+
+    @Test
+    public void testOnFailure_budgetChargesThrottlingMoreAndRefundsOnSuccess() {
+        final RetryBudget budget = new RetryBudget(JitteredRetryPolicy.THROTTLED_RETRY_COST);
+        final JitteredRetryPolicy policy = new JitteredRetryPolicy("test", 10, 0, 0, 0, budget);
+
+        assertEquals(RetryPolicy.Decision.RETRY, policy.onFailure(0, RetryPolicy.FailureKind.THROTTLED));
+        assertEquals(RetryPolicy.Decision.BUDGET_EXHAUSTED, policy.onFailure(1, RetryPolicy.FailureKind.CONFLICT));
+
+        policy.onSuccess();
+        assertEquals(1, budget.available());
+        assertEquals(RetryPolicy.Decision.RETRY, policy.onFailure(1, RetryPolicy.FailureKind.CONFLICT));
+        assertEquals(1L, policy.metrics().get("test.retries.throttled"));
+        assertEquals(1L, policy.metrics().get("test.giveUps.budgetExhausted"));
+    }
+}
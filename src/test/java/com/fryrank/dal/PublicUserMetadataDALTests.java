@@ -1,8 +1,10 @@
 package com.fryrank.dal;
+import com.fryrank.model.AccountReviewSummary;
 import com.fryrank.model.PublicUserMetadata;
 import com.fryrank.model.PublicUserMetadataOutput;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -10,15 +12,19 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
-import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
-import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
 
 import java.util.Map;
 
 import static com.fryrank.Constants.ACCOUNT_ID_KEY;
+import static com.fryrank.Constants.LAST_REVIEW_ISO_DATE_TIME_KEY;
+import static com.fryrank.Constants.REVIEW_COUNT_KEY;
+import static com.fryrank.Constants.TOTAL_SCORE_KEY;
 import static com.fryrank.TestConstants.TEST_ACCOUNT_ID;
 import static com.fryrank.TestConstants.TEST_ACCOUNT_ID_NO_USER_METADATA;
 import static com.fryrank.TestConstants.TEST_DEFAULT_NAME;
+import static com.fryrank.TestConstants.TEST_ISO_DATE_TIME_1;
 import static com.fryrank.TestConstants.TEST_USER_METADATA_1;
 import static com.fryrank.TestConstants.TEST_USER_METADATA_OUTPUT_1;
 import static com.fryrank.TestConstants.TEST_PUBLIC_USER_METADATA_OUTPUT_EMPTY;
@@ -26,6 +32,7 @@ import static com.fryrank.TestConstants.TEST_PUBLIC_USER_METADATA_OUTPUT_WITH_DE
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,7 +65,7 @@ public class PublicUserMetadataDALTests {
                 .item(Map.of())
                 .build();
         when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(getItemResponse);
-        when(dynamoDb.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
 
         final PublicUserMetadataOutput actualOutput = userMetadataDAL.putPublicUserMetadataForAccountId(TEST_ACCOUNT_ID_NO_USER_METADATA, TEST_DEFAULT_NAME);
         assertEquals(TEST_PUBLIC_USER_METADATA_OUTPUT_WITH_DEFAULT_NAME, actualOutput);
@@ -83,6 +90,35 @@ public class PublicUserMetadataDALTests {
         assertEquals(TEST_USER_METADATA_OUTPUT_1, actualOutput);
     }
 
+    @Test
+    public void testGetPublicUserMetadataForAccountId_withReviewSummary() throws Exception {
+        GetItemResponse getItemResponse = GetItemResponse.builder()
+                .item(Map.of(
+                        ACCOUNT_ID_KEY, AttributeValue.builder().s(TEST_ACCOUNT_ID).build(),
+                        "username", AttributeValue.builder().s(TEST_USER_METADATA_1.getUsername()).build(),
+                        REVIEW_COUNT_KEY, AttributeValue.builder().n("3").build(),
+                        TOTAL_SCORE_KEY, AttributeValue.builder().n("20.0").build(),
+                        LAST_REVIEW_ISO_DATE_TIME_KEY, AttributeValue.builder().s(TEST_ISO_DATE_TIME_1).build()
+                ))
+                .build();
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(getItemResponse);
+
+        final PublicUserMetadataOutput actualOutput = userMetadataDAL.getPublicUserMetadataForAccountId(TEST_ACCOUNT_ID);
+        assertEquals(TEST_USER_METADATA_1.getUsername(), actualOutput.getUsername());
+        assertEquals(new AccountReviewSummary(3, 6.6F, TEST_ISO_DATE_TIME_1), actualOutput.getReviewSummary());
+    }
+
+    @Test
+    public void testUpsertPublicUserMetadata_preservesReviewSummary() throws Exception {
+        when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+
+        userMetadataDAL.upsertPublicUserMetadata(TEST_USER_METADATA_1);
+
+        ArgumentCaptor<UpdateItemRequest> updateCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDb).updateItem(updateCaptor.capture());
+        assertEquals("SET #username = :username", updateCaptor.getValue().updateExpression());
+    }
+
     @Test
     public void testGetPublicUserMetadataForAccountId_noUserMetadata() throws Exception {
         GetItemResponse getItemResponse = GetItemResponse.builder()
@@ -101,7 +137,7 @@ public class PublicUserMetadataDALTests {
 
     @Test
     public void testUpsertPublicUserMetadata() throws Exception {
-        when(dynamoDb.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
 
         final PublicUserMetadataOutput actualUserMetadata = userMetadataDAL.upsertPublicUserMetadata(TEST_USER_METADATA_1);
         assertEquals(TEST_USER_METADATA_OUTPUT_1, actualUserMetadata);
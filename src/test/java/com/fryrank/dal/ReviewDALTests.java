@@ -1,9 +1,24 @@
 
 package com.fryrank.dal;
 
+import com.fryrank.model.AggregateReviewFilter;
+import com.fryrank.model.AggregateReviewInformation;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.GetRestaurantLeaderboardOutput;
+import com.fryrank.model.GetTrendingRestaurantsOutput;
+import com.fryrank.model.GetUserReviewStatusOutput;
+import com.fryrank.model.ImportReviewsOutput;
+import com.fryrank.model.PurgeAccountReviewsOutput;
 import com.fryrank.model.Review;
+import com.fryrank.model.ReviewTimeFilter;
+import com.fryrank.model.TrendingRestaurant;
+import com.fryrank.model.UserMetadataBatch;
 import com.fryrank.model.DeleteReviewRequest;
+import com.fryrank.model.exceptions.DeadlineExceededException;
+import com.fryrank.model.exceptions.IdempotencyKeyReusedException;
+import com.fryrank.util.Deadline;
+import com.fryrank.util.PageTokenUtils;
+import com.google.gson.Gson;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -14,40 +29,76 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.Put;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
 import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
 import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.fryrank.Constants.ACCOUNT_ID_KEY;
+import static com.fryrank.Constants.ACCOUNT_ID_TIME_INDEX;
+import static com.fryrank.Constants.AGGREGATE_IDENTIFIER;
 import static com.fryrank.Constants.AVERAGE_SCORE_KEY;
+import static com.fryrank.Constants.BAYESIAN_SCORE_KEY;
 import static com.fryrank.Constants.BODY_KEY;
+import static com.fryrank.Constants.DAILY_REVIEW_COUNTS_KEY;
+import static com.fryrank.Constants.DAILY_TOTAL_SCORES_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_EXPIRES_AT_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_REQUEST_HASH_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_RESULT_KEY;
+import static com.fryrank.Constants.IDEMPOTENCY_TABLE_NAME;
 import static com.fryrank.Constants.IDENTIFIER_KEY;
 import static com.fryrank.Constants.ISO_DATE_TIME;
 import static com.fryrank.Constants.ISO_DATE_TIME_KEY;
+import static com.fryrank.Constants.LAST_REVIEW_DAY_KEY;
+import static com.fryrank.Constants.LEADERBOARD_INDEX;
+import static com.fryrank.Constants.RANKINGS_TABLE_NAME;
 import static com.fryrank.Constants.RESTAURANT_ID_KEY;
 import static com.fryrank.Constants.REVIEW_COUNT_KEY;
 import static com.fryrank.Constants.REVIEW_IDENTIFIER_PREFIX;
 import static com.fryrank.Constants.SCORE_KEY;
+import static com.fryrank.Constants.SCORE_HISTOGRAM_KEY;
 import static com.fryrank.Constants.TITLE_KEY;
 import static com.fryrank.Constants.TOTAL_SCORE_KEY;
+import static com.fryrank.Constants.TRENDING_INDEX;
 import static com.fryrank.Constants.USERNAME_KEY;
 import static com.fryrank.Constants.USER_METADATA_TABLE_NAME;
 import static com.fryrank.TestConstants.TEST_ACCOUNT_ID;
+import static com.fryrank.TestConstants.TEST_ACCOUNT_ID_NO_USER_METADATA;
+import static com.fryrank.TestConstants.TEST_IDEMPOTENCY_KEY;
 import static com.fryrank.TestConstants.TEST_ISO_DATE_TIME_1;
 import static com.fryrank.TestConstants.TEST_RESTAURANT_ID;
+import static com.fryrank.TestConstants.TEST_RESTAURANT_ID_1;
+import static com.fryrank.TestConstants.TEST_RESTAURANT_ID_2;
 import static com.fryrank.TestConstants.TEST_REVIEWS;
 import static com.fryrank.TestConstants.TEST_REVIEW_1;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -57,6 +108,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -85,6 +138,52 @@ public class ReviewDALTests {
         assertEquals(TEST_REVIEWS.size(), actualOutput.getReviews().size());
     }
 
+    @Test
+    public void testGetAllReviewsByRestaurantId_userMetadataThrottled_throws() {
+        QueryResponse queryResponse = QueryResponse.builder()
+                .items(TEST_REVIEWS.stream().map(this::reviewToAttributeMap).toList())
+                .build();
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(queryResponse);
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("throttled").build());
+
+        // Degraded mode is off by default, so a failed metadata read fails the listing
+        assertThrows(ProvisionedThroughputExceededException.class, () -> reviewDAL.getAllReviewsByRestaurantId(TEST_RESTAURANT_ID));
+    }
+
+    @Test
+    public void testGetUserMetadataWithin_slowRead_returnsPartialBatch() {
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return BatchGetItemResponse.builder().responses(Map.of()).build();
+        });
+
+        final UserMetadataBatch batch = reviewDAL.getUserMetadataWithin(List.of(TEST_ACCOUNT_ID_NO_USER_METADATA), Duration.ofMillis(20));
+
+        assertTrue(batch.partial());
+        assertTrue(batch.userMetadata().isEmpty());
+    }
+
+    @Test
+    public void testGetUserMetadataWithin_failedRead_throwsInsteadOfDegrading() {
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("throttled").build());
+
+        assertThrows(ProvisionedThroughputExceededException.class,
+                () -> reviewDAL.getUserMetadataWithin(List.of(TEST_ACCOUNT_ID), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void testGetUserMetadataWithin_requestDeadlineRunsOutFirst_throwsDeadlineExceeded() {
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return BatchGetItemResponse.builder().responses(Map.of()).build();
+        });
+
+        assertThrows(DeadlineExceededException.class, () -> Deadline.runWithin(Deadline.after(Duration.ofMillis(100)),
+                () -> reviewDAL.getUserMetadataWithin(List.of(TEST_ACCOUNT_ID), Duration.ofSeconds(1))));
+    }
+
     @Test
     public void testGetAllReviewsByRestaurantId_noReviews() throws Exception {
         QueryResponse queryResponse = QueryResponse.builder()
@@ -147,6 +246,255 @@ public class ReviewDALTests {
         assertEquals(TEST_REVIEWS.size(), actualOutput.getReviews().size());
     }
 
+    @Test
+    public void testGetRecentReviews_since_usesKeyCondition() throws Exception {
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        final ReviewTimeFilter timeFilter = ReviewTimeFilter.builder().since(TEST_ISO_DATE_TIME_1).build();
+        final GetAllReviewsOutput actualOutput = reviewDAL.getRecentReviews(TEST_REVIEWS.size(), timeFilter);
+        assertTrue(actualOutput.getReviews().isEmpty());
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        assertEquals("#ir = :isReview AND #time > :since", queryCaptor.getValue().keyConditionExpression());
+        assertEquals(ISO_DATE_TIME, queryCaptor.getValue().expressionAttributeNames().get("#time"));
+        assertEquals(TEST_ISO_DATE_TIME_1, queryCaptor.getValue().expressionAttributeValues().get(":since").s());
+    }
+
+    @Test
+    public void testGetRecentReviews_sinceWithOffset_comparesNormalizedUtcValue() throws Exception {
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        final ReviewTimeFilter timeFilter = ReviewTimeFilter.builder().since("2024-07-01T02:30:00+02:00").build();
+        reviewDAL.getRecentReviews(TEST_REVIEWS.size(), timeFilter);
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        assertEquals("2024-07-01T00:30:00Z", queryCaptor.getValue().expressionAttributeValues().get(":since").s());
+    }
+
+    @Test
+    public void testGetAggregateReviewInformationForRestaurants_includeHistogram() throws Exception {
+        final Map<String, AttributeValue> aggregate = new HashMap<>();
+        aggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_RESTAURANT_ID).build());
+        aggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s(AGGREGATE_IDENTIFIER).build());
+        aggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("12.0").build());
+        aggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("2").build());
+        aggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("6.0").build());
+        aggregate.put(SCORE_HISTOGRAM_KEY, AttributeValue.builder().m(Map.of(
+                "5", AttributeValue.builder().n("1").build(),
+                "7", AttributeValue.builder().n("1").build()
+        )).build());
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+                .responses(Map.of(RANKINGS_TABLE_NAME, List.of(aggregate)))
+                .build());
+
+        final AggregateReviewInformation withHistogram = reviewDAL.getAggregateReviewInformationForRestaurants(
+                List.of(TEST_RESTAURANT_ID), new AggregateReviewFilter(true, true))
+                .getRestaurantIdToRestaurantInformation().get(TEST_RESTAURANT_ID);
+        assertEquals(6.0F, withHistogram.getAvgScore());
+        assertEquals(Map.of("5", 1, "7", 1), withHistogram.getScoreHistogram());
+
+        final AggregateReviewInformation withoutHistogram = reviewDAL.getAggregateReviewInformationForRestaurants(
+                List.of(TEST_RESTAURANT_ID), new AggregateReviewFilter(true))
+                .getRestaurantIdToRestaurantInformation().get(TEST_RESTAURANT_ID);
+        assertNull(withoutHistogram.getScoreHistogram());
+    }
+
+    @Test
+    public void testGetTrendingRestaurants_ranksByWindowCountAndIgnoresExpiredBuckets() throws Exception {
+        final String today = LocalDate.now(ZoneOffset.UTC).toString();
+        final String lastWeek = LocalDate.now(ZoneOffset.UTC).minusDays(10).toString();
+        final Map<String, AttributeValue> quiet = trendingAggregate(TEST_RESTAURANT_ID_1, Map.of(today, 1, lastWeek, 9), 8.0);
+        final Map<String, AttributeValue> busy = trendingAggregate(TEST_RESTAURANT_ID_2, Map.of(today, 3), 6.0);
+
+        when(dynamoDb.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            boolean isToday = today.equals(request.expressionAttributeValues().get(":day").s());
+            return QueryResponse.builder().items(isToday ? List.of(quiet, busy) : List.of()).build();
+        });
+
+        final GetTrendingRestaurantsOutput output = reviewDAL.getTrendingRestaurants(7, 10);
+
+        assertEquals(List.of(
+                new TrendingRestaurant(TEST_RESTAURANT_ID_2, 3, 6.0F),
+                new TrendingRestaurant(TEST_RESTAURANT_ID_1, 1, 8.0F)
+        ), output.getRestaurants());
+
+        // One trending index partition per day in the window
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb, times(7)).query(queryCaptor.capture());
+        assertTrue(queryCaptor.getAllValues().stream().allMatch(request -> TRENDING_INDEX.equals(request.indexName())));
+    }
+
+    @Test
+    public void testGetUserReviewStatus_singleRestaurant_projectedGetItem() throws Exception {
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(Map.of(RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_RESTAURANT_ID).build()))
+                .build());
+
+        final GetUserReviewStatusOutput output = reviewDAL.getUserReviewStatus(List.of(TEST_RESTAURANT_ID), TEST_ACCOUNT_ID, false);
+        assertEquals(Map.of(TEST_RESTAURANT_ID, true), output.getRestaurantIdToHasReviewed());
+        assertNull(output.getRestaurantIdToReview());
+
+        ArgumentCaptor<GetItemRequest> getCaptor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDb).getItem(getCaptor.capture());
+        assertEquals(REVIEW_IDENTIFIER_PREFIX + TEST_ACCOUNT_ID, getCaptor.getValue().key().get(IDENTIFIER_KEY).s());
+        assertEquals("#pk", getCaptor.getValue().projectionExpression());
+    }
+
+    @Test
+    public void testGetUserReviewStatus_multipleRestaurants_retriesUnprocessedKeys() throws Exception {
+        final Map<String, AttributeValue> unprocessedKey = Map.of(
+                RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_RESTAURANT_ID_2).build(),
+                IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + TEST_ACCOUNT_ID).build());
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder()
+                        .responses(Map.of(RANKINGS_TABLE_NAME, List.of()))
+                        .unprocessedKeys(Map.of(RANKINGS_TABLE_NAME, KeysAndAttributes.builder().keys(unprocessedKey).build()))
+                        .build())
+                .thenReturn(BatchGetItemResponse.builder()
+                        .responses(Map.of(RANKINGS_TABLE_NAME, List.of(reviewToAttributeMap(TEST_REVIEW_1.toBuilder()
+                                .restaurantId(TEST_RESTAURANT_ID_2)
+                                .build()))))
+                        .build());
+
+        final GetUserReviewStatusOutput output = reviewDAL.getUserReviewStatus(
+                List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), TEST_ACCOUNT_ID, true);
+
+        assertEquals(Map.of(TEST_RESTAURANT_ID_1, false, TEST_RESTAURANT_ID_2, true), output.getRestaurantIdToHasReviewed());
+        assertEquals(TEST_REVIEW_1.getScore(), output.getRestaurantIdToReview().get(TEST_RESTAURANT_ID_2).getScore());
+        verify(dynamoDb, times(2)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    public void testGetReviewsByIds_batchGetsKeysAndKeepsRequestOrder() throws Exception {
+        final Review first = TEST_REVIEW_1.toBuilder().restaurantId(TEST_RESTAURANT_ID_1).build();
+        final Review second = TEST_REVIEW_1.toBuilder().restaurantId(TEST_RESTAURANT_ID_2).build();
+        // Returned in the opposite order to the request
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+                .responses(Map.of(RANKINGS_TABLE_NAME, List.of(reviewToAttributeMap(second), reviewToAttributeMap(first))))
+                .build());
+
+        final GetAllReviewsOutput output = reviewDAL.getReviewsByIds(List.of(
+                TEST_RESTAURANT_ID_1 + ":" + TEST_ACCOUNT_ID,
+                TEST_RESTAURANT_ID_2 + ":" + TEST_ACCOUNT_ID,
+                "missing:" + TEST_ACCOUNT_ID));
+
+        assertEquals(2, output.getReviews().size());
+        assertEquals(TEST_RESTAURANT_ID_1, output.getReviews().get(0).getRestaurantId());
+        assertEquals(TEST_RESTAURANT_ID_2, output.getReviews().get(1).getRestaurantId());
+        // User metadata is left to the request's data loader
+        assertNull(output.getReviews().get(0).getUserMetadata());
+
+        ArgumentCaptor<BatchGetItemRequest> batchCaptor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDb, times(1)).batchGetItem(batchCaptor.capture());
+        final KeysAndAttributes rankingsKeys = batchCaptor.getAllValues().get(0).requestItems().get(RANKINGS_TABLE_NAME);
+        assertEquals(3, rankingsKeys.keys().size());
+        assertEquals(REVIEW_IDENTIFIER_PREFIX + TEST_ACCOUNT_ID, rankingsKeys.keys().get(0).get(IDENTIFIER_KEY).s());
+    }
+
+    @Test
+    public void testGetRestaurantLeaderboard_queriesSparseIndexAndReturnsPageToken() throws Exception {
+        final Map<String, AttributeValue> aggregate = new HashMap<>();
+        aggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_RESTAURANT_ID).build());
+        aggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s(AGGREGATE_IDENTIFIER).build());
+        aggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("30.0").build());
+        aggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
+        aggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("6.0").build());
+        aggregate.put(BAYESIAN_SCORE_KEY, AttributeValue.builder().n("5.5").build());
+        final Map<String, AttributeValue> lastEvaluatedKey = Map.of(
+                RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_RESTAURANT_ID).build(),
+                BAYESIAN_SCORE_KEY, AttributeValue.builder().n("5.5").build());
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(List.of(aggregate))
+                .lastEvaluatedKey(lastEvaluatedKey)
+                .build());
+
+        final GetRestaurantLeaderboardOutput output = reviewDAL.getRestaurantLeaderboard(1, null);
+        assertEquals(1, output.getEntries().size());
+        assertEquals(TEST_RESTAURANT_ID, output.getEntries().get(0).getRestaurantId());
+        assertEquals(5.5F, output.getEntries().get(0).getWeightedScore());
+        assertEquals(lastEvaluatedKey, PageTokenUtils.decode(output.getNextPageToken()));
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        assertEquals(LEADERBOARD_INDEX, queryCaptor.getValue().indexName());
+        assertFalse(queryCaptor.getValue().scanIndexForward());
+        assertEquals(Integer.valueOf(1), queryCaptor.getValue().limit());
+    }
+
+    @Test
+    public void testGetRestaurantLeaderboard_pageTokenBecomesExclusiveStartKey() throws Exception {
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(List.of()).build());
+        final Map<String, AttributeValue> startKey = Map.of(
+                RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_RESTAURANT_ID).build());
+
+        final GetRestaurantLeaderboardOutput output =
+                reviewDAL.getRestaurantLeaderboard(10, PageTokenUtils.encode(startKey));
+        assertTrue(output.getEntries().isEmpty());
+        assertNull(output.getNextPageToken());
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        assertEquals(startKey, queryCaptor.getValue().exclusiveStartKey());
+    }
+
+    @Test
+    public void testGetRestaurantLeaderboard_invalidPageToken_throws() {
+        assertThrows(IllegalArgumentException.class, () -> reviewDAL.getRestaurantLeaderboard(10, "not-a-token"));
+    }
+
+    @Test
+    public void testGetAllReviewsByAccountId_since_usesKeyCondition() throws Exception {
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        final ReviewTimeFilter timeFilter = ReviewTimeFilter.builder().since(TEST_ISO_DATE_TIME_1).build();
+        reviewDAL.getAllReviewsByAccountId(TEST_ACCOUNT_ID, timeFilter);
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        assertEquals("#key = :value AND #time > :since", queryCaptor.getValue().keyConditionExpression());
+    }
+
+    @Test
+    public void testGetAllReviewsByRestaurantId_dateRange_usesBetweenKeyCondition() throws Exception {
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        final ReviewTimeFilter timeFilter = ReviewTimeFilter.builder()
+                .from("2024-07-01T00:00:00Z")
+                .to("2024-07-31T23:59:59Z")
+                .build();
+        reviewDAL.getAllReviewsByRestaurantId(TEST_RESTAURANT_ID, timeFilter);
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        QueryRequest request = queryCaptor.getValue();
+        assertEquals("#key = :value AND #time BETWEEN :from AND :to", request.keyConditionExpression());
+        assertEquals("2024-07-01T00:00:00Z", request.expressionAttributeValues().get(":from").s());
+        assertEquals("2024-07-31T23:59:59Z", request.expressionAttributeValues().get(":to").s());
+    }
+
+    @Test
+    public void testGetAllReviewsByAccountId_openEndedRange_usesComparisonKeyCondition() throws Exception {
+        when(dynamoDb.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().items(List.of()).build());
+
+        reviewDAL.getAllReviewsByAccountId(TEST_ACCOUNT_ID, ReviewTimeFilter.builder().from(TEST_ISO_DATE_TIME_1).build());
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb).query(queryCaptor.capture());
+        assertEquals("#key = :value AND #time >= :from", queryCaptor.getValue().keyConditionExpression());
+    }
+
+    @Test
+    public void testGetAllReviewsByAccountId_sinceWithRange_throws() {
+        final ReviewTimeFilter timeFilter = ReviewTimeFilter.builder()
+                .since(TEST_ISO_DATE_TIME_1)
+                .to(TEST_ISO_DATE_TIME_1)
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> reviewDAL.getAllReviewsByAccountId(TEST_ACCOUNT_ID, timeFilter));
+    }
+
     @Test
     public void testAddNewReview_noExistingAggregate() throws Exception {
         // Mock getItem to return empty (no existing aggregate)
@@ -173,7 +521,7 @@ public class ReviewDALTests {
         verify(dynamoDb, times(1)).transactWriteItems(transactCaptor.capture());
 
         TransactWriteItemsRequest capturedRequest = transactCaptor.getValue();
-        assertEquals(2, capturedRequest.transactItems().size());
+        assertEquals(3, capturedRequest.transactItems().size());
 
         // First item should be the review
         Map<String, AttributeValue> reviewItem = capturedRequest.transactItems().get(0).put().item();
@@ -187,9 +535,131 @@ public class ReviewDALTests {
         assertEquals("1", aggregateItem.get(REVIEW_COUNT_KEY).n());
         assertEquals(TEST_REVIEW_1.getScore().toString(), aggregateItem.get(TOTAL_SCORE_KEY).n());
         assertEquals(TEST_REVIEW_1.getScore().toString(), aggregateItem.get(AVERAGE_SCORE_KEY).n());
+        assertEquals("1", aggregateItem.get(SCORE_HISTOGRAM_KEY).m().get("5").n());
 
         // Verify condition expression for new aggregate
         assertEquals("attribute_not_exists(#pk)", aggregatePut.conditionExpression());
+
+        // Third item should update the account's review summary
+        var accountUpdate = capturedRequest.transactItems().get(2).update();
+        assertEquals(USER_METADATA_TABLE_NAME, accountUpdate.tableName());
+        assertEquals(TEST_REVIEW_1.getAccountId(), accountUpdate.key().get(ACCOUNT_ID_KEY).s());
+        assertEquals("ADD #reviewCount :countDelta, #totalScore :scoreDelta", accountUpdate.updateExpression());
+        assertNull(accountUpdate.conditionExpression());
+        assertEquals("1", accountUpdate.expressionAttributeValues().get(":countDelta").n());
+        assertEquals(TEST_REVIEW_1.getScore().toString(), accountUpdate.expressionAttributeValues().get(":scoreDelta").n());
+
+        // The last review time only moves forward, in its own conditional write after the transaction
+        ArgumentCaptor<UpdateItemRequest> lastReviewCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDb, times(1)).updateItem(lastReviewCaptor.capture());
+        assertEquals("SET #lastReview = :lastReview", lastReviewCaptor.getValue().updateExpression());
+        assertEquals("attribute_not_exists(#lastReview) OR #lastReview < :lastReview",
+                lastReviewCaptor.getValue().conditionExpression());
+        assertEquals(TEST_REVIEW_1.getIsoDateTime(), lastReviewCaptor.getValue().expressionAttributeValues().get(":lastReview").s());
+    }
+
+    @Test
+    public void testAddNewReview_withIdempotencyKey_writesRecordInSameTransaction() throws Exception {
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(Map.of()).build());
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        final Review actualReview = reviewDAL.addNewReview(TEST_REVIEW_1, TEST_IDEMPOTENCY_KEY);
+
+        assertEquals(TEST_REVIEW_1.getRestaurantId(), actualReview.getRestaurantId());
+
+        ArgumentCaptor<GetItemRequest> getCaptor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDb, times(2)).getItem(getCaptor.capture());
+        assertEquals(IDEMPOTENCY_TABLE_NAME, getCaptor.getAllValues().get(0).tableName());
+        assertTrue(getCaptor.getAllValues().get(0).consistentRead());
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb).transactWriteItems(transactCaptor.capture());
+        assertNull(transactCaptor.getValue().clientRequestToken());
+        List<TransactWriteItem> items = transactCaptor.getValue().transactItems();
+        Put recordPut = items.get(items.size() - 1).put();
+        assertEquals(IDEMPOTENCY_TABLE_NAME, recordPut.tableName());
+        assertEquals(TEST_ACCOUNT_ID + ":" + TEST_IDEMPOTENCY_KEY, recordPut.item().get(IDEMPOTENCY_KEY).s());
+        assertEquals(ReviewDALImpl.reviewRequestHash(TEST_REVIEW_1), recordPut.item().get(IDEMPOTENCY_REQUEST_HASH_KEY).s());
+        assertEquals(actualReview, new Gson().fromJson(recordPut.item().get(IDEMPOTENCY_RESULT_KEY).s(), Review.class));
+        assertEquals("attribute_not_exists(#key) OR #expiresAt < :now", recordPut.conditionExpression());
+        verify(dynamoDb, never()).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    public void testAddNewReview_withCompletedIdempotencyKey_returnsStoredResultWithoutWriting() throws Exception {
+        final Review storedReview = TEST_REVIEW_1.toBuilder().reviewId("stored_review_id").build();
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(Map.of(
+                IDEMPOTENCY_KEY, AttributeValue.builder().s(TEST_ACCOUNT_ID + ":" + TEST_IDEMPOTENCY_KEY).build(),
+                IDEMPOTENCY_RESULT_KEY, AttributeValue.builder().s(new Gson().toJson(storedReview)).build(),
+                IDEMPOTENCY_REQUEST_HASH_KEY, AttributeValue.builder().s(ReviewDALImpl.reviewRequestHash(TEST_REVIEW_1)).build(),
+                IDEMPOTENCY_EXPIRES_AT_KEY, AttributeValue.builder().n(String.valueOf(Instant.now().getEpochSecond() + 60)).build()
+        )).build());
+
+        final Review actualReview = reviewDAL.addNewReview(TEST_REVIEW_1, TEST_IDEMPOTENCY_KEY);
+
+        assertEquals(storedReview, actualReview);
+        verify(dynamoDb, times(1)).getItem(any(GetItemRequest.class));
+        verify(dynamoDb, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    public void testAddNewReview_retryStampedAtDifferentTime_returnsStoredResult() throws Exception {
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(Map.of(
+                IDEMPOTENCY_KEY, AttributeValue.builder().s(TEST_ACCOUNT_ID + ":" + TEST_IDEMPOTENCY_KEY).build(),
+                IDEMPOTENCY_RESULT_KEY, AttributeValue.builder().s(new Gson().toJson(TEST_REVIEW_1)).build(),
+                IDEMPOTENCY_REQUEST_HASH_KEY, AttributeValue.builder().s(ReviewDALImpl.reviewRequestHash(TEST_REVIEW_1)).build(),
+                IDEMPOTENCY_EXPIRES_AT_KEY, AttributeValue.builder().n(String.valueOf(Instant.now().getEpochSecond() + 60)).build()
+        )).build());
+
+        final Review retriedReview = TEST_REVIEW_1.toBuilder().isoDateTime(Instant.now().toString()).build();
+        final Review actualReview = reviewDAL.addNewReview(retriedReview, TEST_IDEMPOTENCY_KEY);
+
+        assertEquals(TEST_REVIEW_1, actualReview);
+        verify(dynamoDb, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    public void testAddNewReview_completedIdempotencyKeyWithDifferentBody_throws() throws Exception {
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(Map.of(
+                IDEMPOTENCY_KEY, AttributeValue.builder().s(TEST_ACCOUNT_ID + ":" + TEST_IDEMPOTENCY_KEY).build(),
+                IDEMPOTENCY_RESULT_KEY, AttributeValue.builder().s(new Gson().toJson(TEST_REVIEW_1)).build(),
+                IDEMPOTENCY_REQUEST_HASH_KEY, AttributeValue.builder().s(ReviewDALImpl.reviewRequestHash(TEST_REVIEW_1)).build(),
+                IDEMPOTENCY_EXPIRES_AT_KEY, AttributeValue.builder().n(String.valueOf(Instant.now().getEpochSecond() + 60)).build()
+        )).build());
+
+        final Review differentReview = TEST_REVIEW_1.toBuilder().score(TEST_REVIEW_1.getScore() + 1).build();
+        assertThrows(IdempotencyKeyReusedException.class, () -> reviewDAL.addNewReview(differentReview, TEST_IDEMPOTENCY_KEY));
+        verify(dynamoDb, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    public void testAddNewReview_recordWrittenConcurrently_returnsCommittedResultWithoutRetrying() throws Exception {
+        final Review committedReview = TEST_REVIEW_1.toBuilder().reviewId("committed_review_id").build();
+        final Map<String, AttributeValue> committedRecord = Map.of(
+                IDEMPOTENCY_KEY, AttributeValue.builder().s(TEST_ACCOUNT_ID + ":" + TEST_IDEMPOTENCY_KEY).build(),
+                IDEMPOTENCY_RESULT_KEY, AttributeValue.builder().s(new Gson().toJson(committedReview)).build(),
+                IDEMPOTENCY_REQUEST_HASH_KEY, AttributeValue.builder().s(ReviewDALImpl.reviewRequestHash(TEST_REVIEW_1)).build(),
+                IDEMPOTENCY_EXPIRES_AT_KEY, AttributeValue.builder().n(String.valueOf(Instant.now().getEpochSecond() + 60)).build());
+        // No record on the first read, an empty aggregate, then the record the concurrent request committed
+        when(dynamoDb.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(Map.of()).build())
+                .thenReturn(GetItemResponse.builder().item(Map.of()).build())
+                .thenReturn(GetItemResponse.builder().item(committedRecord).build());
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build());
+
+        final Review actualReview = reviewDAL.addNewReview(TEST_REVIEW_1, TEST_IDEMPOTENCY_KEY);
+
+        assertEquals(committedReview, actualReview);
+        verify(dynamoDb, times(1)).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(dynamoDb, never()).updateItem(any(UpdateItemRequest.class));
     }
 
     @Test
@@ -237,6 +707,8 @@ public class ReviewDALTests {
         assertEquals(String.valueOf(expectedNewReviewCount), aggregateItem.get(REVIEW_COUNT_KEY).n());
         assertEquals(String.valueOf(expectedNewTotalScore), aggregateItem.get(TOTAL_SCORE_KEY).n());
         assertEquals(String.valueOf(expectedNewAverageScore), aggregateItem.get(AVERAGE_SCORE_KEY).n());
+        // Legacy aggregates without a histogram do not start a partial one
+        assertFalse(aggregateItem.containsKey(SCORE_HISTOGRAM_KEY));
 
         // Verify condition expression checks expected count
         assertEquals("#reviewCount = :expectedCount", aggregatePut.conditionExpression());
@@ -244,6 +716,73 @@ public class ReviewDALTests {
                 aggregatePut.expressionAttributeValues().get(":expectedCount").n());
     }
 
+    @Test
+    public void testAddNewReview_withExistingHistogram_incrementsBucketInSameTransaction() throws Exception {
+        Map<String, AttributeValue> existingAggregate = new HashMap<>();
+        existingAggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_REVIEW_1.getRestaurantId()).build());
+        existingAggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s("AGGREGATE").build());
+        existingAggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("12.0").build());
+        existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("2").build());
+        existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("6.0").build());
+        existingAggregate.put(SCORE_HISTOGRAM_KEY, AttributeValue.builder().m(Map.of(
+                "5", AttributeValue.builder().n("1").build(),
+                "7", AttributeValue.builder().n("1").build()
+        )).build());
+
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(existingAggregate).build());
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        reviewDAL.addNewReview(TEST_REVIEW_1);
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(1)).transactWriteItems(transactCaptor.capture());
+
+        Map<String, AttributeValue> histogram = transactCaptor.getValue().transactItems().get(1).put().item()
+                .get(SCORE_HISTOGRAM_KEY).m();
+        assertEquals("2", histogram.get("5").n());
+        assertEquals("1", histogram.get("7").n());
+    }
+
+    @Test
+    public void testAddNewReview_countsReviewInDayBucketAndPrunesExpiredBuckets() throws Exception {
+        final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        final String yesterday = today.minusDays(1).toString();
+        final String expired = today.minusDays(40).toString();
+
+        Map<String, AttributeValue> existingAggregate = new HashMap<>();
+        existingAggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(TEST_REVIEW_1.getRestaurantId()).build());
+        existingAggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s("AGGREGATE").build());
+        existingAggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("18.0").build());
+        existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("3").build());
+        existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("6.0").build());
+        existingAggregate.put(LAST_REVIEW_DAY_KEY, AttributeValue.builder().s(yesterday).build());
+        existingAggregate.put(DAILY_REVIEW_COUNTS_KEY, AttributeValue.builder().m(Map.of(
+                expired, AttributeValue.builder().n("2").build(),
+                yesterday, AttributeValue.builder().n("1").build()
+        )).build());
+        existingAggregate.put(DAILY_TOTAL_SCORES_KEY, AttributeValue.builder().m(Map.of(
+                expired, AttributeValue.builder().n("12.0").build(),
+                yesterday, AttributeValue.builder().n("6.0").build()
+        )).build());
+
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(existingAggregate).build());
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        reviewDAL.addNewReview(TEST_REVIEW_1.toBuilder().isoDateTime(Instant.now().toString()).build());
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(1)).transactWriteItems(transactCaptor.capture());
+
+        Map<String, AttributeValue> aggregateItem = transactCaptor.getValue().transactItems().get(1).put().item();
+        Map<String, AttributeValue> dailyCounts = aggregateItem.get(DAILY_REVIEW_COUNTS_KEY).m();
+        assertEquals(Set.of(yesterday, today.toString()), dailyCounts.keySet());
+        assertEquals("1", dailyCounts.get(today.toString()).n());
+        assertEquals(TEST_REVIEW_1.getScore().toString(), aggregateItem.get(DAILY_TOTAL_SCORES_KEY).m().get(today.toString()).n());
+        assertEquals(today.toString(), aggregateItem.get(LAST_REVIEW_DAY_KEY).s());
+    }
+
     @Test
     public void testAddNewReview_nullReview() {
         assertThrows(NullPointerException.class, () -> reviewDAL.addNewReview(null));
@@ -406,12 +945,13 @@ public class ReviewDALTests {
 
         TransactWriteItemsRequest capturedRequest = transactCaptor.getValue();
 
-        // Should have exactly 2 items in the transaction
-        assertEquals(2, capturedRequest.transactItems().size());
+        // Should have exactly 3 items in the transaction
+        assertEquals(3, capturedRequest.transactItems().size());
 
-        // Both should be Put operations
+        // Review and aggregate are Puts, the account summary is an Update
         assertNotNull(capturedRequest.transactItems().get(0).put());
         assertNotNull(capturedRequest.transactItems().get(1).put());
+        assertNotNull(capturedRequest.transactItems().get(2).update());
 
         // Verify no separate putItem calls were made (everything is in the transaction)
         verify(dynamoDb, times(0)).putItem(any(PutItemRequest.class));
@@ -653,13 +1193,9 @@ public class ReviewDALTests {
         existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
         existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
 
-        GetItemResponse reviewResponse = GetItemResponse.builder().item(existingReview).build();
-        GetItemResponse aggregateResponse = GetItemResponse.builder().item(existingAggregate).build();
-
-        // First call gets the review, second call gets the aggregate
-        when(dynamoDb.getItem(any(GetItemRequest.class)))
-                .thenReturn(reviewResponse)
-                .thenReturn(aggregateResponse);
+        // The review and the aggregate are read together in one transactional get
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
 
         when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
                 .thenReturn(TransactWriteItemsResponse.builder().build());
@@ -685,6 +1221,13 @@ public class ReviewDALTests {
         // Second item should be review delete
         var reviewDelete = capturedRequest.transactItems().get(1).delete();
         assertNotNull(reviewDelete);
+
+        // One round trip reads both items before the write
+        ArgumentCaptor<TransactGetItemsRequest> getCaptor = ArgumentCaptor.forClass(TransactGetItemsRequest.class);
+        verify(dynamoDb, times(1)).transactGetItems(getCaptor.capture());
+        assertEquals(REVIEW_IDENTIFIER_PREFIX + accountId, getCaptor.getValue().transactItems().get(0).get().key().get(IDENTIFIER_KEY).s());
+        assertEquals(AGGREGATE_IDENTIFIER, getCaptor.getValue().transactItems().get(1).get().key().get(IDENTIFIER_KEY).s());
+        verify(dynamoDb, never()).getItem(any(GetItemRequest.class));
     }
 
     @Test
@@ -711,12 +1254,8 @@ public class ReviewDALTests {
         existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("1").build());
         existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
 
-        GetItemResponse reviewResponse = GetItemResponse.builder().item(existingReview).build();
-        GetItemResponse aggregateResponse = GetItemResponse.builder().item(existingAggregate).build();
-
-        when(dynamoDb.getItem(any(GetItemRequest.class)))
-                .thenReturn(reviewResponse)
-                .thenReturn(aggregateResponse);
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
 
         when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
                 .thenReturn(TransactWriteItemsResponse.builder().build());
@@ -750,8 +1289,8 @@ public class ReviewDALTests {
         DeleteReviewRequest deleteRequest = new DeleteReviewRequest(reviewId);
 
         // Mock getting empty review (doesn't exist)
-        GetItemResponse emptyResponse = GetItemResponse.builder().item(Map.of()).build();
-        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(emptyResponse);
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(Map.of(), Map.of()));
 
         boolean result = reviewDAL.deleteUserReview(deleteRequest);
 
@@ -776,12 +1315,8 @@ public class ReviewDALTests {
         existingReview.put(IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + accountId).build());
         existingReview.put(SCORE_KEY, AttributeValue.builder().n(reviewScore.toString()).build());
 
-        GetItemResponse reviewResponse = GetItemResponse.builder().item(existingReview).build();
-        GetItemResponse emptyAggregateResponse = GetItemResponse.builder().item(Map.of()).build();
-
-        when(dynamoDb.getItem(any(GetItemRequest.class)))
-                .thenReturn(reviewResponse)
-                .thenReturn(emptyAggregateResponse);
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, Map.of()));
 
         when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
                 .thenReturn(TransactWriteItemsResponse.builder().build());
@@ -802,6 +1337,125 @@ public class ReviewDALTests {
         assertNotNull(reviewDelete);
     }
 
+    @Test
+    public void testDeleteUserReview_decrementsAccountSummaryInSameTransaction() throws Exception {
+        String restaurantId = "res123";
+        String accountId = "acc456";
+        Double reviewScore = 8.0;
+
+        Map<String, AttributeValue> existingReview = new HashMap<>();
+        existingReview.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        existingReview.put(IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + accountId).build());
+        existingReview.put(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build());
+        existingReview.put(SCORE_KEY, AttributeValue.builder().n(reviewScore.toString()).build());
+
+        Map<String, AttributeValue> existingAggregate = new HashMap<>();
+        existingAggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        existingAggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s("AGGREGATE").build());
+        existingAggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("40.0").build());
+        existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
+        existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
+
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        assertTrue(reviewDAL.deleteUserReview(new DeleteReviewRequest(restaurantId + ":" + accountId)));
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(1)).transactWriteItems(transactCaptor.capture());
+
+        TransactWriteItemsRequest capturedRequest = transactCaptor.getValue();
+        assertEquals(3, capturedRequest.transactItems().size());
+
+        var accountUpdate = capturedRequest.transactItems().get(2).update();
+        assertEquals(accountId, accountUpdate.key().get(ACCOUNT_ID_KEY).s());
+        assertEquals("ADD #reviewCount :countDelta, #totalScore :scoreDelta", accountUpdate.updateExpression());
+        assertEquals("-1", accountUpdate.expressionAttributeValues().get(":countDelta").n());
+        assertEquals("-8.0", accountUpdate.expressionAttributeValues().get(":scoreDelta").n());
+        assertEquals("#reviewCount >= :minCount", accountUpdate.conditionExpression());
+        assertEquals("1", accountUpdate.expressionAttributeValues().get(":minCount").n());
+    }
+
+    @Test
+    public void testDeleteUserReview_accountSummaryMissing_deletesWithoutSummary() throws Exception {
+        String restaurantId = "res123";
+        String accountId = "acc456";
+
+        Map<String, AttributeValue> existingReview = new HashMap<>();
+        existingReview.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        existingReview.put(IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + accountId).build());
+        existingReview.put(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build());
+        existingReview.put(SCORE_KEY, AttributeValue.builder().n("8.0").build());
+
+        Map<String, AttributeValue> existingAggregate = new HashMap<>();
+        existingAggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        existingAggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s("AGGREGATE").build());
+        existingAggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("40.0").build());
+        existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
+        existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
+
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build())
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        assertTrue(reviewDAL.deleteUserReview(new DeleteReviewRequest(restaurantId + ":" + accountId)));
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(2)).transactWriteItems(transactCaptor.capture());
+        assertEquals(3, transactCaptor.getAllValues().get(0).transactItems().size());
+        assertEquals(2, transactCaptor.getAllValues().get(1).transactItems().size());
+        assertNull(transactCaptor.getAllValues().get(1).transactItems().get(1).update());
+    }
+
+    @Test
+    public void testDeleteUserReview_unreadableIsoDateTime_removesExpiredBucketsWithoutThrowing() throws Exception {
+        String restaurantId = "res123";
+        String accountId = "acc456";
+        final String expired = LocalDate.now(ZoneOffset.UTC).minusDays(40).toString();
+
+        Map<String, AttributeValue> existingReview = new HashMap<>();
+        existingReview.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        existingReview.put(IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + accountId).build());
+        existingReview.put(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build());
+        existingReview.put(SCORE_KEY, AttributeValue.builder().n("8.0").build());
+        existingReview.put(ISO_DATE_TIME, AttributeValue.builder().s("March 15th").build());
+
+        Map<String, AttributeValue> existingAggregate = new HashMap<>();
+        existingAggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        existingAggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s("AGGREGATE").build());
+        existingAggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("40.0").build());
+        existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
+        existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
+        existingAggregate.put(DAILY_REVIEW_COUNTS_KEY, AttributeValue.builder().m(Map.of(
+                expired, AttributeValue.builder().n("2").build())).build());
+        existingAggregate.put(DAILY_TOTAL_SCORES_KEY, AttributeValue.builder().m(Map.of(
+                expired, AttributeValue.builder().n("16.0").build())).build());
+
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        assertTrue(reviewDAL.deleteUserReview(new DeleteReviewRequest(restaurantId + ":" + accountId)));
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(1)).transactWriteItems(transactCaptor.capture());
+
+        Map<String, AttributeValue> aggregateItem = transactCaptor.getValue().transactItems().get(0).put().item();
+        assertEquals("4", aggregateItem.get(REVIEW_COUNT_KEY).n());
+        assertFalse(aggregateItem.containsKey(DAILY_REVIEW_COUNTS_KEY));
+        assertFalse(aggregateItem.containsKey(DAILY_TOTAL_SCORES_KEY));
+    }
+
     @Test
     public void testDeleteUserReview_nullRequest() {
         assertThrows(NullPointerException.class, () -> reviewDAL.deleteUserReview(null));
@@ -840,15 +1494,10 @@ public class ReviewDALTests {
         updatedAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("6").build());
         updatedAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
 
-        GetItemResponse reviewResponse = GetItemResponse.builder().item(existingReview).build();
-        GetItemResponse aggregateResponse1 = GetItemResponse.builder().item(existingAggregate).build();
-        GetItemResponse aggregateResponse2 = GetItemResponse.builder().item(updatedAggregate).build();
-
-        // First call gets review, second gets aggregate (first attempt), third gets aggregate (retry)
-        when(dynamoDb.getItem(any(GetItemRequest.class)))
-                .thenReturn(reviewResponse)
-                .thenReturn(aggregateResponse1)
-                .thenReturn(aggregateResponse2);
+        // Each attempt reads the review and the aggregate together; the retry sees the updated aggregate
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate))
+                .thenReturn(deleteSnapshot(existingReview, updatedAggregate));
 
         when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
                 .thenThrow(TransactionCanceledException.builder()
@@ -864,8 +1513,9 @@ public class ReviewDALTests {
 
         assertTrue(result);
 
-        // Verify getItem was called 3 times (1 for review + 2 for aggregate attempts)
-        verify(dynamoDb, times(3)).getItem(any(GetItemRequest.class));
+        // Verify the review and aggregate were read together once per attempt
+        verify(dynamoDb, times(2)).transactGetItems(any(TransactGetItemsRequest.class));
+        verify(dynamoDb, never()).getItem(any(GetItemRequest.class));
 
         // Verify transactWriteItems was called twice (failed + successful)
         verify(dynamoDb, times(2)).transactWriteItems(any(TransactWriteItemsRequest.class));
@@ -894,12 +1544,8 @@ public class ReviewDALTests {
         existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
         existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
 
-        GetItemResponse reviewResponse = GetItemResponse.builder().item(existingReview).build();
-        GetItemResponse aggregateResponse = GetItemResponse.builder().item(existingAggregate).build();
-
-        when(dynamoDb.getItem(any(GetItemRequest.class)))
-                .thenReturn(reviewResponse)
-                .thenReturn(aggregateResponse);
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
 
         // All transaction attempts fail
         when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
@@ -943,12 +1589,8 @@ public class ReviewDALTests {
         existingAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("5").build());
         existingAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("8.0").build());
 
-        GetItemResponse reviewResponse = GetItemResponse.builder().item(existingReview).build();
-        GetItemResponse aggregateResponse = GetItemResponse.builder().item(existingAggregate).build();
-
-        when(dynamoDb.getItem(any(GetItemRequest.class)))
-                .thenReturn(reviewResponse)
-                .thenReturn(aggregateResponse);
+        when(dynamoDb.transactGetItems(any(TransactGetItemsRequest.class)))
+                .thenReturn(deleteSnapshot(existingReview, existingAggregate));
 
         when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
                 .thenReturn(TransactWriteItemsResponse.builder().build());
@@ -966,6 +1608,231 @@ public class ReviewDALTests {
         verify(dynamoDb, times(0)).deleteItem(any(DeleteItemRequest.class));
     }
 
+    @Test
+    public void testPurgeAccountReviews_deletesEachReviewWithItsAggregateAndClearsSummary() throws Exception {
+        String accountId = "acc456";
+        Map<String, AttributeValue> firstReview = reviewToAttributeMap(Review.builder().restaurantId("res1").accountId(accountId).score(8.0).title("t").body("b").isoDateTime("2024-03-15T10:30:00Z").build());
+        Map<String, AttributeValue> secondReview = reviewToAttributeMap(Review.builder().restaurantId("res2").accountId(accountId).score(6.0).title("t").body("b").isoDateTime("2024-03-16T10:30:00Z").build());
+
+        Map<String, AttributeValue> sharedAggregate = new HashMap<>();
+        sharedAggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s("res1").build());
+        sharedAggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s(AGGREGATE_IDENTIFIER).build());
+        sharedAggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n("15.0").build());
+        sharedAggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n("2").build());
+        sharedAggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n("7.5").build());
+
+        when(dynamoDb.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(firstReview)).lastEvaluatedKey(firstReview).build())
+                .thenReturn(QueryResponse.builder().items(List.of(secondReview)).build());
+        // res1 still has another account's review, res2 only had this account's review
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            GetItemRequest request = invocation.getArgument(0);
+            return "res1".equals(request.key().get(RESTAURANT_ID_KEY).s())
+                    ? GetItemResponse.builder().item(sharedAggregate).build()
+                    : GetItemResponse.builder().build();
+        });
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        PurgeAccountReviewsOutput output = reviewDAL.purgeAccountReviews(accountId, Instant.now().plusSeconds(60));
+
+        assertEquals(2, output.getDeletedReviewCount());
+        assertTrue(output.getComplete());
+
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb, times(2)).query(queryCaptor.capture());
+        assertEquals(ACCOUNT_ID_TIME_INDEX, queryCaptor.getAllValues().get(0).indexName());
+        assertEquals(firstReview, queryCaptor.getAllValues().get(1).exclusiveStartKey());
+
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(2)).transactWriteItems(transactCaptor.capture());
+        for (TransactWriteItemsRequest request : transactCaptor.getAllValues()) {
+            var reviewDelete = request.transactItems().get(request.transactItems().size() - 1).delete();
+            assertEquals("attribute_exists(#pk)", reviewDelete.conditionExpression());
+            if ("res1".equals(reviewDelete.key().get(RESTAURANT_ID_KEY).s())) {
+                assertEquals(2, request.transactItems().size());
+                assertEquals("1", request.transactItems().get(0).put().item().get(REVIEW_COUNT_KEY).n());
+            } else {
+                // No aggregate to adjust
+                assertEquals(1, request.transactItems().size());
+            }
+        }
+
+        ArgumentCaptor<UpdateItemRequest> summaryCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDb, times(1)).updateItem(summaryCaptor.capture());
+        assertEquals(USER_METADATA_TABLE_NAME, summaryCaptor.getValue().tableName());
+        assertEquals("REMOVE #reviewCount, #totalScore, #lastReview", summaryCaptor.getValue().updateExpression());
+    }
+
+    @Test
+    public void testPurgeAccountReviews_oneDeleteFails_settlesSummaryWithDeletedReviews() throws Exception {
+        String accountId = "acc456";
+        Map<String, AttributeValue> firstReview = reviewToAttributeMap(Review.builder().restaurantId("res1").accountId(accountId).score(8.0).title("t").body("b").build());
+        Map<String, AttributeValue> failingReview = reviewToAttributeMap(Review.builder().restaurantId("res2").accountId(accountId).score(6.0).title("t").body("b").build());
+        Map<String, AttributeValue> thirdReview = reviewToAttributeMap(Review.builder().restaurantId("res3").accountId(accountId).score(4.0).title("t").body("b").build());
+
+        when(dynamoDb.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(firstReview, failingReview, thirdReview)).build());
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            GetItemRequest request = invocation.getArgument(0);
+            if ("res2".equals(request.key().get(RESTAURANT_ID_KEY).s())) {
+                throw DynamoDbException.builder().statusCode(400).message("Validation error").build();
+            }
+            return GetItemResponse.builder().build();
+        });
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+        when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+
+        PurgeAccountReviewsOutput output = reviewDAL.purgeAccountReviews(accountId, Instant.now().plusSeconds(60));
+
+        assertEquals(2, output.getDeletedReviewCount());
+        assertEquals(1, output.getFailedReviewCount());
+        assertFalse(output.getComplete());
+
+        // The reviews that were deleted are still taken off the summary
+        ArgumentCaptor<UpdateItemRequest> summaryCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDb, times(1)).updateItem(summaryCaptor.capture());
+        assertEquals("ADD #reviewCount :countDelta, #totalScore :scoreDelta", summaryCaptor.getValue().updateExpression());
+        assertEquals("-2", summaryCaptor.getValue().expressionAttributeValues().get(":countDelta").n());
+        assertEquals(-12.0, Double.parseDouble(summaryCaptor.getValue().expressionAttributeValues().get(":scoreDelta").n()));
+    }
+
+    @Test
+    public void testPurgeAccountReviews_reviewAlreadyDeleted_skipsWithoutRetrying() throws Exception {
+        String accountId = "acc456";
+        Map<String, AttributeValue> staleReview = reviewToAttributeMap(Review.builder().restaurantId("res1").accountId(accountId).score(8.0).title("t").body("b").build());
+
+        when(dynamoDb.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(staleReview)).build());
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(CancellationReason.builder().code("ConditionalCheckFailed").build())
+                        .build());
+
+        PurgeAccountReviewsOutput output = reviewDAL.purgeAccountReviews(accountId, Instant.now().plusSeconds(60));
+
+        assertEquals(0, output.getDeletedReviewCount());
+        assertTrue(output.getComplete());
+        verify(dynamoDb, times(1)).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    @Test
+    public void testPurgeAccountReviews_deadlinePassed_stopsAndReportsIncomplete() throws Exception {
+        String accountId = "acc456";
+        Map<String, AttributeValue> review = reviewToAttributeMap(Review.builder().restaurantId("res1").accountId(accountId).score(8.0).title("t").body("b").build());
+
+        when(dynamoDb.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(List.of(review)).build());
+
+        PurgeAccountReviewsOutput output = reviewDAL.purgeAccountReviews(accountId, Instant.now().minusSeconds(1));
+
+        assertEquals(0, output.getDeletedReviewCount());
+        assertFalse(output.getComplete());
+        verify(dynamoDb, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+        verify(dynamoDb, never()).updateItem(any(UpdateItemRequest.class));
+    }
+
+    @Test
+    public void testImportReviews_writesEachRestaurantsReviewsWithItsAggregateAndSummaries() throws Exception {
+        Review existing = Review.builder().restaurantId("res1").accountId("acc1").score(9.0).title("t").body("b").isoDateTime("2024-03-15T10:30:00Z").build();
+        Review first = Review.builder().restaurantId("res1").accountId("acc2").score(8.0).title("t").body("b").isoDateTime("2024-03-15T10:30:00Z").build();
+        Review second = Review.builder().restaurantId("res1").accountId("acc3").score(6.0).title("t").body("b").isoDateTime("2024-03-16T10:30:00Z").build();
+        Review third = Review.builder().restaurantId("res2").accountId("acc2").score(4.0).title("t").body("b").isoDateTime("2024-03-17T10:30:00Z").build();
+
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+                .responses(Map.of(RANKINGS_TABLE_NAME, List.of(Map.of(
+                        RESTAURANT_ID_KEY, AttributeValue.builder().s("res1").build(),
+                        IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + "acc1").build()))))
+                .build());
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class))).thenReturn(TransactWriteItemsResponse.builder()
+                .consumedCapacity(ConsumedCapacity.builder().capacityUnits(2.0).build())
+                .build());
+        when(dynamoDb.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+
+        ImportReviewsOutput output = reviewDAL.importReviews(List.of(existing, first, second, third));
+
+        assertEquals(3, output.getImportedReviewCount());
+        assertEquals(1, output.getSkippedReviewCount());
+        assertEquals(2, output.getUpdatedAggregateCount());
+        assertEquals(4.0, output.getConsumedWriteCapacityUnits());
+        assertTrue(output.getItemsPerSecond() > 0);
+
+        // One transaction per restaurant carrying its reviews, its aggregate and the summaries of their accounts
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(2)).transactWriteItems(transactCaptor.capture());
+        List<TransactWriteItem> res1Items = transactCaptor.getAllValues().stream()
+                .map(TransactWriteItemsRequest::transactItems)
+                .filter(items -> items.size() == 5)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("attribute_not_exists(#pk)", res1Items.get(0).put().conditionExpression());
+        assertEquals("acc2", res1Items.get(0).put().item().get(ACCOUNT_ID_KEY).s());
+        assertEquals("acc3", res1Items.get(1).put().item().get(ACCOUNT_ID_KEY).s());
+        Put res1Aggregate = res1Items.get(2).put();
+        assertEquals("2", res1Aggregate.item().get(REVIEW_COUNT_KEY).n());
+        assertEquals(14.0, Double.parseDouble(res1Aggregate.item().get(TOTAL_SCORE_KEY).n()));
+        assertEquals("attribute_not_exists(#pk)", res1Aggregate.conditionExpression());
+        assertEquals("acc2", res1Items.get(3).update().key().get(ACCOUNT_ID_KEY).s());
+        assertEquals("1", res1Items.get(3).update().expressionAttributeValues().get(":countDelta").n());
+        assertEquals("acc3", res1Items.get(4).update().key().get(ACCOUNT_ID_KEY).s());
+
+        // The last review time of each account moves forward once, after its reviews are in
+        ArgumentCaptor<UpdateItemRequest> lastReviewCaptor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDb, times(2)).updateItem(lastReviewCaptor.capture());
+        UpdateItemRequest acc2LastReview = lastReviewCaptor.getAllValues().stream()
+                .filter(request -> "acc2".equals(request.key().get(ACCOUNT_ID_KEY).s()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("2024-03-17T10:30:00Z", acc2LastReview.expressionAttributeValues().get(":lastReview").s());
+    }
+
+    @Test
+    public void testImportReviews_aggregateWriteFails_rerunCountsEveryReview() throws Exception {
+        Review first = Review.builder().restaurantId("res1").accountId("acc1").score(8.0).title("t").body("b").isoDateTime("2024-03-15T10:30:00Z").build();
+        Review second = Review.builder().restaurantId("res1").accountId("acc2").score(6.0).title("t").body("b").isoDateTime("2024-03-16T10:30:00Z").build();
+
+        // Nothing from the failed run is stored, so the re-run finds no existing reviews to skip
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder().responses(Map.of()).build());
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        final AtomicBoolean aggregateWriteFails = new AtomicBoolean(true);
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            if (aggregateWriteFails.get()) {
+                throw TransactionCanceledException.builder()
+                        .cancellationReasons(
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                                CancellationReason.builder().code("None").build(),
+                                CancellationReason.builder().code("None").build())
+                        .build();
+            }
+            return TransactWriteItemsResponse.builder().build();
+        });
+
+        assertThrows(RuntimeException.class, () -> reviewDAL.importReviews(List.of(first, second)));
+        // The reviews were only ever sent together with their aggregate and summaries
+        verify(dynamoDb, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+        verify(dynamoDb, never()).putItem(any(PutItemRequest.class));
+        verify(dynamoDb, never()).updateItem(any(UpdateItemRequest.class));
+
+        aggregateWriteFails.set(false);
+        clearInvocations(dynamoDb);
+
+        ImportReviewsOutput output = reviewDAL.importReviews(List.of(first, second));
+
+        assertEquals(2, output.getImportedReviewCount());
+        assertEquals(0, output.getSkippedReviewCount());
+        ArgumentCaptor<TransactWriteItemsRequest> transactCaptor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDb, times(1)).transactWriteItems(transactCaptor.capture());
+        List<TransactWriteItem> items = transactCaptor.getValue().transactItems();
+        assertEquals(5, items.size());
+        assertEquals("2", items.get(2).put().item().get(REVIEW_COUNT_KEY).n());
+        assertEquals(14.0, Double.parseDouble(items.get(2).put().item().get(TOTAL_SCORE_KEY).n()));
+    }
+
     @Test
     public void testMapItemToReview_happyPath_allFieldsPopulated() throws Exception {
         String accountId = "acc123";
@@ -1082,10 +1949,92 @@ public class ReviewDALTests {
         assertEquals("res456:user123", review.getReviewId());
     }
 
+    // ==================== Multi-Restaurant Feed Tests ====================
+
+    @Test
+    public void testGetLatestReviewsForRestaurants_mergesNewestFirstAndCutsAtCount() throws Exception {
+        final List<Map<String, AttributeValue>> restaurant1Items = List.of(
+                feedReviewItem("res1", "acc1", "2024-08-10T00:00:00Z"),
+                feedReviewItem("res1", "acc2", "2024-07-01T00:00:00Z"));
+        final List<Map<String, AttributeValue>> restaurant2Items = List.of(
+                feedReviewItem("res2", "acc3", "2024-08-20T00:00:00Z"),
+                feedReviewItem("res2", "acc4", "2024-07-15T00:00:00Z"));
+
+        when(dynamoDb.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            String restaurantId = request.expressionAttributeValues().get(":value").s();
+            return QueryResponse.builder().items("res1".equals(restaurantId) ? restaurant1Items : restaurant2Items).build();
+        });
+
+        final GetAllReviewsOutput actualOutput = reviewDAL.getLatestReviewsForRestaurants(List.of("res1", "res2"), 3, ReviewTimeFilter.NONE);
+
+        assertEquals(List.of("res2:acc3", "res1:acc1", "res2:acc4"),
+                actualOutput.getReviews().stream().map(Review::getReviewId).toList());
+
+        // One query per restaurant, each reading one extra item to account for the filtered AGGREGATE row
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDb, times(2)).query(queryCaptor.capture());
+        queryCaptor.getAllValues().forEach(request -> assertEquals(Integer.valueOf(4), request.limit()));
+
+        // Usernames for the merged page are left to the request's data loader
+        verify(dynamoDb, never()).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    public void testMergeNewestFirst_missingIsoDateTimeSortsLast() {
+        final Map<String, AttributeValue> legacyItem = feedReviewItem("res1", "acc1", null);
+        final Map<String, AttributeValue> datedItem = feedReviewItem("res2", "acc2", "2024-08-20T00:00:00Z");
+
+        final List<Map<String, AttributeValue>> merged = reviewDAL.mergeNewestFirst(
+                List.of(List.of(legacyItem), List.of(datedItem), List.of()), 5);
+
+        assertEquals(List.of(datedItem, legacyItem), merged);
+    }
+
+    private Map<String, AttributeValue> feedReviewItem(String restaurantId, String accountId, String isoDateTime) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        item.put(IDENTIFIER_KEY, AttributeValue.builder().s(REVIEW_IDENTIFIER_PREFIX + accountId).build());
+        item.put(SCORE_KEY, AttributeValue.builder().n("5.0").build());
+        item.put(TITLE_KEY, AttributeValue.builder().s(TITLE_KEY).build());
+        item.put(BODY_KEY, AttributeValue.builder().s(BODY_KEY).build());
+        item.put(ACCOUNT_ID_KEY, AttributeValue.builder().s(accountId).build());
+        if (isoDateTime != null) {
+            item.put(ISO_DATE_TIME, AttributeValue.builder().s(isoDateTime).build());
+        }
+        return item;
+    }
+
 
     /**
      * Helper method to convert a Review to DynamoDB attribute map
      */
+    private Map<String, AttributeValue> trendingAggregate(String restaurantId, Map<String, Integer> dailyCounts, double averageScore) {
+        final Map<String, AttributeValue> counts = new HashMap<>();
+        final Map<String, AttributeValue> totals = new HashMap<>();
+        dailyCounts.forEach((day, count) -> {
+            counts.put(day, AttributeValue.builder().n(String.valueOf(count)).build());
+            totals.put(day, AttributeValue.builder().n(String.valueOf(count * averageScore)).build());
+        });
+        final int reviewCount = dailyCounts.values().stream().mapToInt(Integer::intValue).sum();
+
+        final Map<String, AttributeValue> aggregate = new HashMap<>();
+        aggregate.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(restaurantId).build());
+        aggregate.put(IDENTIFIER_KEY, AttributeValue.builder().s(AGGREGATE_IDENTIFIER).build());
+        aggregate.put(TOTAL_SCORE_KEY, AttributeValue.builder().n(String.valueOf(reviewCount * averageScore)).build());
+        aggregate.put(REVIEW_COUNT_KEY, AttributeValue.builder().n(String.valueOf(reviewCount)).build());
+        aggregate.put(AVERAGE_SCORE_KEY, AttributeValue.builder().n(String.valueOf(averageScore)).build());
+        aggregate.put(DAILY_REVIEW_COUNTS_KEY, AttributeValue.builder().m(counts).build());
+        aggregate.put(DAILY_TOTAL_SCORES_KEY, AttributeValue.builder().m(totals).build());
+        return aggregate;
+    }
+
+    private TransactGetItemsResponse deleteSnapshot(Map<String, AttributeValue> review, Map<String, AttributeValue> aggregate) {
+        return TransactGetItemsResponse.builder()
+                .responses(ItemResponse.builder().item(review).build(), ItemResponse.builder().item(aggregate).build())
+                .build();
+    }
+
     private Map<String, AttributeValue> reviewToAttributeMap(Review review) {
         Map<String, AttributeValue> map = new HashMap<>();
         map.put(RESTAURANT_ID_KEY, AttributeValue.builder().s(review.getRestaurantId()).build());
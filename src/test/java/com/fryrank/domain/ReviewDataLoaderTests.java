@@ -0,0 +1,107 @@
+package com.fryrank.domain;
+
+import com.fryrank.dal.ReviewDAL;
+import com.fryrank.model.AggregateReviewFilter;
+import com.fryrank.model.AggregateReviewInformation;
+import com.fryrank.model.GetAggregateReviewInformationOutput;
+import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.Review;
+import com.fryrank.model.UserMetadataBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.fryrank.TestConstants.TEST_ACCOUNT_ID;
+import static com.fryrank.TestConstants.TEST_RESTAURANT_ID_1;
+import static com.fryrank.TestConstants.TEST_RESTAURANT_ID_2;
+import static com.fryrank.TestConstants.TEST_REVIEWS;
+import static com.fryrank.TestConstants.TEST_USER_METADATA_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewDataLoaderTests {
+    @Mock
+    ReviewDAL reviewDAL;
+
+    @InjectMocks
+    ReviewDomain domain;
+
+    @Test
+    public void testDispatch_dedupesAndResolvesEachSetInOneWave() {
+        final AggregateReviewFilter filter = new AggregateReviewFilter(true);
+        when(reviewDAL.getUserMetadata(List.of(TEST_ACCOUNT_ID)))
+                .thenReturn(new UserMetadataBatch(Map.of(TEST_ACCOUNT_ID, TEST_USER_METADATA_1), false));
+        when(reviewDAL.getAggregateReviewInformationForRestaurants(List.of(TEST_RESTAURANT_ID_2, TEST_RESTAURANT_ID_1), filter))
+                .thenReturn(new GetAggregateReviewInformationOutput(Map.of(
+                        TEST_RESTAURANT_ID_1, new AggregateReviewInformation(TEST_RESTAURANT_ID_1, 5.0F),
+                        TEST_RESTAURANT_ID_2, new AggregateReviewInformation(TEST_RESTAURANT_ID_2, 7.0F)
+                )));
+
+        final ReviewDataLoader loader = domain.newDataLoader(true)
+                .queueAccountId(TEST_ACCOUNT_ID)
+                .queueAccountId(TEST_ACCOUNT_ID)
+                .queueRestaurantId(TEST_RESTAURANT_ID_1)
+                .queueRestaurantId(TEST_RESTAURANT_ID_2)
+                .queueRestaurantId(TEST_RESTAURANT_ID_1);
+        loader.dispatch();
+
+        assertEquals(TEST_USER_METADATA_1, loader.getUserMetadata(TEST_ACCOUNT_ID));
+        assertEquals(5.0F, loader.getAggregate(TEST_RESTAURANT_ID_1).getAvgScore());
+        assertEquals(7.0F, loader.getAggregate(TEST_RESTAURANT_ID_2).getAvgScore());
+
+        verify(reviewDAL, times(1)).getUserMetadata(any());
+        verify(reviewDAL, times(1)).getAggregateReviewInformationForRestaurants(any(), any());
+    }
+
+    @Test
+    public void testDispatch_resolvedKeysAreNotFetchedAgain() {
+        when(reviewDAL.getUserMetadata(List.of(TEST_ACCOUNT_ID)))
+                .thenReturn(new UserMetadataBatch(Map.of(TEST_ACCOUNT_ID, TEST_USER_METADATA_1), false));
+
+        final ReviewDataLoader loader = domain.newDataLoader(false);
+        final List<Review> firstStep = loader.withUserMetadata(TEST_REVIEWS);
+        final List<Review> secondStep = loader.withUserMetadata(TEST_REVIEWS);
+
+        assertEquals(TEST_USER_METADATA_1, firstStep.get(0).getUserMetadata());
+        assertEquals(TEST_USER_METADATA_1, secondStep.get(1).getUserMetadata());
+        verify(reviewDAL, times(1)).getUserMetadata(any());
+        verify(reviewDAL, never()).getAggregateReviewInformationForRestaurants(any(), any());
+    }
+
+    @Test
+    public void testDispatch_nothingQueued_noCalls() {
+        final ReviewDataLoader loader = domain.newDataLoader(false);
+        loader.dispatch();
+
+        assertNull(loader.getUserMetadata(null));
+        verify(reviewDAL, never()).getUserMetadata(any());
+        verify(reviewDAL, never()).getAggregateReviewInformationForRestaurants(any(), any());
+    }
+
+    @Test
+    public void testDispatch_partialMetadata_marksOutputAndRetriesMissedAccounts() {
+        when(reviewDAL.getUserMetadata(List.of(TEST_ACCOUNT_ID)))
+                .thenReturn(new UserMetadataBatch(Map.of(), true))
+                .thenReturn(new UserMetadataBatch(Map.of(TEST_ACCOUNT_ID, TEST_USER_METADATA_1), false));
+
+        final ReviewDataLoader loader = domain.newDataLoader(false);
+        final GetAllReviewsOutput firstStep = loader.toOutputWithUserMetadata(TEST_REVIEWS);
+
+        assertTrue(firstStep.getPartial());
+        assertNull(firstStep.getReviews().get(0).getUserMetadata());
+        assertEquals(TEST_USER_METADATA_1, loader.getUserMetadata(TEST_ACCOUNT_ID));
+        verify(reviewDAL, times(2)).getUserMetadata(any());
+    }
+}
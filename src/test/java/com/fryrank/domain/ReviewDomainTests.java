@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.fryrank.TestConstants.TEST_ACCOUNT_ID;
 import static com.fryrank.TestConstants.TEST_BODY_1;
+import static com.fryrank.TestConstants.TEST_DELETE_REVIEW_ID;
 import static com.fryrank.TestConstants.TEST_ISO_DATE_TIME_1;
 import static com.fryrank.TestConstants.TEST_RESTAURANT_ID;
 import static com.fryrank.TestConstants.TEST_REVIEWS;
@@ -21,10 +22,19 @@ import static com.fryrank.TestConstants.TEST_REVIEW_ID_1;
 import static com.fryrank.TestConstants.TEST_REVIEW_NULL_ACCOUNT_ID;
 import static com.fryrank.TestConstants.TEST_REVIEW_NULL_ISO_DATETIME;
 import static com.fryrank.TestConstants.TEST_TITLE_1;
+import static com.fryrank.TestConstants.TEST_USER_METADATA_1;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +55,7 @@ public class ReviewDomainTests {
     @Test
     public void testGetAllReviewsForRestaurant() throws Exception {
         final GetAllReviewsOutput expectedOutput = new GetAllReviewsOutput(TEST_REVIEWS);
-        when(reviewDAL.getAllReviewsByRestaurantId(TEST_RESTAURANT_ID)).thenReturn(expectedOutput);
+        when(reviewDAL.getAllReviewsByRestaurantId(TEST_RESTAURANT_ID, ReviewTimeFilter.NONE)).thenReturn(expectedOutput);
 
         final GetAllReviewsOutput actualOutput = domain.getAllReviews(TEST_RESTAURANT_ID, null);
         assertEquals(expectedOutput, actualOutput);
@@ -54,7 +64,7 @@ public class ReviewDomainTests {
     @Test
     public void testGetAllReviewsForAccount() throws Exception {
         final GetAllReviewsOutput expectedOutput = new GetAllReviewsOutput(TEST_REVIEWS);
-        when(reviewDAL.getAllReviewsByAccountId(TEST_ACCOUNT_ID)).thenReturn(expectedOutput);
+        when(reviewDAL.getAllReviewsByAccountId(TEST_ACCOUNT_ID, ReviewTimeFilter.NONE)).thenReturn(expectedOutput);
 
         final GetAllReviewsOutput actualOutput = domain.getAllReviews(null, TEST_ACCOUNT_ID);
         assertEquals(expectedOutput, actualOutput);
@@ -68,12 +78,103 @@ public class ReviewDomainTests {
     @Test
     public void testGetRecentReviews() throws Exception {
         final GetAllReviewsOutput expectedOutput = new GetAllReviewsOutput(TEST_REVIEWS);
-        when(reviewDAL.getRecentReviews(TEST_REVIEWS.size())).thenReturn(expectedOutput);
+        when(reviewDAL.getRecentReviews(TEST_REVIEWS.size(), ReviewTimeFilter.NONE)).thenReturn(expectedOutput);
 
         final GetAllReviewsOutput actualOutput = domain.getRecentReviews(TEST_REVIEWS.size());
         assertEquals(expectedOutput.getReviews().size(), actualOutput.getReviews().size());
     }
 
+    @Test
+    public void testGetRecentReviewsSince() throws Exception {
+        final ReviewTimeFilter timeFilter = ReviewTimeFilter.builder().since(TEST_ISO_DATE_TIME_1).build();
+        final GetAllReviewsOutput expectedOutput = new GetAllReviewsOutput(List.of());
+        when(reviewDAL.getRecentReviews(TEST_REVIEWS.size(), timeFilter)).thenReturn(expectedOutput);
+
+        final GetAllReviewsOutput actualOutput = domain.getRecentReviews(TEST_REVIEWS.size(), timeFilter);
+        assertEquals(expectedOutput, actualOutput);
+    }
+
+    @Test
+    public void testGetLatestReviewsForRestaurants_attachesUserMetadata() throws Exception {
+        when(reviewDAL.getLatestReviewsForRestaurants(List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), DEFAULT_FEED_REVIEW_COUNT, ReviewTimeFilter.NONE))
+                .thenReturn(new GetAllReviewsOutput(List.of(TEST_REVIEW_1)));
+        when(reviewDAL.getUserMetadata(List.of(TEST_ACCOUNT_ID)))
+                .thenReturn(new UserMetadataBatch(Map.of(TEST_ACCOUNT_ID, TEST_USER_METADATA_1), false));
+
+        final GetAllReviewsOutput actualOutput = domain.getLatestReviewsForRestaurants(
+                List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), null, ReviewTimeFilter.NONE);
+        assertEquals(List.of(TEST_REVIEW_1.toBuilder().userMetadata(TEST_USER_METADATA_1).build()), actualOutput.getReviews());
+        assertNull(actualOutput.getPartial());
+    }
+
+    @Test
+    public void testGetRestaurantLeaderboard_defaultsPageSize() throws Exception {
+        final GetRestaurantLeaderboardOutput expectedOutput = new GetRestaurantLeaderboardOutput(List.of(), null);
+        when(reviewDAL.getRestaurantLeaderboard(10, null)).thenReturn(expectedOutput);
+
+        assertEquals(expectedOutput, domain.getRestaurantLeaderboard(null, null));
+    }
+
+    @Test
+    public void testGetTrendingRestaurants_defaultsWindowAndCount() throws Exception {
+        final GetTrendingRestaurantsOutput expectedOutput = new GetTrendingRestaurantsOutput(7, List.of());
+        when(reviewDAL.getTrendingRestaurants(7, 10)).thenReturn(expectedOutput);
+
+        assertEquals(expectedOutput, domain.getTrendingRestaurants(null, null));
+    }
+
+    @Test
+    public void testGetUserReviewStatus() throws Exception {
+        final GetUserReviewStatusOutput expectedOutput = new GetUserReviewStatusOutput(
+                Map.of(TEST_RESTAURANT_ID_1, true, TEST_RESTAURANT_ID_2, false), null);
+        when(reviewDAL.getUserReviewStatus(List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), TEST_ACCOUNT_ID, false))
+                .thenReturn(expectedOutput);
+
+        final GetUserReviewStatusOutput actualOutput = domain.getUserReviewStatus(
+                List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), TEST_ACCOUNT_ID, null);
+        assertEquals(expectedOutput, actualOutput);
+    }
+
+    @Test
+    public void testGetUserReviewStatus_withReviewAndRating_resolvesMetadataAndAggregatesInOneDispatch() throws Exception {
+        final Review review = TEST_REVIEW_1.toBuilder().restaurantId(TEST_RESTAURANT_ID_1).build();
+        when(reviewDAL.getUserReviewStatus(List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), TEST_ACCOUNT_ID, true))
+                .thenReturn(new GetUserReviewStatusOutput(
+                        Map.of(TEST_RESTAURANT_ID_1, true, TEST_RESTAURANT_ID_2, false), Map.of(TEST_RESTAURANT_ID_1, review)));
+        when(reviewDAL.getUserMetadata(List.of(TEST_ACCOUNT_ID)))
+                .thenReturn(new UserMetadataBatch(Map.of(TEST_ACCOUNT_ID, TEST_USER_METADATA_1), false));
+        when(reviewDAL.getAggregateReviewInformationForRestaurants(eq(List.of(TEST_RESTAURANT_ID_2, TEST_RESTAURANT_ID_1)), any()))
+                .thenReturn(new GetAggregateReviewInformationOutput(Map.of(
+                        TEST_RESTAURANT_ID_1, new AggregateReviewInformation(TEST_RESTAURANT_ID_1, 5.0F))));
+
+        final GetUserReviewStatusOutput actualOutput = domain.getUserReviewStatus(
+                List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), TEST_ACCOUNT_ID, true, true);
+
+        assertEquals(TEST_USER_METADATA_1, actualOutput.getRestaurantIdToReview().get(TEST_RESTAURANT_ID_1).getUserMetadata());
+        assertEquals(Map.of(TEST_RESTAURANT_ID_1, new AggregateReviewInformation(TEST_RESTAURANT_ID_1, 5.0F)),
+                actualOutput.getRestaurantIdToRestaurantInformation());
+        verify(reviewDAL, times(1)).getUserMetadata(any());
+        verify(reviewDAL, times(1)).getAggregateReviewInformationForRestaurants(any(), any());
+    }
+
+    @Test
+    public void testGetReviewsById_dedupesIdsAndBatchesUserMetadata() throws Exception {
+        when(reviewDAL.getReviewsByIds(List.of(TEST_DELETE_REVIEW_ID))).thenReturn(new GetAllReviewsOutput(TEST_REVIEWS));
+        when(reviewDAL.getUserMetadata(List.of(TEST_ACCOUNT_ID)))
+                .thenReturn(new UserMetadataBatch(Map.of(), true));
+
+        final GetAllReviewsOutput actualOutput = domain.getReviewsById(new GetReviewsByIdRequest(List.of(TEST_DELETE_REVIEW_ID, TEST_DELETE_REVIEW_ID)));
+
+        assertEquals(2, actualOutput.getReviews().size());
+        assertTrue(actualOutput.getPartial());
+        verify(reviewDAL, times(1)).getUserMetadata(any());
+    }
+
+    @Test
+    public void testGetReviewsById_malformedId() throws Exception {
+        assertThrows(ValidatorException.class, () -> domain.getReviewsById(new GetReviewsByIdRequest(List.of("no-colon"))));
+    }
+
     // /api/reviews/aggregateInformation endpoint tests
     @Test
     public void testGetSingleRestaurantAllAggregateInformation() throws Exception {
@@ -90,7 +191,7 @@ public class ReviewDomainTests {
 
         when(reviewDAL.getAggregateReviewInformationForRestaurants(restaurantIds, aggregateReviewFilter)).thenReturn(expectedOutput);
 
-        final GetAggregateReviewInformationOutput actualOutput = domain.getAggregateReviewInformationForRestaurants(TEST_RESTAURANT_ID_1, true);
+        final GetAggregateReviewInformationOutput actualOutput = domain.getAggregateReviewInformationForRestaurants(List.of(TEST_RESTAURANT_ID_1), true);
         assertEquals(expectedOutput, actualOutput);
     }
 
@@ -111,10 +212,10 @@ public class ReviewDomainTests {
 
         when(reviewDAL.getAggregateReviewInformationForRestaurants(restaurantIds.stream().sorted().collect(Collectors.toList()), aggregateReviewFilter)).thenReturn(expectedOutput);
 
-        final GetAggregateReviewInformationOutput inOrderOutput = domain.getAggregateReviewInformationForRestaurants(TEST_RESTAURANT_ID_1 + "," + TEST_RESTAURANT_ID_2, true);
+        final GetAggregateReviewInformationOutput inOrderOutput = domain.getAggregateReviewInformationForRestaurants(List.of(TEST_RESTAURANT_ID_1, TEST_RESTAURANT_ID_2), true);
         assertEquals(expectedOutput, inOrderOutput);
 
-        final GetAggregateReviewInformationOutput reversedOutput = domain.getAggregateReviewInformationForRestaurants(TEST_RESTAURANT_ID_2 + "," + TEST_RESTAURANT_ID_1, true);
+        final GetAggregateReviewInformationOutput reversedOutput = domain.getAggregateReviewInformationForRestaurants(List.of(TEST_RESTAURANT_ID_2, TEST_RESTAURANT_ID_1), true);
         assertEquals(expectedOutput, reversedOutput);
     }
 
@@ -133,7 +234,7 @@ public class ReviewDomainTests {
 
         when(reviewDAL.getAggregateReviewInformationForRestaurants(restaurantIds, aggregateReviewFilter)).thenReturn(expectedOutput);
 
-        final GetAggregateReviewInformationOutput actualOutput = domain.getAggregateReviewInformationForRestaurants(TEST_RESTAURANT_ID_1, false);
+        final GetAggregateReviewInformationOutput actualOutput = domain.getAggregateReviewInformationForRestaurants(List.of(TEST_RESTAURANT_ID_1), false);
         assertEquals(expectedOutput, actualOutput);
     }
 
@@ -154,7 +255,7 @@ public class ReviewDomainTests {
 
         when(reviewDAL.getAggregateReviewInformationForRestaurants(restaurantIds.stream().sorted().collect(Collectors.toList()), aggregateReviewFilter)).thenReturn(expectedOutput);
 
-        final GetAggregateReviewInformationOutput actualOutput = domain.getAggregateReviewInformationForRestaurants(TEST_RESTAURANT_ID_2 + "," + TEST_RESTAURANT_ID_1, false);
+        final GetAggregateReviewInformationOutput actualOutput = domain.getAggregateReviewInformationForRestaurants(List.of(TEST_RESTAURANT_ID_2, TEST_RESTAURANT_ID_1), false);
         assertEquals(expectedOutput, actualOutput);
     }
 
@@ -265,4 +366,30 @@ public class ReviewDomainTests {
     public void testAddNewReviewNullAccountId() throws Exception {
         assertThrows(ValidatorException.class, () -> domain.addNewReviewForRestaurant(TEST_REVIEW_NULL_ACCOUNT_ID));
     }
+
+    @Test
+    public void testPurgeAccountReviews() throws Exception {
+        final PurgeAccountReviewsOutput expected = new PurgeAccountReviewsOutput(3, 0, true);
+        when(reviewDAL.purgeAccountReviews(eq(TEST_ACCOUNT_ID), any(Instant.class))).thenReturn(expected);
+
+        assertEquals(expected, domain.purgeAccountReviews(TEST_ACCOUNT_ID, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void testPurgeAccountReviewsNoTimeRemaining() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> domain.purgeAccountReviews(TEST_ACCOUNT_ID, Duration.ofMillis(-1)));
+    }
+
+    @Test
+    public void testImportReviews() throws Exception {
+        final ImportReviewsOutput expected = new ImportReviewsOutput(1, 0, 1, 10L, 100.0, 3.0);
+        when(reviewDAL.importReviews(List.of(TEST_REVIEW_1))).thenReturn(expected);
+
+        assertEquals(expected, domain.importReviews(new ImportReviewsRequest(List.of(TEST_REVIEW_1))));
+    }
+
+    @Test
+    public void testImportReviewsInvalidReview() throws Exception {
+        assertThrows(ValidatorException.class, () -> domain.importReviews(new ImportReviewsRequest(List.of(TEST_REVIEW_NULL_ACCOUNT_ID))));
+    }
 }
@@ -3,8 +3,10 @@ package com.fryrank.handler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,10 +25,19 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
 import com.fryrank.Constants;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+
+import static com.fryrank.Constants.IDEMPOTENCY_TABLE_NAME;
 
 import static com.fryrank.TestConstants.TEST_ACCOUNT_ID;
 import static com.fryrank.TestConstants.TEST_AUTHORIZED_ACCOUNT_ID;
 import static com.fryrank.TestConstants.TEST_BODY_1;
+import static com.fryrank.TestConstants.TEST_IDEMPOTENCY_KEY;
 import static com.fryrank.TestConstants.TEST_INVALID_TOKEN;
 import static com.fryrank.TestConstants.TEST_ISO_DATE_TIME_1;
 import static com.fryrank.TestConstants.TEST_MALFORMED_TOKEN;
@@ -40,7 +51,6 @@ import com.fryrank.model.Review;
 import com.fryrank.model.exceptions.AuthorizationDisabledException;
 import com.fryrank.model.exceptions.NotAuthorizedException;
 import com.fryrank.util.Authorizer;
-import com.fryrank.validator.APIGatewayRequestValidator;
 import com.fryrank.validator.ReviewValidator;
 import com.google.gson.Gson;
 
@@ -53,8 +63,6 @@ public class AddNewReviewForRestaurantHandlerTests {
     @Mock
     private ReviewDomain reviewDomain;
     
-    @Mock
-    private APIGatewayRequestValidator requestValidator;
     
     @Mock
     private ReviewValidator reviewValidator;
@@ -64,6 +72,9 @@ public class AddNewReviewForRestaurantHandlerTests {
     
     @Mock
     private Context context;
+
+    @Mock
+    private DynamoDbClient dynamoDb;
     
     @InjectMocks
     private AddNewReviewForRestaurantHandler handler;
@@ -100,7 +111,6 @@ public class AddNewReviewForRestaurantHandlerTests {
         final APIGatewayV2HTTPEvent event = createTestEvent(createBearerToken(TEST_VALID_TOKEN), gson.toJson(inputReview));
         
         // Setup mocks - mock Authorizer returns different accountId than what's in request body
-        doNothing().when(requestValidator).validateRequest(any(), any());
         when(authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN)).thenReturn(TEST_AUTHORIZED_ACCOUNT_ID);
         when(reviewDomain.addNewReviewForRestaurant(any(Review.class))).thenReturn(outputReview);
         
@@ -142,7 +152,6 @@ public class AddNewReviewForRestaurantHandlerTests {
         final APIGatewayV2HTTPEvent event = createTestEvent(createBearerToken(TEST_INVALID_TOKEN), gson.toJson(inputReview));
         
         // Setup mocks - mock Authorizer to throw exception for invalid token
-        doNothing().when(requestValidator).validateRequest(any(), any());
         doThrow(new NotAuthorizedException(Constants.AUTH_ERROR_INVALID_TOKEN)).when(authorizer).authorizeAndGetAccountId(TEST_INVALID_TOKEN);
         
         // Act
@@ -168,7 +177,6 @@ public class AddNewReviewForRestaurantHandlerTests {
         final APIGatewayV2HTTPEvent event = createTestEvent(null, gson.toJson(inputReview));
         
         // Setup mocks - mock Authorizer to throw exception for null token (missing header)
-        doNothing().when(requestValidator).validateRequest(any(), any());
         doThrow(new NotAuthorizedException(Constants.AUTH_ERROR_MISSING_OR_INVALID_HEADER)).when(authorizer).authorizeAndGetAccountId(null);
         
         // Act
@@ -192,7 +200,6 @@ public class AddNewReviewForRestaurantHandlerTests {
         final APIGatewayV2HTTPEvent event = createTestEvent(TEST_MALFORMED_TOKEN, gson.toJson(inputReview));
         
         // Setup mocks - mock Authorizer to throw exception for malformed token
-        doNothing().when(requestValidator).validateRequest(any(), any());
         doThrow(new NotAuthorizedException(Constants.AUTH_ERROR_MISSING_OR_INVALID_HEADER)).when(authorizer).authorizeAndGetAccountId(null);
         
         // Act
@@ -227,7 +234,6 @@ public class AddNewReviewForRestaurantHandlerTests {
         final APIGatewayV2HTTPEvent event = createTestEvent(null, gson.toJson(inputReview));
         
         // Setup mocks - mock Authorizer to throw exception (auth disabled)
-        doNothing().when(requestValidator).validateRequest(any(), any());
         doThrow(new AuthorizationDisabledException("Authorization is disabled")).when(authorizer).authorizeAndGetAccountId(null);
         when(reviewDomain.addNewReviewForRestaurant(any(Review.class))).thenReturn(outputReview);
         
@@ -245,6 +251,89 @@ public class AddNewReviewForRestaurantHandlerTests {
         assertEquals(TEST_ACCOUNT_ID, capturedReview.getAccountId(), "Account ID should be used from request body when auth is disabled");
     }
 
+    @Test
+    public void testHandleRequest_WithIdempotencyKey_PassesKeyToDomain() throws Exception {
+        // Arrange
+        final Review inputReview = Review.builder()
+            .restaurantId(TEST_RESTAURANT_ID)
+            .score(5.0)
+            .title(TEST_TITLE_1)
+            .body(TEST_BODY_1)
+            .build();
+
+        final Review outputReview = Review.builder()
+            .reviewId(TEST_REVIEW_ID_1)
+            .restaurantId(TEST_RESTAURANT_ID)
+            .score(5.0)
+            .title(TEST_TITLE_1)
+            .body(TEST_BODY_1)
+            .accountId(TEST_AUTHORIZED_ACCOUNT_ID)
+            .isoDateTime(TEST_ISO_DATE_TIME_1)
+            .build();
+
+        final APIGatewayV2HTTPEvent event = createTestEvent(createBearerToken(TEST_VALID_TOKEN), gson.toJson(inputReview));
+        event.getHeaders().put("Idempotency-Key", TEST_IDEMPOTENCY_KEY);
+
+        // Setup mocks
+        when(authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN)).thenReturn(TEST_AUTHORIZED_ACCOUNT_ID);
+        when(reviewDomain.addNewReviewForRestaurant(any(Review.class), eq(TEST_IDEMPOTENCY_KEY))).thenReturn(outputReview);
+
+        // Act
+        final APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals(200, response.getStatusCode());
+        verify(reviewDomain).addNewReviewForRestaurant(any(Review.class), eq(TEST_IDEMPOTENCY_KEY));
+        verify(reviewDomain, never()).addNewReviewForRestaurant(any(Review.class));
+    }
+
+    @Test
+    public void testHandleRequest_RetriedWithSameIdempotencyKey_ReturnsStoredReview() throws Exception {
+        // Arrange: the real domain and DAL over a DynamoDB client that keeps the idempotency record it is given
+        final ReviewDALImpl dal = new ReviewDALImpl(dynamoDb);
+        final AddNewReviewForRestaurantHandler retryingHandler = new AddNewReviewForRestaurantHandler(
+                dal, new ReviewDomain(dal), reviewValidator, authorizer);
+        final Map<String, AttributeValue> storedRecord = new HashMap<>();
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenAnswer(invocation -> {
+            final GetItemRequest request = invocation.getArgument(0);
+            return GetItemResponse.builder()
+                    .item(IDEMPOTENCY_TABLE_NAME.equals(request.tableName()) ? Map.copyOf(storedRecord) : Map.of())
+                    .build();
+        });
+        when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class))).thenAnswer(invocation -> {
+            final TransactWriteItemsRequest request = invocation.getArgument(0);
+            request.transactItems().stream()
+                    .filter(item -> item.put() != null && IDEMPOTENCY_TABLE_NAME.equals(item.put().tableName()))
+                    .forEach(item -> storedRecord.putAll(item.put().item()));
+            return TransactWriteItemsResponse.builder().build();
+        });
+        when(authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN)).thenReturn(TEST_AUTHORIZED_ACCOUNT_ID);
+
+        final Review inputReview = Review.builder()
+            .restaurantId(TEST_RESTAURANT_ID)
+            .score(5.0)
+            .title(TEST_TITLE_1)
+            .body(TEST_BODY_1)
+            .build();
+
+        // Act: the retry arrives later, so the handler stamps it with a different time
+        final APIGatewayV2HTTPResponse first = retryingHandler.handleRequest(createIdempotentEvent(gson.toJson(inputReview)), context);
+        Thread.sleep(2);
+        final APIGatewayV2HTTPResponse retry = retryingHandler.handleRequest(createIdempotentEvent(gson.toJson(inputReview)), context);
+
+        // Assert
+        assertEquals(200, first.getStatusCode());
+        assertEquals(200, retry.getStatusCode());
+        assertEquals(first.getBody(), retry.getBody());
+        verify(dynamoDb, times(1)).transactWriteItems(any(TransactWriteItemsRequest.class));
+    }
+
+    private APIGatewayV2HTTPEvent createIdempotentEvent(String body) {
+        final APIGatewayV2HTTPEvent event = createTestEvent(createBearerToken(TEST_VALID_TOKEN), body);
+        event.getHeaders().put("Idempotency-Key", TEST_IDEMPOTENCY_KEY);
+        return event;
+    }
+
     private APIGatewayV2HTTPEvent createTestEvent(String authHeader, String body) {
         final APIGatewayV2HTTPEvent event = new APIGatewayV2HTTPEvent();
         event.setBody(body);
@@ -2,12 +2,13 @@ package com.fryrank.handler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,12 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import static com.fryrank.Constants.HEADER_ACCESS_CONTROL_ALLOW_ORIGIN;
+import static com.fryrank.Constants.HEADER_ACCESS_CONTROL_MAX_AGE;
+import static com.fryrank.Constants.LOCALHOST;
 import static com.fryrank.TestConstants.TEST_DELETE_REVIEW_ID;
 import com.fryrank.dal.ReviewDALImpl;
 import com.fryrank.domain.ReviewDomain;
 import com.fryrank.model.DeleteReviewRequest;
 import com.fryrank.model.exceptions.NotFoundException;
-import com.fryrank.validator.APIGatewayRequestValidator;
 import com.fryrank.validator.DeleteReviewRequestValidator;
 import com.google.gson.Gson;
 
@@ -37,8 +40,6 @@ public class DeleteReviewHandlerTests {
     @Mock
     private ReviewDomain reviewDomain;
 
-    @Mock
-    private APIGatewayRequestValidator requestValidator;
 
     @Mock
     private DeleteReviewRequestValidator deleteReviewRequestValidator;
@@ -63,7 +64,6 @@ public class DeleteReviewHandlerTests {
         final APIGatewayV2HTTPEvent event = createTestEvent(gson.toJson(deleteRequest));
 
         // Setup mocks
-        doNothing().when(requestValidator).validateRequest(any(), any());
         doNothing().when(reviewDomain).deleteReview(any(DeleteReviewRequest.class));
 
         // Act
@@ -71,7 +71,6 @@ public class DeleteReviewHandlerTests {
 
         // Assert
         assertEquals(204, response.getStatusCode());
-        verify(requestValidator).validateRequest(eq("DeleteReviewHandler"), any());
         verify(reviewDomain).deleteReview(any(DeleteReviewRequest.class));
     }
 
@@ -83,7 +82,6 @@ public class DeleteReviewHandlerTests {
         final String errorMessage = "Review not found in database.";
 
         // Setup mocks
-        doNothing().when(requestValidator).validateRequest(any(), any());
         doThrow(new NotFoundException(errorMessage)).when(reviewDomain).deleteReview(any(DeleteReviewRequest.class));
 
         // Act
@@ -92,7 +90,6 @@ public class DeleteReviewHandlerTests {
         // Assert
         assertEquals(404, response.getStatusCode());
         assertEquals(errorMessage, response.getBody());
-        verify(requestValidator).validateRequest(eq("DeleteReviewHandler"), any());
         verify(reviewDomain).deleteReview(any(DeleteReviewRequest.class));
     }
 
@@ -101,17 +98,32 @@ public class DeleteReviewHandlerTests {
         // Arrange
         final APIGatewayV2HTTPEvent event = createTestEvent(null);
 
-        // Setup mocks - requestValidator throws IllegalArgumentException for missing body
-        doThrow(new IllegalArgumentException("Request body is required"))
-            .when(requestValidator).validateRequest(any(), any());
-
         // Act
         final APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
 
         // Assert
         assertEquals(400, response.getStatusCode());
         assertEquals("Bad Request: Request body is required", response.getBody());
-        verify(requestValidator).validateRequest(eq("DeleteReviewHandler"), any());
+        verifyNoInteractions(reviewDomain);
+    }
+
+    @Test
+    public void testHandleRequest_WithPreflight_Returns204WithoutTouchingDownstream() throws Exception {
+        // Arrange
+        final APIGatewayV2HTTPEvent event = createTestEvent(null);
+        event.setHeaders(Map.of("Origin", LOCALHOST));
+        event.setRequestContext(APIGatewayV2HTTPEvent.RequestContext.builder()
+                .withHttp(APIGatewayV2HTTPEvent.RequestContext.Http.builder().withMethod("OPTIONS").build())
+                .build());
+
+        // Act
+        final APIGatewayV2HTTPResponse response = handler.handleRequest(event, context);
+
+        // Assert
+        assertEquals(204, response.getStatusCode());
+        assertEquals(LOCALHOST, response.getHeaders().get(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals("7200", response.getHeaders().get(HEADER_ACCESS_CONTROL_MAX_AGE));
+        verifyNoInteractions(reviewDomain, reviewDAL);
     }
 
     private APIGatewayV2HTTPEvent createTestEvent(String body) {
@@ -0,0 +1,87 @@
+package com.fryrank.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.fryrank.dal.ReviewDALImpl;
+import com.fryrank.domain.ReviewDomain;
+import com.fryrank.model.PurgeAccountReviewsOutput;
+import com.fryrank.util.Authorizer;
+
+import static com.fryrank.Constants.ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS;
+import static com.fryrank.TestConstants.TEST_AUTHORIZED_ACCOUNT_ID;
+import static com.fryrank.TestConstants.TEST_VALID_TOKEN;
+
+@ExtendWith(MockitoExtension.class)
+public class PurgeAccountReviewsHandlerTests {
+
+    @Mock
+    private ReviewDALImpl reviewDAL;
+
+    @Mock
+    private ReviewDomain reviewDomain;
+
+    @Mock
+    private Authorizer authorizer;
+
+    @Mock
+    private Context context;
+
+    @InjectMocks
+    private PurgeAccountReviewsHandler handler;
+
+    @Test
+    public void testHandleRequest_PurgesWithinRemainingTimeLessSafetyMargin() throws Exception {
+        // Arrange
+        when(authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN)).thenReturn(TEST_AUTHORIZED_ACCOUNT_ID);
+        when(context.getRemainingTimeInMillis()).thenReturn((int) ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS + 10000);
+        when(reviewDomain.purgeAccountReviews(eq(TEST_AUTHORIZED_ACCOUNT_ID), any(Duration.class)))
+            .thenReturn(new PurgeAccountReviewsOutput(3, 0, true));
+
+        // Act
+        final APIGatewayV2HTTPResponse response = handler.handleRequest(createTestEvent(), context);
+
+        // Assert
+        assertEquals(200, response.getStatusCode());
+        verify(reviewDomain).purgeAccountReviews(TEST_AUTHORIZED_ACCOUNT_ID, Duration.ofMillis(10000));
+    }
+
+    @Test
+    public void testHandleRequest_WithLessTimeLeftThanSafetyMargin_Returns503WithoutPurging() throws Exception {
+        // Arrange
+        when(authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN)).thenReturn(TEST_AUTHORIZED_ACCOUNT_ID);
+        when(context.getRemainingTimeInMillis()).thenReturn((int) ACCOUNT_PURGE_SAFETY_MARGIN_MILLIS - 1000);
+
+        // Act
+        final APIGatewayV2HTTPResponse response = handler.handleRequest(createTestEvent(), context);
+
+        // Assert
+        assertEquals(503, response.getStatusCode());
+        verifyNoInteractions(reviewDomain);
+    }
+
+    private APIGatewayV2HTTPEvent createTestEvent() {
+        final APIGatewayV2HTTPEvent event = new APIGatewayV2HTTPEvent();
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("Authorization", "Bearer " + TEST_VALID_TOKEN);
+        event.setHeaders(headers);
+        return event;
+    }
+}
@@ -1,14 +1,24 @@
 package com.fryrank.util;
 
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
 import com.fryrank.model.GetAllReviewsOutput;
+import com.fryrank.model.exceptions.DeadlineExceededException;
+import com.fryrank.model.exceptions.IdempotencyKeyReusedException;
 import com.google.gson.Gson;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
+import static com.fryrank.Constants.HEADER_ACCESS_CONTROL_ALLOW_ORIGIN;
+import static com.fryrank.Constants.HEADER_ACCESS_CONTROL_MAX_AGE;
+import static com.fryrank.Constants.LOCALHOST;
 import static com.fryrank.TestConstants.TEST_REVIEWS;
 import static com.fryrank.TestConstants.TEST_REVIEWS_JSON_STRING;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class APIGatewayResponseBuilderTest {
@@ -24,6 +34,8 @@ class APIGatewayResponseBuilderTest {
     private static final int HTTP_OK = 200;
     private static final int HTTP_BAD_REQUEST = 400;
     private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final int HTTP_UNPROCESSABLE_CONTENT = 422;
+    private static final int HTTP_GATEWAY_TIMEOUT = 504;
 
     @Test
     void handleRequest_SuccessfulExecution_ReturnsSuccessResponse() {
@@ -105,6 +117,53 @@ class APIGatewayResponseBuilderTest {
         assertTrue(response.getBody().contains(message));
     }
 
+    @Test
+    void handleRequest_ThrowsDeadlineExceededException_ReturnsGatewayTimeoutResponse() {
+        // Act
+        APIGatewayV2HTTPResponse response = APIGatewayResponseBuilder.handleRequest(TEST_HANDLER_NAME, null, () -> {
+            throw new DeadlineExceededException(TEST_ERROR_MESSAGE);
+        });
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HTTP_GATEWAY_TIMEOUT, response.getStatusCode());
+        assertTrue(response.getBody().contains(TEST_ERROR_MESSAGE));
+    }
+
+    @Test
+    void handleRequest_ThrowsIdempotencyKeyReusedException_ReturnsUnprocessableContentResponse() {
+        // Act
+        APIGatewayV2HTTPResponse response = APIGatewayResponseBuilder.handleRequest(TEST_HANDLER_NAME, null, () -> {
+            throw new IdempotencyKeyReusedException(TEST_ERROR_MESSAGE);
+        });
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HTTP_UNPROCESSABLE_CONTENT, response.getStatusCode());
+        assertTrue(response.getBody().contains(TEST_ERROR_MESSAGE));
+    }
+
+    @Test
+    void buildPreflightResponse_ReusesPrecomputedHeadersPerOrigin() {
+        // Arrange
+        APIGatewayV2HTTPEvent allowed = new APIGatewayV2HTTPEvent();
+        allowed.setHeaders(Map.of("origin", LOCALHOST));
+        APIGatewayV2HTTPEvent unknown = new APIGatewayV2HTTPEvent();
+        unknown.setHeaders(Map.of("origin", "https://example.com"));
+
+        // Act
+        APIGatewayV2HTTPResponse first = APIGatewayResponseBuilder.buildPreflightResponse(allowed);
+        APIGatewayV2HTTPResponse second = APIGatewayResponseBuilder.buildPreflightResponse(allowed);
+        APIGatewayV2HTTPResponse rejected = APIGatewayResponseBuilder.buildPreflightResponse(unknown);
+
+        // Assert
+        assertEquals(204, first.getStatusCode());
+        assertEquals(LOCALHOST, first.getHeaders().get(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertSame(first.getHeaders(), second.getHeaders());
+        assertFalse(rejected.getHeaders().containsKey(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertNotNull(rejected.getHeaders().get(HEADER_ACCESS_CONTROL_MAX_AGE));
+    }
+
     // Helper class for testing
     private static class TestData {
         private final String value;
@@ -9,8 +9,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Instant;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.mockStatic;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.fryrank.model.exceptions.AuthorizationDisabledException;
+import com.fryrank.model.exceptions.CircuitOpenException;
 import com.fryrank.model.exceptions.NotAuthorizedException;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
@@ -111,4 +116,26 @@ public class AuthorizerTests {
         );
         assertEquals("Authorization is disabled", exception.getMessage());
     }
+
+    @Test
+    public void testAuthorizeAndGetAccountId_VerifierUnavailable_OpensCircuitAndAcceptsVerifiedTokens() throws Exception {
+        // Arrange
+        doReturn(idToken).when(verifier).verify(TEST_VALID_TOKEN);
+        doReturn(payload).when(idToken).getPayload();
+        doReturn(TEST_ACCOUNT_ID).when(payload).getSubject();
+        doReturn(Instant.now().plusSeconds(3600).getEpochSecond()).when(payload).getExpirationTimeSeconds();
+        doThrow(new IOException("certificates unavailable")).when(verifier).verify(TEST_INVALID_TOKEN);
+        authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(NotAuthorizedException.class, () -> authorizer.authorizeAndGetAccountId(TEST_INVALID_TOKEN));
+        }
+
+        // Assert
+        assertEquals(TEST_ACCOUNT_ID, authorizer.authorizeAndGetAccountId(TEST_VALID_TOKEN));
+        assertThrows(CircuitOpenException.class, () -> authorizer.authorizeAndGetAccountId(TEST_INVALID_TOKEN));
+        verify(verifier, times(1)).verify(TEST_VALID_TOKEN);
+        verify(verifier, times(3)).verify(TEST_INVALID_TOKEN);
+    }
 }
@@ -0,0 +1,86 @@
+package com.fryrank.util;
+
+import com.fryrank.model.exceptions.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CircuitBreakerTests {
+
+    private static final RuntimeException OUTAGE = new IllegalStateException("outage");
+    private static final RuntimeException BAD_REQUEST = new IllegalArgumentException("bad request");
+
+    private static String failWith(RuntimeException e) {
+        throw e;
+    }
+
+    @Test
+    public void testCall_opensAfterConsecutiveFailuresAndFailsFast() {
+        final CircuitBreaker breaker = new CircuitBreaker("test", 2, Duration.ofMinutes(1));
+        final AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> breaker.call(() -> {
+                calls.incrementAndGet();
+                return failWith(OUTAGE);
+            }, e -> e == OUTAGE));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(CircuitOpenException.class, () -> breaker.call(() -> {
+            calls.incrementAndGet();
+            return "result";
+        }, e -> e == OUTAGE));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCall_nonOutageFailuresDoNotOpenCircuit() {
+        final CircuitBreaker breaker = new CircuitBreaker("test", 2, Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> failWith(OUTAGE), e -> e == OUTAGE));
+        assertThrows(IllegalArgumentException.class, () -> breaker.call(() -> failWith(BAD_REQUEST), e -> e == OUTAGE));
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> failWith(OUTAGE), e -> e == OUTAGE));
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void testCall_afterOpenDuration_trialCallClosesOrReopensCircuit() {
+        final CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> failWith(OUTAGE), e -> e == OUTAGE));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> failWith(OUTAGE), e -> e == OUTAGE));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        assertEquals("result", breaker.call(() -> "result", e -> e == OUTAGE));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void testStaleCache_servesLastGoodResultOnlyOnOutage() {
+        final StaleCache<String, String> cache = new StaleCache<>("test", 10, Duration.ofMinutes(1), e -> e == OUTAGE);
+
+        assertEquals("fresh", cache.get("key", () -> "fresh"));
+        assertEquals("fresh", cache.get("key", () -> failWith(OUTAGE)));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("key", () -> failWith(BAD_REQUEST)));
+        assertThrows(IllegalStateException.class, () -> cache.get("other", () -> failWith(OUTAGE)));
+    }
+
+    @Test
+    public void testStaleCache_doesNotStoreResultsRejectedAsUncacheable() {
+        final StaleCache<String, String> cache = new StaleCache<>("test", 10, Duration.ofMinutes(1), e -> e == OUTAGE,
+                value -> !value.startsWith("partial"));
+
+        assertEquals("good", cache.get("key", () -> "good"));
+        assertEquals("partial", cache.get("key", () -> "partial"));
+        assertEquals("good", cache.get("key", () -> failWith(OUTAGE)));
+        assertEquals("partial", cache.get("other", () -> "partial"));
+        assertThrows(IllegalStateException.class, () -> cache.get("other", () -> failWith(OUTAGE)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.fryrank.util;
+
+import com.fryrank.model.exceptions.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DeadlineTests {
+
+    private static final QueryRequest QUERY_REQUEST = QueryRequest.builder().tableName("table").build();
+
+    @Mock
+    DynamoDbClient delegate;
+
+    @Test
+    public void testRunWithin_isInheritedByFannedOutWorkAndUnboundAfterwards() throws Exception {
+        final Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        final Deadline seenByTask = Deadline.runWithin(deadline, () -> ExecutorUtils.join(
+                CompletableFuture.supplyAsync(Deadline::current, ExecutorUtils.executor())));
+
+        assertSame(deadline, seenByTask);
+        assertNull(Deadline.current());
+    }
+
+    @Test
+    public void testCall_setsApiCallTimeoutFromRemainingTime() throws Exception {
+        final GuardedDynamoDbClient client = new GuardedDynamoDbClient(delegate, new CircuitBreaker("test", 10, Duration.ofSeconds(5)));
+        when(delegate.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().build());
+
+        Deadline.runWithin(Deadline.after(Duration.ofSeconds(5)), () -> client.query(QUERY_REQUEST));
+
+        final ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(delegate).query(captor.capture());
+        final Duration timeout = captor.getValue().overrideConfiguration().orElseThrow().apiCallTimeout().orElseThrow();
+        assertTrue(timeout.compareTo(Duration.ofSeconds(5)) <= 0 && timeout.compareTo(Duration.ofSeconds(4)) > 0);
+    }
+
+    @Test
+    public void testCall_noDeadline_passesRequestThrough() {
+        final GuardedDynamoDbClient client = new GuardedDynamoDbClient(delegate, new CircuitBreaker("test", 10, Duration.ofSeconds(5)));
+        when(delegate.query(QUERY_REQUEST)).thenReturn(QueryResponse.builder().build());
+
+        client.query(QUERY_REQUEST);
+
+        verify(delegate).query(QUERY_REQUEST);
+    }
+
+    @Test
+    public void testCall_tooLittleTimeLeft_shedsCall() {
+        final GuardedDynamoDbClient client = new GuardedDynamoDbClient(delegate, new CircuitBreaker("test", 10, Duration.ofSeconds(5)));
+
+        assertThrows(DeadlineExceededException.class, () ->
+                Deadline.runWithin(Deadline.after(Duration.ofMillis(10)), () -> client.query(QUERY_REQUEST)));
+        verify(delegate, never()).query(any(QueryRequest.class));
+    }
+
+    @Test
+    public void testCall_apiCallTimeout_throwsDeadlineExceeded() {
+        final GuardedDynamoDbClient client = new GuardedDynamoDbClient(delegate, new CircuitBreaker("test", 10, Duration.ofSeconds(5)));
+        when(delegate.query(any(QueryRequest.class))).thenThrow(ApiCallTimeoutException.create(1000));
+
+        final DeadlineExceededException e = assertThrows(DeadlineExceededException.class, () ->
+                Deadline.runWithin(Deadline.after(Duration.ofSeconds(1)), () -> client.query(QUERY_REQUEST)));
+        assertEquals("Query did not finish before the request deadline", e.getMessage());
+    }
+
+    @Test
+    public void testCall_timeoutsCausedByDeadline_doNotOpenCircuit() {
+        final CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1));
+        final GuardedDynamoDbClient client = new GuardedDynamoDbClient(delegate, breaker);
+        when(delegate.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            // The call runs until the request deadline leaves no room for another one, as a real bounded call would
+            while (!Deadline.isCurrentExhausted()) {
+                Thread.sleep(5);
+            }
+            throw ApiCallTimeoutException.create(100);
+        });
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(DeadlineExceededException.class, () ->
+                    Deadline.runWithin(Deadline.after(Duration.ofMillis(100)), () -> client.query(QUERY_REQUEST)));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        verify(delegate, times(2)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    public void testCall_timeoutWithDeadlineRemaining_opensCircuit() {
+        final CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ofMinutes(1));
+        final GuardedDynamoDbClient client = new GuardedDynamoDbClient(delegate, breaker);
+        when(delegate.query(any(QueryRequest.class))).thenThrow(ApiCallTimeoutException.create(1000));
+
+        assertThrows(DeadlineExceededException.class, () ->
+                Deadline.runWithin(Deadline.after(Duration.ofSeconds(5)), () -> client.query(QUERY_REQUEST)));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void testIsOutage_countsOnlyDependencyFailures() {
+        assertFalse(DynamoDbUtils.isOutage(new DeadlineExceededException("out of time")));
+        assertFalse(DynamoDbUtils.isOutage(SdkClientException.create("unable to marshall request")));
+        assertTrue(DynamoDbUtils.isOutage(SdkClientException.create("unable to execute HTTP request",
+                new ConnectException("Connection refused"))));
+        assertTrue(DynamoDbUtils.isOutage(ApiCallTimeoutException.create(1000)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.fryrank.util;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static com.fryrank.Constants.IDENTIFIER_KEY;
+import static com.fryrank.Constants.RANKINGS_TABLE_NAME;
+import static com.fryrank.Constants.RESTAURANT_ID_KEY;
+
+/**
+ * Compares the DynamoDB HTTP clients against a local stub endpoint that answers every GetItem with an empty item, so
+ * only client overhead is measured: time to build the client, the first call (connection setup and lazy class
+ * loading), and throughput of sequential and concurrent calls on warm connections.
+ *
+ * Not part of the regular test run; run with ./gradlew benchmark. Class loading makes the first client built in a JVM
+ * look slower, so compare cold-start numbers across separate runs with only one client type.
+ */
+@Tag("benchmark")
+public class DynamoDbHttpClientBenchmark {
+
+    private static final int SEQUENTIAL_CALLS = 2000;
+    private static final int CONCURRENT_CALLS = 2000;
+    private static final int CONCURRENCY = 32;
+
+    private static final GetItemRequest GET_ITEM_REQUEST = GetItemRequest.builder()
+            .tableName(RANKINGS_TABLE_NAME)
+            .key(Map.of(
+                    RESTAURANT_ID_KEY, AttributeValue.builder().s("restaurant").build(),
+                    IDENTIFIER_KEY, AttributeValue.builder().s("AGGREGATE").build()))
+            .build();
+
+    private static HttpServer stub;
+
+    @BeforeAll
+    public static void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            final byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+    }
+
+    @AfterAll
+    public static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    public void compareHttpClients() {
+        final List<String> results = new ArrayList<>();
+        for (DynamoDbUtils.HttpClientType type : DynamoDbUtils.HttpClientType.values()) {
+            results.add(run(type));
+        }
+        System.out.println("client          build ms  first call ms  sequential calls/s  concurrent calls/s");
+        results.forEach(System.out::println);
+    }
+
+    private String run(DynamoDbUtils.HttpClientType type) {
+        final long buildStart = System.nanoTime();
+        try (DynamoDbClient client = DynamoDbUtils.builder(type)
+                .endpointOverride(URI.create("http://localhost:" + stub.getAddress().getPort()))
+                .region(Region.US_WEST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark")))
+                .overrideConfiguration(DynamoDbUtils.overrideConfiguration().build())
+                .build()) {
+            final double buildMillis = millisSince(buildStart);
+
+            final long firstCallStart = System.nanoTime();
+            client.getItem(GET_ITEM_REQUEST);
+            final double firstCallMillis = millisSince(firstCallStart);
+
+            final long sequentialStart = System.nanoTime();
+            for (int i = 0; i < SEQUENTIAL_CALLS; i++) {
+                client.getItem(GET_ITEM_REQUEST);
+            }
+            final double sequentialPerSecond = SEQUENTIAL_CALLS * 1000 / millisSince(sequentialStart);
+
+            final long concurrentStart = System.nanoTime();
+            try (var executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+                final List<CompletableFuture<?>> calls = new ArrayList<>();
+                for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                    calls.add(CompletableFuture.runAsync(() -> client.getItem(GET_ITEM_REQUEST), executor));
+                }
+                CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).join();
+            }
+            final double concurrentPerSecond = CONCURRENT_CALLS * 1000 / millisSince(concurrentStart);
+
+            return String.format("%-15s %9.1f %14.1f %19.0f %19.0f",
+                    type, buildMillis, firstCallMillis, sequentialPerSecond, concurrentPerSecond);
+        }
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fryrank.util;
+
+import com.fryrank.util.DynamoDbUtils.HttpClientType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DynamoDbUtilsTests {
+
+    @Mock
+    DynamoDbClient client;
+
+    @Test
+    public void testResolveHttpClientType_crtNotPackaged_fallsBackToApache() {
+        assertEquals(HttpClientType.APACHE, DynamoDbUtils.resolveHttpClientType(HttpClientType.CRT, () -> false));
+    }
+
+    @Test
+    public void testResolveHttpClientType_crtPackaged_usesCrt() {
+        assertEquals(HttpClientType.CRT, DynamoDbUtils.resolveHttpClientType(HttpClientType.CRT, () -> true));
+    }
+
+    @Test
+    public void testResolveHttpClientType_otherClients_ignoreCrtAvailability() {
+        assertEquals(HttpClientType.URL_CONNECTION, DynamoDbUtils.resolveHttpClientType(HttpClientType.URL_CONNECTION, () -> false));
+        assertEquals(HttpClientType.APACHE, DynamoDbUtils.resolveHttpClientType(HttpClientType.APACHE, () -> false));
+    }
+
+    @Test
+    public void testPrewarm_reportsWhetherTheLookupSucceeded() {
+        when(client.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().build())
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("throttled").build());
+
+        assertTrue(DynamoDbUtils.prewarm(client));
+        assertFalse(DynamoDbUtils.prewarm(client));
+    }
+}
@@ -0,0 +1,71 @@
+package com.fryrank.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class EmbeddedMetricsTests {
+
+    private static final String TEST_HANDLER_NAME = "TestHandler";
+    private static final String TEST_METRIC_NAME = "test.retries.conflict";
+
+    private final AtomicLong retries = new AtomicLong();
+
+    @BeforeEach
+    public void setUp() {
+        EmbeddedMetrics.reset();
+        EmbeddedMetrics.register(() -> Map.of(TEST_METRIC_NAME, retries.get()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        EmbeddedMetrics.reset();
+    }
+
+    @Test
+    public void testNextLine_emitsGrowthSinceLastEmissionAsEmf() {
+        retries.addAndGet(3);
+        final JsonObject first = new Gson().fromJson(EmbeddedMetrics.nextLine(TEST_HANDLER_NAME, 1000L), JsonObject.class);
+
+        assertEquals(3, first.get(TEST_METRIC_NAME).getAsLong());
+        assertEquals(TEST_HANDLER_NAME, first.get(EmbeddedMetrics.HANDLER_DIMENSION).getAsString());
+        final JsonObject directive = first.getAsJsonObject("_aws").getAsJsonArray("CloudWatchMetrics").get(0).getAsJsonObject();
+        assertEquals(EmbeddedMetrics.NAMESPACE, directive.get("Namespace").getAsString());
+        assertEquals(TEST_METRIC_NAME, directive.getAsJsonArray("Metrics").get(0).getAsJsonObject().get("Name").getAsString());
+        assertEquals(1000L, first.getAsJsonObject("_aws").get("Timestamp").getAsLong());
+
+        retries.addAndGet(2);
+        final JsonObject second = new Gson().fromJson(EmbeddedMetrics.nextLine(TEST_HANDLER_NAME, 2000L), JsonObject.class);
+
+        assertEquals(2, second.get(TEST_METRIC_NAME).getAsLong());
+    }
+
+    @Test
+    public void testNextLine_noCounterMoved_emitsNothing() {
+        retries.addAndGet(1);
+        EmbeddedMetrics.nextLine(TEST_HANDLER_NAME, 1000L);
+
+        assertNull(EmbeddedMetrics.nextLine(TEST_HANDLER_NAME, 2000L));
+    }
+
+    @Test
+    public void testNextLine_omitsCountersThatDidNotMove() {
+        final AtomicLong giveUps = new AtomicLong();
+        EmbeddedMetrics.register(() -> Map.of("test.giveUps.attemptsExhausted", giveUps.get()));
+        retries.addAndGet(1);
+
+        final JsonObject line = new Gson().fromJson(EmbeddedMetrics.nextLine(TEST_HANDLER_NAME, 1000L), JsonObject.class);
+
+        assertEquals(1, line.get(TEST_METRIC_NAME).getAsLong());
+        assertFalse(line.has("test.giveUps.attemptsExhausted"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.fryrank.util;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.fryrank.Constants.HEADER_ACCESS_CONTROL_ALLOW_ORIGIN;
+import static com.fryrank.Constants.LOCALHOST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HeaderUtilsTests {
+
+    private static final String TOKEN = "eyJhbGciOiJSUzI1NiJ9.PayLoad.SiGnAtUrE";
+
+    @Test
+    public void testExtractBearerToken_matchesAnyHeaderCaseAndKeepsTokenCase() {
+        assertEquals(TOKEN, HeaderUtils.extractBearerToken(event(Map.of("authorization", "Bearer " + TOKEN))));
+        assertEquals(TOKEN, HeaderUtils.extractBearerToken(event(Map.of("Authorization", "Bearer " + TOKEN))));
+        assertEquals(TOKEN, HeaderUtils.extractBearerToken(event(Map.of("AUTHORIZATION", "Bearer " + TOKEN))));
+        assertNull(HeaderUtils.extractBearerToken(event(Map.of("authorization", "Basic " + TOKEN))));
+        assertNull(HeaderUtils.extractBearerToken(new APIGatewayV2HTTPEvent()));
+    }
+
+    @Test
+    public void testCreateCorsHeaders_sharesOneUnmodifiableMapPerOrigin() {
+        final Map<String, String> first = HeaderUtils.createCorsHeaders(event(Map.of("Origin", LOCALHOST)));
+        final Map<String, String> second = HeaderUtils.createCorsHeaders(event(Map.of("origin", LOCALHOST)));
+        final Map<String, String> unknown = HeaderUtils.createCorsHeaders(event(Map.of("origin", "https://example.com")));
+
+        assertEquals(LOCALHOST, first.get(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertSame(first, second);
+        assertFalse(unknown.containsKey(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertThrows(UnsupportedOperationException.class, () -> first.put("X-Test", "value"));
+    }
+
+    @Test
+    public void testGetAllowedOrigin_isCaseSensitiveOnTheValue() {
+        assertNull(HeaderUtils.getAllowedOrigin(event(Map.of("origin", LOCALHOST.toUpperCase()))));
+    }
+
+    private static APIGatewayV2HTTPEvent event(Map<String, String> headers) {
+        final APIGatewayV2HTTPEvent event = new APIGatewayV2HTTPEvent();
+        event.setHeaders(headers);
+        return event;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fryrank.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InitOrchestratorTests {
+
+    @Test
+    public void testJoin_runsStepsConcurrently() {
+        final InitOrchestrator init = new InitOrchestrator("test");
+        // Each step only finishes once both have started, which can only happen if they run at the same time.
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        final CompletableFuture<Boolean> first = init.start("first", () -> awaitOther(bothStarted));
+        final CompletableFuture<Boolean> second = init.start("second", () -> awaitOther(bothStarted));
+        init.join();
+
+        assertTrue(first.join());
+        assertTrue(second.join());
+    }
+
+    @Test
+    public void testJoin_rethrowsStepFailure() {
+        final InitOrchestrator init = new InitOrchestrator("test");
+        init.start("ok", () -> "value");
+        init.start("failing", () -> {
+            throw new IllegalStateException("parameter missing");
+        });
+
+        final IllegalStateException e = assertThrows(IllegalStateException.class, init::join);
+        assertEquals("parameter missing", e.getMessage());
+    }
+
+    private static boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.fryrank.util;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fryrank.Constants.WARMUP_ROUTE_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WarmUpTests {
+
+    @Test
+    public void testIsWarmUpEvent_onlyMatchesTheWarmUpRouteKey() {
+        assertTrue(WarmUp.isWarmUpEvent(APIGatewayV2HTTPEvent.builder().withRouteKey(WARMUP_ROUTE_KEY).build()));
+        assertFalse(WarmUp.isWarmUpEvent(APIGatewayV2HTTPEvent.builder().withRouteKey("GET /api/reviews").build()));
+        assertFalse(WarmUp.isWarmUpEvent(new APIGatewayV2HTTPEvent()));
+        assertFalse(WarmUp.isWarmUpEvent(null));
+    }
+
+    @Test
+    public void testPrime_runsEveryPrimerAndAnswers200EvenWhenOneFails() {
+        final AtomicInteger primed = new AtomicInteger();
+
+        final APIGatewayV2HTTPResponse response = WarmUp.primeWith("TestHandler", primed::incrementAndGet,
+                () -> { throw new IllegalStateException("keys unavailable"); },
+                primed::incrementAndGet);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, primed.get());
+    }
+}
@@ -0,0 +1,66 @@
+package com.fryrank.validator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import com.fryrank.model.GetReviewsByIdRequest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.fryrank.Constants.MAX_REVIEW_IDS_PER_LOOKUP;
+import static com.fryrank.TestConstants.TEST_DELETE_REVIEW_ID;
+import static com.fryrank.TestConstants.TEST_DELETE_REVIEW_ID_NO_COLON;
+
+public class GetReviewsByIdRequestValidatorTest {
+
+    private final GetReviewsByIdRequestValidator getReviewsByIdRequestValidator = new GetReviewsByIdRequestValidator();
+
+    @Test
+    public void testValidate_WithValidReviewIds_NoErrors() {
+        GetReviewsByIdRequest request = new GetReviewsByIdRequest(List.of(TEST_DELETE_REVIEW_ID));
+        Errors errors = new BeanPropertyBindingResult(request, "getReviewsByIdRequest");
+
+        getReviewsByIdRequestValidator.validate(request, errors);
+
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    public void testValidate_WithNoReviewIds_AddsError() {
+        GetReviewsByIdRequest request = new GetReviewsByIdRequest(null);
+        Errors errors = new BeanPropertyBindingResult(request, "getReviewsByIdRequest");
+
+        getReviewsByIdRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals("reviewIds", errors.getFieldError().getField());
+        assertEquals("At least one review ID is required.", errors.getFieldError().getDefaultMessage());
+    }
+
+    @Test
+    public void testValidate_WithTooManyReviewIds_AddsError() {
+        GetReviewsByIdRequest request = new GetReviewsByIdRequest(
+                Collections.nCopies(MAX_REVIEW_IDS_PER_LOOKUP + 1, TEST_DELETE_REVIEW_ID));
+        Errors errors = new BeanPropertyBindingResult(request, "getReviewsByIdRequest");
+
+        getReviewsByIdRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals(GetReviewsByIdRequestValidator.REVIEW_IDS_REJECTION_TOO_MANY_REASON, errors.getFieldError().getDefaultMessage());
+    }
+
+    @Test
+    public void testValidate_WithMalformedReviewId_AddsError() {
+        GetReviewsByIdRequest request = new GetReviewsByIdRequest(List.of(TEST_DELETE_REVIEW_ID, TEST_DELETE_REVIEW_ID_NO_COLON));
+        Errors errors = new BeanPropertyBindingResult(request, "getReviewsByIdRequest");
+
+        getReviewsByIdRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals(1, errors.getErrorCount());
+        assertEquals("Each review ID must be in the format 'restaurantId:accountId'.", errors.getFieldError().getDefaultMessage());
+    }
+}
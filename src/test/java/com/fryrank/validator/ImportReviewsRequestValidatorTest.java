@@ -0,0 +1,77 @@
+package com.fryrank.validator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import com.fryrank.model.ImportReviewsRequest;
+import com.fryrank.model.Review;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.fryrank.Constants.MAX_IMPORT_REVIEWS_PER_REQUEST;
+import static com.fryrank.TestConstants.TEST_REVIEW_1;
+import static com.fryrank.TestConstants.TEST_REVIEW_NULL_ACCOUNT_ID;
+
+public class ImportReviewsRequestValidatorTest {
+
+    private final ImportReviewsRequestValidator importReviewsRequestValidator = new ImportReviewsRequestValidator();
+
+    @Test
+    public void testValidate_WithValidReviews_NoErrors() {
+        ImportReviewsRequest request = new ImportReviewsRequest(List.of(TEST_REVIEW_1));
+        Errors errors = new BeanPropertyBindingResult(request, "importReviewsRequest");
+
+        importReviewsRequestValidator.validate(request, errors);
+
+        assertFalse(errors.hasErrors());
+    }
+
+    @Test
+    public void testValidate_WithNoReviews_AddsError() {
+        ImportReviewsRequest request = new ImportReviewsRequest(null);
+        Errors errors = new BeanPropertyBindingResult(request, "importReviewsRequest");
+
+        importReviewsRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals("reviews", errors.getFieldError().getField());
+        assertEquals("At least one review is required.", errors.getFieldError().getDefaultMessage());
+    }
+
+    @Test
+    public void testValidate_WithTooManyReviews_AddsError() {
+        ImportReviewsRequest request = new ImportReviewsRequest(Collections.nCopies(MAX_IMPORT_REVIEWS_PER_REQUEST + 1, TEST_REVIEW_1));
+        Errors errors = new BeanPropertyBindingResult(request, "importReviewsRequest");
+
+        importReviewsRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals(ImportReviewsRequestValidator.REVIEWS_REJECTION_TOO_MANY_REASON, errors.getFieldError().getDefaultMessage());
+    }
+
+    @Test
+    public void testValidate_WithInvalidReview_AddsErrorNamingIndex() {
+        ImportReviewsRequest request = new ImportReviewsRequest(List.of(TEST_REVIEW_1, TEST_REVIEW_NULL_ACCOUNT_ID));
+        Errors errors = new BeanPropertyBindingResult(request, "importReviewsRequest");
+
+        importReviewsRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals("Review at index 1 is invalid: The account ID is required.", errors.getFieldError().getDefaultMessage());
+    }
+
+    @Test
+    public void testValidate_WithDuplicateReview_AddsError() {
+        Review duplicate = TEST_REVIEW_1.toBuilder().score(1.0).build();
+        ImportReviewsRequest request = new ImportReviewsRequest(List.of(TEST_REVIEW_1, duplicate));
+        Errors errors = new BeanPropertyBindingResult(request, "importReviewsRequest");
+
+        importReviewsRequestValidator.validate(request, errors);
+
+        assertTrue(errors.hasErrors());
+        assertEquals(String.format(ImportReviewsRequestValidator.REVIEWS_REJECTION_DUPLICATE_FORMAT, 1), errors.getFieldError().getDefaultMessage());
+    }
+}
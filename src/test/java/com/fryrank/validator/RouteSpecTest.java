@@ -0,0 +1,422 @@
+package com.fryrank.validator;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.fryrank.handler.AddNewReviewForRestaurantHandler;
+import com.fryrank.handler.GetAggregateReviewInformationHandler;
+import com.fryrank.handler.GetAllReviewsHandler;
+import com.fryrank.handler.GetRecentReviewsHandler;
+import com.fryrank.handler.GetRestaurantLeaderboardHandler;
+import com.fryrank.handler.GetTrendingRestaurantsHandler;
+import com.fryrank.model.RequestParams;
+import com.fryrank.model.enums.QueryParam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.fryrank.TestConstants.RESTAURANT_ID_ACCOUNT_ID_REQUIRED_PARAMETERS_ERROR_STRING;
+import static com.fryrank.validator.RouteSpec.AT_LEAST_ONE_PARAM_REQUIRED_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.INVALID_TIME_RANGE_ERROR_MESSAGE;
+import static com.fryrank.validator.RouteSpec.SINCE_WITH_RANGE_ERROR_MESSAGE;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAMS_REQUIRED_ERROR_MESSAGE;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAM_INVALID_INTEGER_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAM_INVALID_ISO_DATE_TIME_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAM_MISSING_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAM_NO_IDS_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.QUERY_PARAM_TOO_MANY_IDS_ERROR_FORMAT;
+import static com.fryrank.validator.RouteSpec.REQUEST_BODY_REQUIRED_ERROR_MESSAGE;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static com.fryrank.Constants.MAX_AGGREGATE_RESTAURANT_IDS;
+import static com.fryrank.Constants.MAX_FEED_REVIEW_COUNT;
+import static com.fryrank.Constants.MAX_LEADERBOARD_PAGE_SIZE;
+import static com.fryrank.Constants.MAX_RECENT_REVIEW_COUNT;
+import static com.fryrank.Constants.MAX_TRENDING_WINDOW_DAYS;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class RouteSpecTest {
+
+    private APIGatewayV2HTTPEvent event;
+
+    @BeforeEach
+    void setUp() {
+        event = new APIGatewayV2HTTPEvent();
+    }
+
+    @Test
+    void parse_AddNewReviewHandler_WithValidBody_Succeeds() {
+        // Arrange
+        event.setBody("{ \"valid\": \"json\" }");
+
+        // Act & Assert
+        assertDoesNotThrow(() -> 
+            AddNewReviewForRestaurantHandler.ROUTE.parse(event)
+        );
+    }
+
+    @Test
+    void parse_AddNewReviewHandler_WithNullBody_ThrowsException() {
+        // Arrange
+        event.setBody(null);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            AddNewReviewForRestaurantHandler.ROUTE.parse(event)
+        );
+        assertTrue(exception.getMessage().contains(REQUEST_BODY_REQUIRED_ERROR_MESSAGE));
+    }
+
+    @Test
+    void parse_AddNewReviewHandler_WithEmptyBody_ThrowsException() {
+        // Arrange
+        event.setBody("");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            AddNewReviewForRestaurantHandler.ROUTE.parse(event)
+        );
+        assertTrue(exception.getMessage().contains(REQUEST_BODY_REQUIRED_ERROR_MESSAGE));
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_WithValidParams_Succeeds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.IDS.getValue(), "1,2,3");
+        queryParams.put(QueryParam.INCLUDE_RATING.getValue(), "true");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        assertDoesNotThrow(() ->
+            GetAggregateReviewInformationHandler.ROUTE.parse(event)
+        );
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_WithMissingParams_ThrowsException() {
+        // Arrange
+        event.setQueryStringParameters(null);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAggregateReviewInformationHandler.ROUTE.parse(event)
+        );
+        assertTrue(exception.getMessage().contains(QUERY_PARAMS_REQUIRED_ERROR_MESSAGE));
+    }
+
+    @Test
+    void parse_GetRecentReviewsHandler_WithValidParams_Succeeds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.COUNT.getValue(), "5");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        assertDoesNotThrow(() ->
+            GetRecentReviewsHandler.ROUTE.parse(event)
+        );
+    }
+
+    @Test
+    void parse_GetRecentReviewsHandler_WithInvalidSince_ThrowsException() {
+        // Arrange
+        Map<String, String> params = new HashMap<>();
+        params.put(QueryParam.COUNT.getValue(), "10");
+        params.put(QueryParam.SINCE.getValue(), "yesterday");
+        event.setQueryStringParameters(params);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetRecentReviewsHandler.ROUTE.parse(event)
+        );
+        String expectedMessage = String.format(QUERY_PARAM_INVALID_ISO_DATE_TIME_ERROR_FORMAT, QueryParam.SINCE.getValue());
+        assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+
+    @Test
+    void parse_GetRecentReviewsHandler_WithMissingParams_ThrowsException() {
+        // Arrange
+        event.setQueryStringParameters(new HashMap<>());
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetRecentReviewsHandler.ROUTE.parse(event)
+        );
+        String expectedMessage = String.format(QUERY_PARAM_MISSING_ERROR_FORMAT, QueryParam.COUNT.getValue());
+        assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithOptionalParams_Succeeds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.RESTAURANT_ID.getValue(), "123");
+        queryParams.put(QueryParam.ACCOUNT_ID.getValue(), "456");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        assertDoesNotThrow(() ->
+            GetAllReviewsHandler.ROUTE.parse(event)
+        );
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithRestaurantIdParam_Succeeds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.RESTAURANT_ID.getValue(), "123");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        assertDoesNotThrow(() ->
+                GetAllReviewsHandler.ROUTE.parse(event)
+        );
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithAccountIdParam_Succeeds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.ACCOUNT_ID.getValue(), "456");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        assertDoesNotThrow(() ->
+                GetAllReviewsHandler.ROUTE.parse(event)
+        );
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithInvertedRange_ThrowsException() {
+        // Arrange
+        Map<String, String> params = new HashMap<>();
+        params.put(QueryParam.RESTAURANT_ID.getValue(), "restaurant");
+        params.put(QueryParam.FROM.getValue(), "2024-08-01T00:00:00Z");
+        params.put(QueryParam.TO.getValue(), "2024-07-01T00:00:00Z");
+        event.setQueryStringParameters(params);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAllReviewsHandler.ROUTE.parse(event)
+        );
+        assertTrue(exception.getMessage().contains(INVALID_TIME_RANGE_ERROR_MESSAGE));
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithSinceAndRange_ThrowsException() {
+        // Arrange
+        Map<String, String> params = new HashMap<>();
+        params.put(QueryParam.ACCOUNT_ID.getValue(), "account");
+        params.put(QueryParam.SINCE.getValue(), "2024-07-01T00:00:00Z");
+        params.put(QueryParam.TO.getValue(), "2024-08-01T00:00:00Z");
+        event.setQueryStringParameters(params);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAllReviewsHandler.ROUTE.parse(event)
+        );
+        assertTrue(exception.getMessage().contains(SINCE_WITH_RANGE_ERROR_MESSAGE));
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithNoParams_ThrowsException() {
+        // Arrange
+        event.setQueryStringParameters(new HashMap<>());
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAllReviewsHandler.ROUTE.parse(event)
+        );
+        String expectedMessage = String.format(AT_LEAST_ONE_PARAM_REQUIRED_ERROR_FORMAT, RESTAURANT_ID_ACCOUNT_ID_REQUIRED_PARAMETERS_ERROR_STRING);
+        assertTrue(exception.getMessage().contains(expectedMessage));
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_ReturnsTypedParams() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.IDS.getValue(), "1,2,3");
+        queryParams.put(QueryParam.INCLUDE_RATING.getValue(), "true");
+        event.setQueryStringParameters(queryParams);
+
+        // Act
+        RequestParams params = GetAggregateReviewInformationHandler.ROUTE.parse(event);
+
+        // Assert
+        assertEquals(List.of("1", "2", "3"), params.getIds(QueryParam.IDS));
+        assertTrue(params.getBoolean(QueryParam.INCLUDE_RATING));
+        assertFalse(params.getBoolean(QueryParam.INCLUDE_HISTOGRAM));
+    }
+
+    @Test
+    void parse_GetRecentReviewsHandler_WithOffsetSince_NormalizesToUtc() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.COUNT.getValue(), "10");
+        queryParams.put(QueryParam.SINCE.getValue(), "2024-07-01T02:30:00+02:00");
+        event.setQueryStringParameters(queryParams);
+
+        // Act
+        RequestParams params = GetRecentReviewsHandler.ROUTE.parse(event);
+
+        // Assert
+        assertEquals("2024-07-01T00:30:00Z", params.getTimeFilter().getSince());
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_WithTooManyIds_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.IDS.getValue(), IntStream.rangeClosed(0, MAX_AGGREGATE_RESTAURANT_IDS)
+            .mapToObj(i -> "id" + i)
+            .collect(Collectors.joining(",")));
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAggregateReviewInformationHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_TOO_MANY_IDS_ERROR_FORMAT, QueryParam.IDS.getValue(), MAX_AGGREGATE_RESTAURANT_IDS),
+            exception.getMessage());
+    }
+
+    @Test
+    void parse_GetRecentReviewsHandler_WithCountAboveMaximum_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.COUNT.getValue(), String.valueOf(MAX_RECENT_REVIEW_COUNT + 1));
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetRecentReviewsHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT, QueryParam.COUNT.getValue(), 1, MAX_RECENT_REVIEW_COUNT),
+            exception.getMessage());
+    }
+
+    @Test
+    void parse_GetRecentReviewsHandler_WithNonNumericCount_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.COUNT.getValue(), "ten");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetRecentReviewsHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_INVALID_INTEGER_ERROR_FORMAT, QueryParam.COUNT.getValue()), exception.getMessage());
+    }
+
+    @Test
+    void parse_GetRestaurantLeaderboardHandler_WithNoParams_ReturnsEmptyParams() {
+        // Arrange
+        event.setQueryStringParameters(null);
+
+        // Act
+        RequestParams params = GetRestaurantLeaderboardHandler.ROUTE.parse(event);
+
+        // Assert
+        assertNull(params.getInteger(QueryParam.COUNT));
+        assertNull(params.getString(QueryParam.PAGE_TOKEN));
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_TrimsAndDedupesIds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.IDS.getValue(), " 2,1, 2,,1 ");
+        event.setQueryStringParameters(queryParams);
+
+        // Act
+        RequestParams params = GetAggregateReviewInformationHandler.ROUTE.parse(event);
+
+        // Assert
+        assertEquals(List.of("2", "1"), params.getIds(QueryParam.IDS));
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_WithDuplicateIdsUpToMaximum_Succeeds() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.IDS.getValue(), String.join(",", Collections.nCopies(MAX_AGGREGATE_RESTAURANT_IDS + 1, "id")));
+        event.setQueryStringParameters(queryParams);
+
+        // Act
+        RequestParams params = GetAggregateReviewInformationHandler.ROUTE.parse(event);
+
+        // Assert
+        assertEquals(List.of("id"), params.getIds(QueryParam.IDS));
+    }
+
+    @Test
+    void parse_GetAggregateReviewHandler_WithOnlySeparators_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.IDS.getValue(), " , ,");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAggregateReviewInformationHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_NO_IDS_ERROR_FORMAT, QueryParam.IDS.getValue()), exception.getMessage());
+    }
+
+    @Test
+    void parse_GetRestaurantLeaderboardHandler_WithCountAboveMaximum_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.COUNT.getValue(), String.valueOf(MAX_LEADERBOARD_PAGE_SIZE + 1));
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetRestaurantLeaderboardHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT, QueryParam.COUNT.getValue(), 1, MAX_LEADERBOARD_PAGE_SIZE),
+            exception.getMessage());
+    }
+
+    @Test
+    void parse_GetTrendingRestaurantsHandler_WithWindowAboveMaximum_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.WINDOW_DAYS.getValue(), String.valueOf(MAX_TRENDING_WINDOW_DAYS + 1));
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetTrendingRestaurantsHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT, QueryParam.WINDOW_DAYS.getValue(), 1, MAX_TRENDING_WINDOW_DAYS),
+            exception.getMessage());
+    }
+
+    @Test
+    void parse_GetAllReviewsHandler_WithZeroFeedCount_ThrowsException() {
+        // Arrange
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(QueryParam.RESTAURANT_IDS.getValue(), "1,2");
+        queryParams.put(QueryParam.COUNT.getValue(), "0");
+        event.setQueryStringParameters(queryParams);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            GetAllReviewsHandler.ROUTE.parse(event)
+        );
+        assertEquals(String.format(QUERY_PARAM_OUT_OF_RANGE_ERROR_FORMAT, QueryParam.COUNT.getValue(), 1, MAX_FEED_REVIEW_COUNT),
+            exception.getMessage());
+    }
+}